@@ -0,0 +1,108 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.IntObserver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OperatorChainPerf {
+    @Param({"1", "1000", "1000000"})
+    public int count;
+
+    @Param({"1", "2", "4", "8"})
+    public int depth;
+
+    Observable<Integer> createChain;
+    Observable<Integer> arrayChain;
+    Observable<Integer> flatMapChain;
+    IntObservable intChain;
+
+    @Setup
+    public void setup() {
+        Integer[] items = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            items[i] = i;
+        }
+        Observable<Integer> created = Observable.create(emitter -> {
+            for (Integer item : items) {
+                emitter.onNext(item);
+            }
+            emitter.onComplete();
+        });
+        createChain = chain(created);
+        arrayChain = chain(Observable.fromArray(items));
+
+        Observable<Integer> inner = Observable.fromArray(1);
+        Observable<Integer> nested = Observable.fromArray(items);
+        for (int i = 0; i < depth; i++) {
+            nested = nested.flatMap(x -> inner);
+        }
+        flatMapChain = nested;
+
+        IntObservable ints = IntObservable.range(0, count);
+        for (int i = 0; i < depth; i++) {
+            ints = (i & 1) == 0 ? ints.map(x -> x + 1) : ints.filter(x -> x >= 0);
+        }
+        intChain = ints;
+    }
+
+    private Observable<Integer> chain(Observable<Integer> source) {
+        Observable<Integer> result = source;
+        for (int i = 0; i < depth; i++) {
+            result = (i & 1) == 0 ? result.map(x -> x + 1) : result.filter(x -> x >= 0);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void mapFilterCreate(Blackhole bh) {
+        createChain.subscribe(new PerfObserver<>(bh));
+    }
+
+    @Benchmark
+    public void mapFilterArray(Blackhole bh) {
+        arrayChain.subscribe(new PerfObserver<>(bh));
+    }
+
+    @Benchmark
+    public void flatMapDepth(Blackhole bh) {
+        flatMapChain.subscribe(new PerfObserver<>(bh));
+    }
+
+    @Benchmark
+    public void mapFilterInt(Blackhole bh) {
+        intChain.subscribe(new IntObserver() {
+            @Override
+            public void onNext(int item) {
+                bh.consume(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                bh.consume(t);
+            }
+
+            @Override
+            public void onComplete() {
+                bh.consume(true);
+            }
+        });
+    }
+}
@@ -0,0 +1,79 @@
+package com.javabruse.RxMaster;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelPerf {
+    @Param({"1", "2", "4", "8"})
+    public int rails;
+
+    @Param({"100", "10000"})
+    public int work;
+
+    ComputationScheduler scheduler;
+    Observable<Long> unordered;
+    Observable<Long> ordered;
+
+    static long burn(int value, int work) {
+        long x = value;
+        for (int i = 0; i < work; i++) {
+            x = x * 6364136223846793005L + 1442695040888963407L;
+        }
+        return x;
+    }
+
+    @Setup
+    public void setup() {
+        Integer[] items = new Integer[10_000];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = i;
+        }
+        scheduler = new ComputationScheduler(rails);
+        ParallelObservable<Long> mapped = Observable.fromArray(items)
+                .parallel(rails)
+                .runOn(scheduler)
+                .map(x -> burn(x, work));
+        unordered = mapped.sequential();
+        ordered = mapped.sequentialOrdered();
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void sequential(Blackhole bh) throws InterruptedException {
+        PerfObserver<Long> observer = new PerfObserver<>(bh);
+        unordered.subscribe(observer);
+        observer.await();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void sequentialOrdered(Blackhole bh) throws InterruptedException {
+        PerfObserver<Long> observer = new PerfObserver<>(bh);
+        ordered.subscribe(observer);
+        observer.await();
+    }
+}
@@ -0,0 +1,36 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+
+final class PerfObserver<T> implements Observer<T> {
+    private final Blackhole bh;
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    PerfObserver(Blackhole bh) {
+        this.bh = bh;
+    }
+
+    @Override
+    public void onNext(T item) {
+        bh.consume(item);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        bh.consume(t);
+        latch.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+        bh.consume(true);
+        latch.countDown();
+    }
+
+    void await() throws InterruptedException {
+        latch.await();
+    }
+}
@@ -0,0 +1,86 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Scheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SchedulerPerf {
+    @Param({"single", "computation", "io"})
+    public String scheduler;
+
+    @Param({"1", "1000", "1000000"})
+    public int count;
+
+    Scheduler instance;
+    Observable<Integer> observeOn;
+    Observable<Integer> subscribeOn;
+
+    static Scheduler scheduler(String name) {
+        return switch (name) {
+            case "single" -> new SingleThreadScheduler();
+            case "computation" -> new ComputationScheduler();
+            case "io" -> new IOThreadScheduler();
+            default -> throw new IllegalArgumentException(name);
+        };
+    }
+
+    @Setup
+    public void setup() {
+        Integer[] items = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            items[i] = i;
+        }
+        instance = scheduler(scheduler);
+        observeOn = Observable.fromArray(items).observeOn(instance);
+        subscribeOn = Observable.fromArray(items).subscribeOn(instance);
+    }
+
+    @TearDown
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void observeOnThroughput(Blackhole bh) throws InterruptedException {
+        PerfObserver<Integer> observer = new PerfObserver<>(bh);
+        observeOn.subscribe(observer);
+        observer.await();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void observeOnLatency(Blackhole bh) throws InterruptedException {
+        PerfObserver<Integer> observer = new PerfObserver<>(bh);
+        observeOn.subscribe(observer);
+        observer.await();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void subscribeOnThroughput(Blackhole bh) throws InterruptedException {
+        PerfObserver<Integer> observer = new PerfObserver<>(bh);
+        subscribeOn.subscribe(observer);
+        observer.await();
+    }
+}
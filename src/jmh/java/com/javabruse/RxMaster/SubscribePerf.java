@@ -0,0 +1,60 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SubscribePerf {
+    Observable<Integer> empty;
+    Observable<Integer> just;
+    Observable<Integer> chain;
+
+    @Setup
+    public void setup() {
+        empty = Observable.create(emitter -> emitter.onComplete());
+        just = Observable.create(emitter -> {
+            emitter.onNext(1);
+            emitter.onComplete();
+        });
+        chain = just.map(x -> x + 1).filter(x -> x > 0).map(x -> x * 2);
+    }
+
+    @Benchmark
+    public Disposable subscribeEmpty(Blackhole bh) {
+        return empty.subscribe(new PerfObserver<>(bh));
+    }
+
+    @Benchmark
+    public Disposable subscribeJust(Blackhole bh) {
+        return just.subscribe(new PerfObserver<>(bh));
+    }
+
+    @Benchmark
+    public Disposable subscribeChain(Blackhole bh) {
+        return chain.subscribe(new PerfObserver<>(bh));
+    }
+
+    @Benchmark
+    public boolean subscribeAndDispose(Blackhole bh) {
+        Disposable d = just.subscribe(new PerfObserver<>(bh));
+        d.dispose();
+        return d.isDisposed();
+    }
+}
@@ -8,8 +8,10 @@ import com.javabruse.RxMaster.interfaces.Disposable;
 import com.javabruse.RxMaster.interfaces.Observer;
 import com.javabruse.RxMaster.interfaces.Scheduler;
 
+import java.util.concurrent.CountDownLatch;
+
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws InterruptedException {
         filterAndMap();
         flatMap();
         subscribeOnAndBack();
@@ -74,8 +76,9 @@ public class Main {
                 });
     }
 
-    private static void subscribeOnAndBack() {
+    private static void subscribeOnAndBack() throws InterruptedException {
         Scheduler computation = new ComputationScheduler();
+        CountDownLatch done = new CountDownLatch(1);
 
         Observable<String> observable = Observable.create(emitter -> {
             System.out.println("Источник работает в потоке: " + Thread.currentThread().getName());
@@ -91,16 +94,21 @@ public class Main {
                     }
 
                     public void onError(Throwable t) {
+                        done.countDown();
                     }
 
                     public void onComplete() {
                         System.out.println("Готово");
+                        done.countDown();
                     }
                 });
+        done.await();
+        computation.shutdown();
     }
 
-    private static void andObserveOn() {
+    private static void andObserveOn() throws InterruptedException {
         Scheduler io = new IOThreadScheduler();
+        CountDownLatch done = new CountDownLatch(1);
 
         Observable<String> observable = Observable.create(emitter -> {
             emitter.onNext("Rx");
@@ -117,12 +125,16 @@ public class Main {
                     }
 
                     public void onError(Throwable t) {
+                        done.countDown();
                     }
 
                     public void onComplete() {
                         System.out.println("Завершено");
+                        done.countDown();
                     }
                 });
+        done.await();
+        io.shutdown();
     }
 
     private static void disposable() {
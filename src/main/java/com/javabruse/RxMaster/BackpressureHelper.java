@@ -0,0 +1,41 @@
+package com.javabruse.RxMaster;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+final class BackpressureHelper {
+    private BackpressureHelper() {
+    }
+
+    static long addCap(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    static long add(AtomicLong requested, long n) {
+        for (;;) {
+            long current = requested.get();
+            if (current == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            if (requested.compareAndSet(current, addCap(current, n))) {
+                return current;
+            }
+        }
+    }
+
+    static long produced(AtomicLong requested, long n) {
+        for (;;) {
+            long current = requested.get();
+            if (current == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            long next = current - n;
+            if (next < 0) {
+                throw new IllegalStateException("More produced than requested: " + next);
+            }
+            if (requested.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+}
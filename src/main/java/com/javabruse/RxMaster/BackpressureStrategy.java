@@ -0,0 +1,8 @@
+package com.javabruse.RxMaster;
+
+public enum BackpressureStrategy {
+    BUFFER,
+    DROP,
+    LATEST,
+    ERROR
+}
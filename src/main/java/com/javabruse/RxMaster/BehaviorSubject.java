@@ -0,0 +1,238 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class BehaviorSubject<T> extends Subject<T> {
+    private static final BehaviorDisposable<?>[] EMPTY = new BehaviorDisposable<?>[0];
+    private static final BehaviorDisposable<?>[] TERMINATED = new BehaviorDisposable<?>[0];
+
+    private final AtomicReference<BehaviorDisposable<?>[]> subscribers = new AtomicReference<>(EMPTY);
+    private final Object lock = new Object();
+    private volatile Object value;
+    private long index;
+
+    private BehaviorSubject(Object initial) {
+        this.value = initial;
+    }
+
+    public static <T> BehaviorSubject<T> create() {
+        return new BehaviorSubject<>(null);
+    }
+
+    public static <T> BehaviorSubject<T> createDefault(T initial) {
+        return new BehaviorSubject<>(Objects.requireNonNull(initial, "initial is null"));
+    }
+
+    @Override
+    void subscribeActual(Observer<T> observer) {
+        BehaviorDisposable<T> bd = new BehaviorDisposable<>(observer, this);
+        observer.onSubscribe(bd);
+        if (add(bd)) {
+            if (bd.cancelled) {
+                remove(bd);
+            } else {
+                bd.emitFirst();
+            }
+        } else {
+            NotificationLite.accept(value, observer);
+        }
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        if (subscribers.get() == TERMINATED) {
+            d.dispose();
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        Objects.requireNonNull(item, "item is null");
+        if (subscribers.get() == TERMINATED) return;
+        long stateIndex = setCurrent(item);
+        for (BehaviorDisposable<?> bd : subscribers.get()) {
+            bd.emitNext(item, stateIndex);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        terminate(NotificationLite.error(t));
+    }
+
+    @Override
+    public void onComplete() {
+        terminate(NotificationLite.complete());
+    }
+
+    private void terminate(Object notification) {
+        if (subscribers.get() == TERMINATED) return;
+        long stateIndex = setCurrent(notification);
+        for (BehaviorDisposable<?> bd : subscribers.getAndSet(TERMINATED)) {
+            bd.emitNext(notification, stateIndex);
+        }
+    }
+
+    private long setCurrent(Object o) {
+        synchronized (lock) {
+            value = o;
+            return ++index;
+        }
+    }
+
+    @Override
+    public boolean hasObservers() {
+        return subscribers.get().length != 0;
+    }
+
+    public boolean hasValue() {
+        Object o = value;
+        return o != null && !NotificationLite.isTerminal(o);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getValue() {
+        Object o = value;
+        return o == null || NotificationLite.isTerminal(o) ? null : (T) o;
+    }
+
+    private boolean add(BehaviorDisposable<T> bd) {
+        for (;;) {
+            BehaviorDisposable<?>[] current = subscribers.get();
+            if (current == TERMINATED) {
+                return false;
+            }
+            int n = current.length;
+            BehaviorDisposable<?>[] next = new BehaviorDisposable<?>[n + 1];
+            System.arraycopy(current, 0, next, 0, n);
+            next[n] = bd;
+            if (subscribers.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    private void remove(BehaviorDisposable<?> bd) {
+        for (;;) {
+            BehaviorDisposable<?>[] current = subscribers.get();
+            if (current == TERMINATED || current == EMPTY) {
+                return;
+            }
+            int n = current.length;
+            int index = -1;
+            for (int i = 0; i < n; i++) {
+                if (current[i] == bd) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) return;
+            BehaviorDisposable<?>[] next;
+            if (n == 1) {
+                next = EMPTY;
+            } else {
+                next = new BehaviorDisposable<?>[n - 1];
+                System.arraycopy(current, 0, next, 0, index);
+                System.arraycopy(current, index + 1, next, index, n - index - 1);
+            }
+            if (subscribers.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    static final class BehaviorDisposable<T> implements Disposable {
+        private final Observer<T> downstream;
+        private final BehaviorSubject<T> state;
+
+        volatile boolean cancelled;
+        private boolean next;
+        private boolean emitting;
+        private boolean fastPath;
+        private List<Object> queue;
+        private long index;
+
+        BehaviorDisposable(Observer<T> downstream, BehaviorSubject<T> state) {
+            this.downstream = downstream;
+            this.state = state;
+        }
+
+        void emitFirst() {
+            if (cancelled) return;
+            Object o;
+            synchronized (this) {
+                if (cancelled || next) return;
+                synchronized (state.lock) {
+                    index = state.index;
+                    o = state.value;
+                }
+                emitting = o != null;
+                next = true;
+            }
+            if (o != null) {
+                if (test(o)) return;
+                emitLoop();
+            }
+        }
+
+        void emitNext(Object value, long stateIndex) {
+            if (cancelled) return;
+            if (!fastPath) {
+                synchronized (this) {
+                    if (cancelled || index == stateIndex) return;
+                    if (emitting) {
+                        if (queue == null) {
+                            queue = new ArrayList<>(4);
+                        }
+                        queue.add(value);
+                        return;
+                    }
+                    next = true;
+                }
+                fastPath = true;
+            }
+            test(value);
+        }
+
+        private boolean test(Object o) {
+            return cancelled || NotificationLite.accept(o, downstream);
+        }
+
+        private void emitLoop() {
+            for (;;) {
+                if (cancelled) return;
+                List<Object> q;
+                synchronized (this) {
+                    q = queue;
+                    if (q == null) {
+                        emitting = false;
+                        return;
+                    }
+                    queue = null;
+                }
+                for (Object o : q) {
+                    if (test(o)) return;
+                }
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!cancelled) {
+                cancelled = true;
+                state.remove(this);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return cancelled;
+        }
+    }
+}
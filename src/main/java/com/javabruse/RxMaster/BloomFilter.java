@@ -0,0 +1,47 @@
+package com.javabruse.RxMaster;
+
+final class BloomFilter {
+    private final long[] words;
+    private final long bits;
+    private final int hashes;
+
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) throw new IllegalArgumentException("expectedInsertions > 0 required");
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("0 < falsePositiveRate < 1 required");
+        }
+        double ln2 = Math.log(2);
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        m = Math.max(64, (m + 63) & ~63L);
+        this.words = new long[Math.toIntExact(m >>> 6)];
+        this.bits = m;
+        this.hashes = Math.max(1, (int) Math.round((double) m / expectedInsertions * ln2));
+    }
+
+    static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    boolean add(Object key) {
+        long h = fmix64(key.hashCode());
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32);
+        boolean added = false;
+        for (int i = 1; i <= hashes; i++) {
+            int combined = h1 + i * h2;
+            long index = (combined & 0xFFFFFFFFL) % bits;
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                added = true;
+            }
+        }
+        return added;
+    }
+}
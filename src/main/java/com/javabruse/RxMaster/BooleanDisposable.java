@@ -0,0 +1,17 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+
+final class BooleanDisposable implements Disposable {
+    private volatile boolean disposed;
+
+    @Override
+    public void dispose() {
+        disposed = true;
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
@@ -0,0 +1,150 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class CircuitBreaker {
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    static final int REJECTED = -1;
+    static final int PERMITTED = 0;
+    static final int TRIAL = 1;
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final Scheduler clock;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger failures = new AtomicInteger();
+    private volatile long openedAt;
+
+    public CircuitBreaker(int failureThreshold, long openDuration, TimeUnit unit) {
+        this(failureThreshold, openDuration, unit, Schedulers.trampoline());
+    }
+
+    public CircuitBreaker(int failureThreshold, long openDuration, TimeUnit unit, Scheduler clock) {
+        if (failureThreshold <= 0) throw new IllegalArgumentException("failureThreshold > 0 required");
+        if (openDuration <= 0) throw new IllegalArgumentException("openDuration > 0 required");
+        this.failureThreshold = failureThreshold;
+        this.openNanos = unit.toNanos(openDuration);
+        this.clock = clock;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public int getFailures() {
+        return failures.get();
+    }
+
+    public void reset() {
+        failures.set(0);
+        state.set(State.CLOSED);
+    }
+
+    int acquire() {
+        State s = state.get();
+        if (s == State.CLOSED) {
+            return PERMITTED;
+        }
+        if (s == State.OPEN && clock.now(TimeUnit.NANOSECONDS) - openedAt >= openNanos
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            return TRIAL;
+        }
+        return REJECTED;
+    }
+
+    void onSuccess(int permit) {
+        failures.set(0);
+        if (permit == TRIAL) {
+            state.compareAndSet(State.HALF_OPEN, State.CLOSED);
+        }
+    }
+
+    void onFailure(int permit) {
+        if (permit == TRIAL) {
+            open(State.HALF_OPEN);
+        } else if (failures.incrementAndGet() >= failureThreshold) {
+            open(State.CLOSED);
+        }
+    }
+
+    void onCancel(int permit) {
+        if (permit == TRIAL) {
+            state.compareAndSet(State.HALF_OPEN, State.OPEN);
+        }
+    }
+
+    private void open(State expected) {
+        long now = clock.now(TimeUnit.NANOSECONDS);
+        if (state.get() == expected) {
+            openedAt = now;
+            state.compareAndSet(expected, State.OPEN);
+        }
+    }
+
+    static final class BreakerObserver<T> extends AtomicBoolean implements Observer<T>, Disposable {
+        private final Observer<T> downstream;
+        private final CircuitBreaker breaker;
+        private final int permit;
+        private Disposable upstream;
+
+        BreakerObserver(Observer<T> downstream, CircuitBreaker breaker, int permit) {
+            this.downstream = downstream;
+            this.breaker = breaker;
+            this.permit = permit;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            downstream.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (compareAndSet(false, true)) {
+                breaker.onFailure(permit);
+            }
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (compareAndSet(false, true)) {
+                breaker.onSuccess(permit);
+            }
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            if (compareAndSet(false, true)) {
+                breaker.onCancel(permit);
+            }
+            Disposable d = upstream;
+            if (d != null) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            Disposable d = upstream;
+            return d != null && d.isDisposed();
+        }
+    }
+}
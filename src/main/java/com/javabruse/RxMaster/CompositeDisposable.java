@@ -0,0 +1,103 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+
+import java.util.Objects;
+
+public final class CompositeDisposable implements Disposable {
+    private volatile OpenHashSet<Disposable> resources;
+    private volatile boolean disposed;
+
+    public CompositeDisposable() {
+    }
+
+    public CompositeDisposable(Disposable... disposables) {
+        OpenHashSet<Disposable> set = new OpenHashSet<>(disposables.length + 1);
+        for (Disposable d : disposables) {
+            set.add(Objects.requireNonNull(d, "disposable is null"));
+        }
+        this.resources = set;
+    }
+
+    public boolean add(Disposable d) {
+        Objects.requireNonNull(d, "disposable is null");
+        if (!disposed) {
+            OpenHashSet<Disposable> set = resources();
+            set.add(d);
+            if (!disposed) {
+                return true;
+            }
+            if (set.remove(d)) {
+                d.dispose();
+            }
+            return false;
+        }
+        d.dispose();
+        return false;
+    }
+
+    public boolean remove(Disposable d) {
+        if (delete(d)) {
+            d.dispose();
+            return true;
+        }
+        return false;
+    }
+
+    public boolean delete(Disposable d) {
+        Objects.requireNonNull(d, "disposable is null");
+        OpenHashSet<Disposable> set = resources;
+        return set != null && set.remove(d);
+    }
+
+    public int size() {
+        OpenHashSet<Disposable> set = resources;
+        return set != null ? set.size() : 0;
+    }
+
+    public void clear() {
+        OpenHashSet<Disposable> set = resources;
+        if (set != null) {
+            drain(set);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        disposed = true;
+        OpenHashSet<Disposable> set = resources;
+        if (set != null) {
+            drain(set);
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    private OpenHashSet<Disposable> resources() {
+        OpenHashSet<Disposable> set = resources;
+        if (set == null) {
+            synchronized (this) {
+                set = resources;
+                if (set == null) {
+                    set = new OpenHashSet<>();
+                    resources = set;
+                }
+            }
+        }
+        return set;
+    }
+
+    private static void drain(OpenHashSet<Disposable> set) {
+        set.forEach(d -> {
+            if (set.remove(d)) {
+                d.dispose();
+            }
+        });
+    }
+}
@@ -1,17 +1,172 @@
 package com.javabruse.RxMaster;
 
+import com.javabruse.RxMaster.interfaces.Disposable;
 import com.javabruse.RxMaster.interfaces.Scheduler;
+import com.javabruse.RxMaster.interfaces.Worker;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ComputationScheduler implements Scheduler {
-    private final ExecutorService executor = Executors.newFixedThreadPool(
-            Runtime.getRuntime().availableProcessors()
-    );
+    private final EventLoop[] loops;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile boolean shutdown;
+
+    public ComputationScheduler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ComputationScheduler(int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism > 0 required");
+        RxThreadFactory threadFactory = new RxThreadFactory("RxComputation-");
+        loops = new EventLoop[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            loops[i] = new EventLoop(this, i, threadFactory);
+        }
+        for (EventLoop loop : loops) {
+            loop.start();
+        }
+    }
+
+    private EventLoop nextLoop() {
+        return loops[Math.floorMod(next.getAndIncrement(), loops.length)];
+    }
 
     @Override
     public void execute(Runnable task) {
-        executor.submit(task);
+        if (shutdown) throw new RejectedExecutionException("ComputationScheduler is shut down");
+        if (!nextLoop().submitShared(RxPlugins.onSchedule(task))) {
+            for (EventLoop loop : loops) {
+                if (loop.isSleeping()) {
+                    loop.wakeUp();
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public Worker createWorker() {
+        return new EventLoopWorker(nextLoop());
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        for (EventLoop loop : loops) {
+            loop.shutdown();
+        }
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    Runnable steal(int thief) {
+        int n = loops.length;
+        for (int i = 1; i < n; i++) {
+            Runnable task = loops[(thief + i) % n].steal();
+            if (task != null) {
+                return task;
+            }
+        }
+        return null;
+    }
+
+    boolean hasStealable(int thief) {
+        int n = loops.length;
+        for (int i = 1; i < n; i++) {
+            if (loops[(thief + i) % n].hasStealable()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static final class EventLoopWorker implements Worker {
+        private final EventLoop loop;
+        private final CompositeDisposable timed = new CompositeDisposable();
+        private volatile boolean disposed;
+
+        EventLoopWorker(EventLoop loop) {
+            this.loop = loop;
+        }
+
+        @Override
+        public Disposable schedule(Runnable task) {
+            return enqueue(RxPlugins.onSchedule(task));
+        }
+
+        private Disposable enqueue(Runnable task) {
+            if (disposed) {
+                return Disposables.disposed();
+            }
+            PinnedTask pinnedTask = new PinnedTask(this, task);
+            loop.submitPinned(pinnedTask);
+            return pinnedTask;
+        }
+
+        @Override
+        public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+            if (delay <= 0) {
+                return schedule(task);
+            }
+            if (disposed) {
+                return Disposables.disposed();
+            }
+            return SchedulerTimer.schedule(this::enqueue, RxPlugins.onSchedule(task), delay, unit, timed);
+        }
+
+        @Override
+        public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+            if (disposed) {
+                return Disposables.disposed();
+            }
+            return SchedulerTimer.schedulePeriodically(this::enqueue, RxPlugins.onSchedule(task), initialDelay, period, unit, timed);
+        }
+
+        @Override
+        public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            timed.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+
+    static final class PinnedTask implements Runnable, Disposable {
+        private final EventLoopWorker worker;
+        private final Runnable task;
+        private volatile boolean disposed;
+
+        PinnedTask(EventLoopWorker worker, Runnable task) {
+            this.worker = worker;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            if (disposed || worker.disposed) return;
+            try {
+                task.run();
+            } finally {
+                disposed = true;
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
     }
-}
\ No newline at end of file
+}
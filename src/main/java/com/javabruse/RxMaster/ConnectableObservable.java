@@ -0,0 +1,22 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+
+import java.util.function.Consumer;
+
+public abstract class ConnectableObservable<T> extends Observable<T> {
+
+    ConnectableObservable() {
+    }
+
+    public Disposable connect() {
+        return connect(connection -> {
+        });
+    }
+
+    abstract Disposable connect(Consumer<Disposable> connection);
+
+    public Observable<T> refCount() {
+        return new ObservableRefCount<>(this);
+    }
+}
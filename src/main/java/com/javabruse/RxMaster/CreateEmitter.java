@@ -0,0 +1,97 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Cancellable;
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.ObservableEmitter;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+final class CreateEmitter<T> implements ObservableEmitter<T>, Disposable {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<CreateEmitter, Disposable> RESOURCE =
+            AtomicReferenceFieldUpdater.newUpdater(CreateEmitter.class, Disposable.class, "resource");
+
+    private final Observer<T> downstream;
+    private volatile Disposable resource;
+
+    CreateEmitter(Observer<T> downstream) {
+        this.downstream = downstream;
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (resource != DisposableHelper.DISPOSED) {
+            downstream.onNext(item);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (DisposableHelper.dispose(RESOURCE, this)) {
+            downstream.onError(t);
+        } else {
+            RxPlugins.onError(t);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (DisposableHelper.dispose(RESOURCE, this)) {
+            downstream.onComplete();
+        }
+    }
+
+    @Override
+    public void setDisposable(Disposable d) {
+        DisposableHelper.set(RESOURCE, this, d);
+    }
+
+    @Override
+    public void setCancellable(Cancellable c) {
+        setDisposable(Disposables.fromCancellable(c));
+    }
+
+    ObservableEmitter<T> serialize() {
+        return new SerializedEmitter<>(this);
+    }
+
+    @Override
+    public void dispose() {
+        DisposableHelper.dispose(RESOURCE, this);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return resource == DisposableHelper.DISPOSED;
+    }
+
+    static final class SerializedEmitter<T> extends SerializedObserver<T> implements ObservableEmitter<T> {
+        private final CreateEmitter<T> parent;
+
+        SerializedEmitter(CreateEmitter<T> parent) {
+            super(parent);
+            this.parent = parent;
+        }
+
+        @Override
+        boolean isCancelled() {
+            return parent.isDisposed();
+        }
+
+        @Override
+        public void setDisposable(Disposable d) {
+            parent.setDisposable(d);
+        }
+
+        @Override
+        public void setCancellable(Cancellable c) {
+            parent.setCancellable(c);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return parent.isDisposed();
+        }
+    }
+}
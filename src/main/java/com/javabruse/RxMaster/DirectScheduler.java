@@ -0,0 +1,5 @@
+package com.javabruse.RxMaster;
+
+interface DirectScheduler {
+    void executeDirect(Runnable task);
+}
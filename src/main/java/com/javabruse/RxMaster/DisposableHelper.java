@@ -0,0 +1,100 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+enum DisposableHelper implements Disposable {
+    DISPOSED;
+
+    @Override
+    public void dispose() {
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return true;
+    }
+
+    static <O> boolean setOnce(AtomicReferenceFieldUpdater<O, Disposable> updater, O owner, Disposable d) {
+        if (!updater.compareAndSet(owner, null, d)) {
+            d.dispose();
+            return false;
+        }
+        return true;
+    }
+
+    static <O> boolean set(AtomicReferenceFieldUpdater<O, Disposable> updater, O owner, Disposable d) {
+        for (;;) {
+            Disposable current = updater.get(owner);
+            if (current == DISPOSED) {
+                if (d != null) {
+                    d.dispose();
+                }
+                return false;
+            }
+            if (updater.compareAndSet(owner, current, d)) {
+                if (current != null) {
+                    current.dispose();
+                }
+                return true;
+            }
+        }
+    }
+
+    static <O> boolean replace(AtomicReferenceFieldUpdater<O, Disposable> updater, O owner, Disposable d) {
+        for (;;) {
+            Disposable current = updater.get(owner);
+            if (current == DISPOSED) {
+                if (d != null) {
+                    d.dispose();
+                }
+                return false;
+            }
+            if (updater.compareAndSet(owner, current, d)) {
+                return true;
+            }
+        }
+    }
+
+    static <O> boolean dispose(AtomicReferenceFieldUpdater<O, Disposable> updater, O owner) {
+        Disposable current = updater.get(owner);
+        if (current != DISPOSED) {
+            current = updater.getAndSet(owner, DISPOSED);
+            if (current != DISPOSED) {
+                if (current != null) {
+                    current.dispose();
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean setOnce(AtomicReference<Disposable> field, Disposable d) {
+        if (!field.compareAndSet(null, d)) {
+            d.dispose();
+            return false;
+        }
+        return true;
+    }
+
+    static boolean dispose(AtomicReference<Disposable> field) {
+        Disposable current = field.get();
+        if (current != DISPOSED) {
+            current = field.getAndSet(DISPOSED);
+            if (current != DISPOSED) {
+                if (current != null) {
+                    current.dispose();
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isDisposed(Disposable d) {
+        return d == DISPOSED;
+    }
+}
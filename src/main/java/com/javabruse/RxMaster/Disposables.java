@@ -0,0 +1,48 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Cancellable;
+import com.javabruse.RxMaster.interfaces.Disposable;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class Disposables {
+    private static final Disposable DISPOSED = new Disposable() {
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return true;
+        }
+    };
+
+    private Disposables() {
+    }
+
+    public static Disposable disposed() {
+        return DISPOSED;
+    }
+
+    public static Disposable fromCancellable(Cancellable cancellable) {
+        AtomicReference<Cancellable> ref = new AtomicReference<>(cancellable);
+        return new Disposable() {
+            @Override
+            public void dispose() {
+                Cancellable c = ref.getAndSet(null);
+                if (c != null) {
+                    try {
+                        c.cancel();
+                    } catch (Throwable t) {
+                        RxPlugins.onError(t);
+                    }
+                }
+            }
+
+            @Override
+            public boolean isDisposed() {
+                return ref.get() == null;
+            }
+        };
+    }
+}
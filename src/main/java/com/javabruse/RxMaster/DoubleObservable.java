@@ -0,0 +1,281 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.DoubleObserver;
+import com.javabruse.RxMaster.interfaces.LongObserver;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+
+public class DoubleObservable {
+
+    public interface OnSubscribe {
+        void subscribe(DoubleObserver observer);
+    }
+
+    public final OnSubscribe onSubscribe;
+
+    public DoubleObservable(OnSubscribe onSubscribe) {
+        this.onSubscribe = onSubscribe;
+    }
+
+    public static DoubleObservable create(OnSubscribe source) {
+        return new DoubleObservable(source);
+    }
+
+    public static DoubleObservable of(double... values) {
+        return DoubleObservable.create(observer -> {
+            BooleanDisposable d = new BooleanDisposable();
+            observer.onSubscribe(d);
+            for (double value : values) {
+                if (d.isDisposed()) return;
+                observer.onNext(value);
+            }
+            if (!d.isDisposed()) {
+                observer.onComplete();
+            }
+        });
+    }
+
+    public Disposable subscribe(DoubleObserver observer) {
+        SafeDoubleObserver safeObserver = new SafeDoubleObserver(observer);
+        onSubscribe.subscribe(safeObserver);
+        return safeObserver;
+    }
+
+    public DoubleObservable map(DoubleUnaryOperator mapper) {
+        return DoubleObservable.create(observer -> onSubscribe.subscribe(new MapObserver(observer, mapper)));
+    }
+
+    public DoubleObservable filter(DoublePredicate predicate) {
+        return DoubleObservable.create(observer -> onSubscribe.subscribe(new FilterObserver(observer, predicate)));
+    }
+
+    public <R> Observable<R> mapToObj(DoubleFunction<R> mapper) {
+        return Observable.unsafeCreate(observer -> onSubscribe.subscribe(new MapToObjObserver<>(observer, mapper)));
+    }
+
+    public Observable<Double> boxed() {
+        return mapToObj(Double::valueOf);
+    }
+
+    public DoubleObservable sum() {
+        return DoubleObservable.create(observer -> onSubscribe.subscribe(new SumObserver(observer)));
+    }
+
+    public DoubleObservable min() {
+        return reduce(true);
+    }
+
+    public DoubleObservable max() {
+        return reduce(false);
+    }
+
+    private DoubleObservable reduce(boolean min) {
+        return DoubleObservable.create(observer -> onSubscribe.subscribe(new MinMaxObserver(observer, min)));
+    }
+
+    public LongObservable count() {
+        return LongObservable.create(observer -> onSubscribe.subscribe(new CountObserver(observer)));
+    }
+
+    public DoubleObservable average() {
+        return DoubleObservable.create(observer -> onSubscribe.subscribe(new AverageObserver(observer)));
+    }
+
+    static final class MapObserver extends PrimitiveStage<DoubleObserver> implements DoubleObserver {
+        private final DoubleUnaryOperator mapper;
+
+        MapObserver(DoubleObserver downstream, DoubleUnaryOperator mapper) {
+            super(downstream);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onNext(double item) {
+            if (done) return;
+            double mapped;
+            try {
+                mapped = mapper.applyAsDouble(item);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+    }
+
+    static final class FilterObserver extends PrimitiveStage<DoubleObserver> implements DoubleObserver {
+        private final DoublePredicate predicate;
+
+        FilterObserver(DoubleObserver downstream, DoublePredicate predicate) {
+            super(downstream);
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void onNext(double item) {
+            if (done) return;
+            boolean pass;
+            try {
+                pass = predicate.test(item);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            if (pass) {
+                downstream.onNext(item);
+            }
+        }
+    }
+
+    static final class MapToObjObserver<R> extends PrimitiveStage<Observer<R>> implements DoubleObserver {
+        private final DoubleFunction<R> mapper;
+
+        MapToObjObserver(Observer<R> downstream, DoubleFunction<R> mapper) {
+            super(downstream);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onNext(double item) {
+            if (done) return;
+            R mapped;
+            try {
+                mapped = mapper.apply(item);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+    }
+
+    static final class MinMaxObserver extends PrimitiveStage.Aggregate<DoubleObserver> implements DoubleObserver {
+        private final boolean min;
+        private boolean hasValue;
+        private double value;
+
+        MinMaxObserver(DoubleObserver downstream, boolean min) {
+            super(downstream);
+            this.min = min;
+        }
+
+        @Override
+        public void onNext(double item) {
+            if (done) return;
+            if (!hasValue) {
+                hasValue = true;
+                value = item;
+            } else {
+                value = min ? Math.min(value, item) : Math.max(value, item);
+            }
+        }
+
+        @Override
+        void emitResult() {
+            if (hasValue) {
+                downstream.onNext(value);
+            }
+        }
+    }
+
+    static final class SumObserver extends PrimitiveStage.Aggregate<DoubleObserver> implements DoubleObserver {
+        private double sum;
+
+        SumObserver(DoubleObserver downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(double item) {
+            if (done) return;
+            sum += item;
+        }
+
+        @Override
+        void emitResult() {
+            downstream.onNext(sum);
+        }
+    }
+
+    static final class CountObserver extends PrimitiveStage.Aggregate<LongObserver> implements DoubleObserver {
+        private long count;
+
+        CountObserver(LongObserver downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(double item) {
+            if (done) return;
+            count++;
+        }
+
+        @Override
+        void emitResult() {
+            downstream.onNext(count);
+        }
+    }
+
+    static final class AverageObserver extends PrimitiveStage.Aggregate<DoubleObserver> implements DoubleObserver {
+        private double sum;
+        private long count;
+
+        AverageObserver(DoubleObserver downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(double item) {
+            if (done) return;
+            sum += item;
+            count++;
+        }
+
+        @Override
+        void emitResult() {
+            if (count != 0) {
+                downstream.onNext(sum / count);
+            }
+        }
+    }
+
+    static final class FromObjObserver<T> extends PrimitiveStage<DoubleObserver> implements Observer<T> {
+        private final ToDoubleFunction<T> mapper;
+
+        FromObjObserver(DoubleObserver downstream, ToDoubleFunction<T> mapper) {
+            super(downstream);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            double mapped;
+            try {
+                mapped = mapper.applyAsDouble(item);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+    }
+
+    static final class SafeDoubleObserver extends SafePrimitiveObserver<DoubleObserver> implements DoubleObserver {
+        SafeDoubleObserver(DoubleObserver downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(double item) {
+            if (isActive()) {
+                downstream.onNext(item);
+            }
+        }
+    }
+}
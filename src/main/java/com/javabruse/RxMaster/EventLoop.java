@@ -0,0 +1,96 @@
+package com.javabruse.RxMaster;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+final class EventLoop implements Runnable {
+    private final ComputationScheduler owner;
+    private final int index;
+    private final SimpleQueue<Runnable> pinned = new MpscLinkedQueue<>();
+    private final Queue<Runnable> shared = new ConcurrentLinkedQueue<>();
+    final Thread thread;
+
+    private volatile boolean sleeping;
+    private volatile boolean shutdown;
+
+    EventLoop(ComputationScheduler owner, int index, RxThreadFactory threadFactory) {
+        this.owner = owner;
+        this.index = index;
+        this.thread = threadFactory.newThread(this);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void submitPinned(Runnable task) {
+        pinned.offer(task);
+        wakeUp();
+    }
+
+    boolean submitShared(Runnable task) {
+        shared.offer(task);
+        return wakeUp();
+    }
+
+    Runnable steal() {
+        return shared.poll();
+    }
+
+    boolean hasStealable() {
+        return !shared.isEmpty();
+    }
+
+    boolean wakeUp() {
+        if (sleeping) {
+            LockSupport.unpark(thread);
+            return true;
+        }
+        return false;
+    }
+
+    boolean isSleeping() {
+        return sleeping;
+    }
+
+    void shutdown() {
+        shutdown = true;
+        LockSupport.unpark(thread);
+    }
+
+    @Override
+    public void run() {
+        for (;;) {
+            Runnable task = pinned.poll();
+            if (task == null) {
+                task = shared.poll();
+                if (task == null) {
+                    task = owner.steal(index);
+                }
+            }
+            if (task != null) {
+                runSafely(task);
+                continue;
+            }
+            if (shutdown) {
+                return;
+            }
+            sleeping = true;
+            if (!pinned.isEmpty() || !shared.isEmpty() || owner.hasStealable(index) || shutdown) {
+                sleeping = false;
+                continue;
+            }
+            LockSupport.park(this);
+            sleeping = false;
+        }
+    }
+
+    private static void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable t) {
+            RxPlugins.onError(t);
+        }
+    }
+}
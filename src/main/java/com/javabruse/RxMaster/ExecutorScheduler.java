@@ -0,0 +1,38 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Scheduler;
+
+import java.util.concurrent.ExecutorService;
+
+public abstract class ExecutorScheduler implements Scheduler, DirectScheduler {
+    protected final ExecutorService executor;
+
+    protected ExecutorScheduler(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executeDirect(RxPlugins.onSchedule(task));
+    }
+
+    @Override
+    public void executeDirect(Runnable task) {
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                RxPlugins.onError(t);
+            }
+        });
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+}
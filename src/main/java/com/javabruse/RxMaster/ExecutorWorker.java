@@ -0,0 +1,123 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+import com.javabruse.RxMaster.interfaces.Worker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class ExecutorWorker extends AtomicInteger implements Worker, Runnable {
+    private final Scheduler scheduler;
+    private final SimpleQueue<Runnable> queue = new MpscLinkedQueue<>();
+    private final CompositeDisposable timed = new CompositeDisposable();
+    private volatile boolean disposed;
+
+    public ExecutorWorker(Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Disposable schedule(Runnable task) {
+        return enqueue(RxPlugins.onSchedule(task));
+    }
+
+    private Disposable enqueue(Runnable task) {
+        if (disposed) {
+            return Disposables.disposed();
+        }
+        WorkerTask workerTask = new WorkerTask(task);
+        queue.offer(workerTask);
+        if (getAndIncrement() == 0) {
+            if (scheduler instanceof DirectScheduler direct) {
+                direct.executeDirect(this);
+            } else {
+                scheduler.execute(this);
+            }
+        }
+        return workerTask;
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            return schedule(task);
+        }
+        if (disposed) {
+            return Disposables.disposed();
+        }
+        return SchedulerTimer.schedule(this::enqueue, RxPlugins.onSchedule(task), delay, unit, timed);
+    }
+
+    @Override
+    public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        if (disposed) {
+            return Disposables.disposed();
+        }
+        return SchedulerTimer.schedulePeriodically(this::enqueue, RxPlugins.onSchedule(task), initialDelay, period, unit, timed);
+    }
+
+    @Override
+    public void run() {
+        int missed = 1;
+        for (;;) {
+            for (;;) {
+                if (disposed) {
+                    queue.clear();
+                    return;
+                }
+                Runnable task = queue.poll();
+                if (task == null) break;
+                task.run();
+            }
+            missed = addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) return;
+        disposed = true;
+        timed.dispose();
+        if (getAndIncrement() == 0) {
+            queue.clear();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    static final class WorkerTask implements Runnable, Disposable {
+        private final Runnable task;
+        private volatile boolean disposed;
+
+        WorkerTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            if (disposed) return;
+            try {
+                task.run();
+            } catch (Throwable t) {
+                RxPlugins.onError(t);
+            } finally {
+                disposed = true;
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
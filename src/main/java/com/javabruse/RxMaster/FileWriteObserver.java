@@ -0,0 +1,187 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Worker;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+final class FileWriteObserver extends AtomicInteger implements Observer<ByteBuffer>, Disposable, Runnable {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<FileWriteObserver, Disposable> UPSTREAM =
+            AtomicReferenceFieldUpdater.newUpdater(FileWriteObserver.class, Disposable.class, "upstream");
+
+    private final Observer<Long> downstream;
+    private final Path path;
+    private final Worker worker;
+    private final SimpleQueue<ByteBuffer> queue;
+    private final ByteBuffer[] batch;
+    private volatile Disposable upstream;
+    private volatile boolean done;
+    private volatile boolean disposed;
+    private Throwable error;
+    private FileChannel channel;
+    private int count;
+    private long pending;
+    private long written;
+
+    FileWriteObserver(Observer<Long> downstream, Path path, int batchSize, Worker worker) {
+        this.downstream = downstream;
+        this.path = path;
+        this.worker = worker;
+        this.queue = new SpscLinkedArrayQueue<>(batchSize);
+        this.batch = new ByteBuffer[batchSize];
+    }
+
+    void start() {
+        downstream.onSubscribe(this);
+        schedule();
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        DisposableHelper.setOnce(UPSTREAM, this, d);
+    }
+
+    @Override
+    public void onNext(ByteBuffer buffer) {
+        if (done) return;
+        queue.offer(buffer);
+        schedule();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (done) return;
+        error = t;
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) return;
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) return;
+        disposed = true;
+        DisposableHelper.dispose(UPSTREAM, this);
+        schedule();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    private void schedule() {
+        if (getAndIncrement() == 0) {
+            worker.schedule(this);
+        }
+    }
+
+    @Override
+    public void run() {
+        int missed = 1;
+        for (;;) {
+            if (channel == null && !disposed) {
+                try {
+                    channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                } catch (IOException e) {
+                    fail(e);
+                    return;
+                }
+            }
+            for (;;) {
+                if (disposed) {
+                    release();
+                    return;
+                }
+                boolean d = done;
+                ByteBuffer buffer = queue.poll();
+                if (buffer == null) {
+                    if (d) {
+                        finish();
+                        return;
+                    }
+                    break;
+                }
+                batch[count++] = buffer;
+                pending += buffer.remaining();
+                if (count == batch.length) {
+                    try {
+                        flush();
+                    } catch (IOException e) {
+                        fail(e);
+                        return;
+                    }
+                }
+            }
+            missed = addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+
+    private void flush() throws IOException {
+        int n = count;
+        long remaining = pending;
+        while (remaining > 0) {
+            remaining -= channel.write(batch, 0, n);
+        }
+        written += pending;
+        pending = 0;
+        count = 0;
+        Arrays.fill(batch, 0, n, null);
+    }
+
+    private void finish() {
+        Throwable t = error;
+        if (t != null) {
+            disposed = true;
+            release();
+            downstream.onError(t);
+            return;
+        }
+        try {
+            flush();
+            channel.close();
+        } catch (IOException e) {
+            fail(e);
+            return;
+        }
+        disposed = true;
+        worker.dispose();
+        downstream.onNext(written);
+        downstream.onComplete();
+    }
+
+    private void fail(Throwable t) {
+        disposed = true;
+        DisposableHelper.dispose(UPSTREAM, this);
+        release();
+        downstream.onError(t);
+    }
+
+    private void release() {
+        Arrays.fill(batch, null);
+        queue.clear();
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+        worker.dispose();
+    }
+}
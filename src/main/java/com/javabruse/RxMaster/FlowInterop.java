@@ -0,0 +1,273 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Subscriber;
+import com.javabruse.RxMaster.interfaces.Subscription;
+import com.javabruse.RxMaster.interfaces.Worker;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+final class FlowInterop {
+    private FlowInterop() {
+    }
+
+    enum CancelledSubscription implements Flow.Subscription {
+        CANCELLED;
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+
+    static Throwable unwrap(Throwable t) {
+        if (t instanceof CompletionException && t.getCause() != null) {
+            return t.getCause();
+        }
+        return t;
+    }
+
+    static final class PublisherObserver<T> extends AtomicReference<Flow.Subscription> implements Flow.Subscriber<T>, Disposable {
+        private final Observer<T> downstream;
+        private final int prefetch;
+        private final int limit;
+        private int consumed;
+
+        PublisherObserver(Observer<T> downstream, int prefetch) {
+            this.downstream = downstream;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (compareAndSet(null, subscription)) {
+                subscription.request(prefetch);
+            } else {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            downstream.onNext(item);
+            if (++consumed == limit) {
+                consumed = 0;
+                get().request(limit);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            lazySet(CancelledSubscription.CANCELLED);
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            lazySet(CancelledSubscription.CANCELLED);
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            Flow.Subscription s = getAndSet(CancelledSubscription.CANCELLED);
+            if (s != null && s != CancelledSubscription.CANCELLED) {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return get() == CancelledSubscription.CANCELLED;
+        }
+    }
+
+    static final class ToFlowSubscriber<T> extends AtomicBoolean implements Subscriber<T>, Flow.Subscription {
+        private final Flow.Subscriber<? super T> downstream;
+        private volatile Subscription upstream;
+
+        ToFlowSubscriber(Flow.Subscriber<? super T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (!get()) {
+                downstream.onNext(item);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (compareAndSet(false, true)) {
+                downstream.onError(t);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (compareAndSet(false, true)) {
+                downstream.onComplete();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                onError(new IllegalArgumentException("request(n) requires n > 0 but was " + n));
+                return;
+            }
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+
+    static final class FromFlowSubscriber<T> implements Flow.Subscriber<T> {
+        private final Subscriber<T> downstream;
+
+        FromFlowSubscriber(Subscriber<T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            downstream.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(T item) {
+            downstream.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            downstream.onComplete();
+        }
+    }
+
+    static final class StageObserver<T> extends AtomicReference<Observer<T>> implements BiConsumer<T, Throwable>, Disposable {
+        StageObserver(Observer<T> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void accept(T value, Throwable error) {
+            Observer<T> downstream = getAndSet(null);
+            if (downstream == null) return;
+            if (error != null) {
+                downstream.onError(unwrap(error));
+                return;
+            }
+            if (value != null) {
+                downstream.onNext(value);
+            }
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            lazySet(null);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return get() == null;
+        }
+    }
+
+    static final class FuturePoller<T> extends AtomicBoolean implements Runnable, Disposable {
+        private final Observer<T> downstream;
+        private final Future<T> future;
+        private final Worker worker;
+        private final long maxDelayNanos;
+        private long delayNanos;
+
+        FuturePoller(Observer<T> downstream, Future<T> future, Worker worker, long minDelayNanos, long maxDelayNanos) {
+            this.downstream = downstream;
+            this.future = future;
+            this.worker = worker;
+            this.delayNanos = minDelayNanos;
+            this.maxDelayNanos = maxDelayNanos;
+        }
+
+        @Override
+        public void run() {
+            if (get()) {
+                return;
+            }
+            if (!future.isDone()) {
+                long delay = delayNanos;
+                delayNanos = delay > maxDelayNanos >> 1 ? maxDelayNanos : delay << 1;
+                worker.schedule(this, delay, TimeUnit.NANOSECONDS);
+                return;
+            }
+            if (!compareAndSet(false, true)) {
+                return;
+            }
+            worker.dispose();
+            T value;
+            try {
+                value = future.get();
+            } catch (ExecutionException e) {
+                downstream.onError(e.getCause() != null ? e.getCause() : e);
+                return;
+            } catch (Throwable t) {
+                downstream.onError(t);
+                return;
+            }
+            if (value != null) {
+                downstream.onNext(value);
+            }
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            lazySet(true);
+            worker.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return worker.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+import com.javabruse.RxMaster.interfaces.Subscriber;
+import com.javabruse.RxMaster.interfaces.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class Flowable<T> {
+    static final int BUFFER_SIZE = 128;
+
+    public interface OnSubscribe<T> {
+        void subscribe(Subscriber<T> subscriber);
+    }
+
+    public final OnSubscribe<T> onSubscribe;
+
+    public Flowable(OnSubscribe<T> onSubscribe) {
+        this.onSubscribe = onSubscribe;
+    }
+
+    public static <T> Flowable<T> create(OnSubscribe<T> source) {
+        return new Flowable<>(source);
+    }
+
+    public static <T> Flowable<T> just(T item) {
+        return Flowable.create(subscriber ->
+                subscriber.onSubscribe(new FlowableSources.ArraySubscription<>(subscriber, singleton(item)))
+        );
+    }
+
+    @SafeVarargs
+    public static <T> Flowable<T> fromArray(T... items) {
+        Objects.requireNonNull(items, "items is null");
+        return Flowable.create(subscriber ->
+                subscriber.onSubscribe(new FlowableSources.ArraySubscription<>(subscriber, items))
+        );
+    }
+
+    public static <T> Flowable<T> fromIterable(Iterable<T> items) {
+        Objects.requireNonNull(items, "items is null");
+        return Flowable.create(subscriber -> {
+            Iterator<T> iterator;
+            try {
+                iterator = items.iterator();
+            } catch (Throwable t) {
+                subscriber.onSubscribe(SubscriptionHelper.CANCELLED);
+                subscriber.onError(t);
+                return;
+            }
+            subscriber.onSubscribe(new FlowableSources.IterableSubscription<>(subscriber, iterator));
+        });
+    }
+
+    public static Flowable<Integer> range(int start, int count) {
+        if (count < 0) throw new IllegalArgumentException("count >= 0 required");
+        if ((long) start + count - 1 > Integer.MAX_VALUE) throw new IllegalArgumentException("Integer overflow");
+        return Flowable.create(subscriber ->
+                subscriber.onSubscribe(new FlowableSources.RangeSubscription(subscriber, start, count))
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] singleton(T item) {
+        return (T[]) new Object[]{item};
+    }
+
+    public static <T> Flowable<T> fromPublisher(Flow.Publisher<T> publisher) {
+        Objects.requireNonNull(publisher, "publisher is null");
+        return Flowable.create(subscriber -> publisher.subscribe(new FlowInterop.FromFlowSubscriber<>(subscriber)));
+    }
+
+    public static <T> Flowable<T> fromObservable(Observable<T> source, BackpressureStrategy strategy) {
+        return Flowable.create(subscriber -> ObservableToFlowable.subscribe(source, subscriber, strategy));
+    }
+
+    public static <T> Flowable<T> merge(Iterable<Flowable<T>> sources) {
+        return merge(sources, Integer.MAX_VALUE, BUFFER_SIZE);
+    }
+
+    public static <T> Flowable<T> merge(Iterable<Flowable<T>> sources, int maxConcurrency, int prefetch) {
+        Objects.requireNonNull(sources, "sources is null");
+        return fromIterable(sources).flatMap(source -> source, maxConcurrency, prefetch);
+    }
+
+    @SafeVarargs
+    public static <T> Flowable<T> merge(Flowable<T>... sources) {
+        return merge(Arrays.asList(sources));
+    }
+
+    public static <T> Flowable<T> concat(Iterable<Flowable<T>> sources) {
+        return concat(sources, BUFFER_SIZE);
+    }
+
+    public static <T> Flowable<T> concat(Iterable<Flowable<T>> sources, int prefetch) {
+        return merge(sources, 1, prefetch);
+    }
+
+    @SafeVarargs
+    public static <T> Flowable<T> concat(Flowable<T>... sources) {
+        return concat(Arrays.asList(sources));
+    }
+
+    public static <T, R> Flowable<R> zip(Iterable<Flowable<T>> sources, Function<Object[], R> zipper) {
+        return zip(sources, zipper, BUFFER_SIZE);
+    }
+
+    public static <T, R> Flowable<R> zip(Iterable<Flowable<T>> sources, Function<Object[], R> zipper, int prefetch) {
+        Objects.requireNonNull(sources, "sources is null");
+        Objects.requireNonNull(zipper, "zipper is null");
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch > 0 required");
+        return Flowable.create(subscriber -> {
+            Flowable<?>[] array = toSourceArray(sources);
+            if (array.length == 0) {
+                subscriber.onSubscribe(SubscriptionHelper.CANCELLED);
+                subscriber.onComplete();
+                return;
+            }
+            new FlowableZip<>(subscriber, zipper, array.length, prefetch).subscribe(array);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, R> Flowable<R> zip(Flowable<A> first, Flowable<B> second, BiFunction<A, B, R> zipper) {
+        Objects.requireNonNull(zipper, "zipper is null");
+        return zip(Arrays.asList((Flowable<Object>) first, (Flowable<Object>) second),
+                row -> zipper.apply((A) row[0], (B) row[1]));
+    }
+
+    public static <T, R> Flowable<R> combineLatest(Iterable<Flowable<T>> sources, Function<Object[], R> combiner) {
+        return combineLatest(sources, combiner, BUFFER_SIZE);
+    }
+
+    public static <T, R> Flowable<R> combineLatest(Iterable<Flowable<T>> sources, Function<Object[], R> combiner, int prefetch) {
+        Objects.requireNonNull(sources, "sources is null");
+        Objects.requireNonNull(combiner, "combiner is null");
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch > 0 required");
+        return Flowable.create(subscriber -> {
+            Flowable<?>[] array = toSourceArray(sources);
+            if (array.length == 0) {
+                subscriber.onSubscribe(SubscriptionHelper.CANCELLED);
+                subscriber.onComplete();
+                return;
+            }
+            new FlowableCombineLatest<>(subscriber, combiner, array.length, prefetch).subscribe(array);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, R> Flowable<R> combineLatest(Flowable<A> first, Flowable<B> second, BiFunction<A, B, R> combiner) {
+        Objects.requireNonNull(combiner, "combiner is null");
+        return combineLatest(Arrays.asList((Flowable<Object>) first, (Flowable<Object>) second),
+                row -> combiner.apply((A) row[0], (B) row[1]));
+    }
+
+    private static <T> Flowable<?>[] toSourceArray(Iterable<Flowable<T>> sources) {
+        List<Flowable<?>> list = new ArrayList<>();
+        for (Flowable<T> source : sources) {
+            list.add(Objects.requireNonNull(source, "source is null"));
+        }
+        return list.toArray(new Flowable<?>[0]);
+    }
+
+    public void subscribe(Subscriber<T> subscriber) {
+        onSubscribe.subscribe(subscriber);
+    }
+
+    public Flow.Publisher<T> toPublisher() {
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber is null");
+            subscribe(new FlowInterop.ToFlowSubscriber<>(subscriber));
+        };
+    }
+
+    public <R> Flowable<R> map(Function<T, R> mapper) {
+        return Flowable.create(subscriber ->
+                this.subscribe(new Subscriber<T>() {
+                    private Subscription upstream;
+                    private boolean done;
+
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        upstream = subscription;
+                        subscriber.onSubscribe(subscription);
+                    }
+
+                    @Override
+                    public void onNext(T item) {
+                        if (done) return;
+                        R mapped;
+                        try {
+                            mapped = mapper.apply(item);
+                        } catch (Throwable t) {
+                            upstream.cancel();
+                            onError(t);
+                            return;
+                        }
+                        subscriber.onNext(mapped);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        if (done) return;
+                        done = true;
+                        subscriber.onError(t);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (done) return;
+                        done = true;
+                        subscriber.onComplete();
+                    }
+                })
+        );
+    }
+
+    public Flowable<T> filter(Predicate<T> predicate) {
+        return Flowable.create(subscriber ->
+                this.subscribe(new Subscriber<T>() {
+                    private Subscription upstream;
+                    private boolean done;
+
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        upstream = subscription;
+                        subscriber.onSubscribe(subscription);
+                    }
+
+                    @Override
+                    public void onNext(T item) {
+                        if (done) return;
+                        boolean pass;
+                        try {
+                            pass = predicate.test(item);
+                        } catch (Throwable t) {
+                            upstream.cancel();
+                            onError(t);
+                            return;
+                        }
+                        if (pass) {
+                            subscriber.onNext(item);
+                        } else {
+                            upstream.request(1);
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        if (done) return;
+                        done = true;
+                        subscriber.onError(t);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (done) return;
+                        done = true;
+                        subscriber.onComplete();
+                    }
+                })
+        );
+    }
+
+    public Flowable<T> subscribeOn(Scheduler scheduler) {
+        return Flowable.create(subscriber ->
+                scheduler.execute(() -> Flowable.this.subscribe(subscriber))
+        );
+    }
+
+    public Flowable<T> observeOn(Scheduler scheduler) {
+        return observeOn(scheduler, BUFFER_SIZE);
+    }
+
+    public Flowable<T> observeOn(Scheduler scheduler, int prefetch) {
+        return Flowable.create(subscriber ->
+                this.subscribe(new FlowableObserveOn<>(subscriber, scheduler.createWorker(), prefetch))
+        );
+    }
+
+    public <R> Flowable<R> flatMap(Function<T, Flowable<R>> mapper) {
+        return flatMap(mapper, Integer.MAX_VALUE, BUFFER_SIZE);
+    }
+
+    public <R> Flowable<R> flatMap(Function<T, Flowable<R>> mapper, int maxConcurrency, int prefetch) {
+        if (maxConcurrency <= 0) throw new IllegalArgumentException("maxConcurrency > 0 required");
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch > 0 required");
+        return Flowable.create(subscriber ->
+                this.subscribe(new FlowableFlatMap<>(subscriber, mapper, maxConcurrency, prefetch))
+        );
+    }
+
+    public Iterable<T> blockingIterable() {
+        return blockingIterable(BUFFER_SIZE);
+    }
+
+    public Iterable<T> blockingIterable(int prefetch) {
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch > 0 required");
+        return () -> blockingIterator(prefetch);
+    }
+
+    public Stream<T> blockingStream() {
+        return blockingStream(BUFFER_SIZE);
+    }
+
+    public Stream<T> blockingStream(int prefetch) {
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch > 0 required");
+        ObservableBlocking.BlockingIterator<T> iterator = blockingIterator(prefetch);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::dispose);
+    }
+
+    private ObservableBlocking.BlockingIterator<T> blockingIterator(int prefetch) {
+        ObservableBlocking.BlockingIterator<T> iterator = new ObservableBlocking.BlockingIterator<>(prefetch);
+        subscribe(iterator);
+        return iterator;
+    }
+
+    public Observable<T> toObservable() {
+        return Observable.unsafeCreate(observer -> this.subscribe(new ToObservableSubscriber<>(observer)));
+    }
+
+    static final class ToObservableSubscriber<T> extends AtomicReference<Subscription> implements Subscriber<T>, Disposable {
+        private final Observer<T> downstream;
+
+        ToObservableSubscriber(Observer<T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (SubscriptionHelper.setOnce(this, subscription)) {
+                downstream.onSubscribe(this);
+                subscription.request(Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            downstream.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            SubscriptionHelper.cancel(this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return get() == SubscriptionHelper.CANCELLED;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Subscriber;
+import com.javabruse.RxMaster.interfaces.Subscription;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+final class FlowableCombineLatest<R> extends AtomicInteger implements Subscription {
+    private final Subscriber<R> downstream;
+    private final Function<Object[], R> combiner;
+    private final CombineSubscriber[] subscribers;
+    private final Object[] latest;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final AtomicLong requested = new AtomicLong();
+
+    private volatile boolean cancelled;
+    private long emitted;
+    private long expected;
+    private int present;
+
+    FlowableCombineLatest(Subscriber<R> downstream, Function<Object[], R> combiner, int sourceCount, int prefetch) {
+        this.downstream = downstream;
+        this.combiner = combiner;
+        this.subscribers = new CombineSubscriber[sourceCount];
+        for (int i = 0; i < sourceCount; i++) {
+            subscribers[i] = new CombineSubscriber(this, prefetch);
+        }
+        this.latest = new Object[sourceCount];
+    }
+
+    @SuppressWarnings("unchecked")
+    void subscribe(Flowable<?>[] sources) {
+        downstream.onSubscribe(this);
+        for (int i = 0; i < sources.length; i++) {
+            if (cancelled || error.get() != null) return;
+            ((Flowable<Object>) sources[i]).subscribe(subscribers[i]);
+        }
+    }
+
+    @Override
+    public void request(long n) {
+        if (SubscriptionHelper.validate(n)) {
+            BackpressureHelper.add(requested, n);
+            drain();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        if (cancelled) return;
+        cancelled = true;
+        cancelAll();
+        if (getAndIncrement() == 0) {
+            clearAll();
+        }
+    }
+
+    void innerError(Throwable t) {
+        if (error.compareAndSet(null, t)) {
+            drain();
+        } else {
+            RxPlugins.onError(t);
+        }
+    }
+
+    long nextSequence() {
+        return sequence.getAndIncrement();
+    }
+
+    private void cancelAll() {
+        for (CombineSubscriber subscriber : subscribers) {
+            subscriber.cancel();
+        }
+    }
+
+    private void clearAll() {
+        Arrays.fill(latest, null);
+        for (CombineSubscriber subscriber : subscribers) {
+            subscriber.clear();
+        }
+    }
+
+    private boolean checkTerminate() {
+        if (cancelled) {
+            clearAll();
+            return true;
+        }
+        Throwable t = error.get();
+        if (t != null) {
+            cancelled = true;
+            cancelAll();
+            clearAll();
+            downstream.onError(t);
+            return true;
+        }
+        return false;
+    }
+
+    private void complete() {
+        cancelled = true;
+        cancelAll();
+        clearAll();
+        downstream.onComplete();
+    }
+
+    void drain() {
+        if (getAndIncrement() != 0) return;
+        int missed = 1;
+        int n = subscribers.length;
+        for (;;) {
+            long r = requested.get();
+            long e = emitted;
+            for (;;) {
+                if (checkTerminate()) return;
+                int index = -1;
+                int finished = 0;
+                for (int i = 0; i < n; i++) {
+                    CombineSubscriber subscriber = subscribers[i];
+                    boolean d = subscriber.done;
+                    Entry head = subscriber.peek();
+                    if (head == null) {
+                        if (d) {
+                            if (latest[i] == null) {
+                                complete();
+                                return;
+                            }
+                            finished++;
+                        }
+                    } else if (head.sequence == expected) {
+                        index = i;
+                        break;
+                    }
+                }
+                if (index < 0) {
+                    if (finished == n) {
+                        complete();
+                        return;
+                    }
+                    break;
+                }
+                boolean emits = present == n || present == n - 1 && latest[index] == null;
+                if (emits && e == r) break;
+                expected++;
+                if (latest[index] == null) {
+                    present++;
+                }
+                latest[index] = subscribers[index].take();
+                if (!emits) continue;
+                R value;
+                try {
+                    value = combiner.apply(latest.clone());
+                    if (value == null) throw new NullPointerException("The combiner returned a null value");
+                } catch (Throwable t) {
+                    error.compareAndSet(null, t);
+                    continue;
+                }
+                downstream.onNext(value);
+                e++;
+            }
+            emitted = e;
+            missed = addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+
+    static final class Entry {
+        final long sequence;
+        final Object value;
+
+        Entry(long sequence, Object value) {
+            this.sequence = sequence;
+            this.value = value;
+        }
+    }
+
+    static final class CombineSubscriber extends AtomicReference<Subscription> implements Subscriber<Object> {
+        private final FlowableCombineLatest<?> parent;
+        private final int prefetch;
+        private final int limit;
+        private final SimpleQueue<Entry> queue;
+        private Entry head;
+        private int consumed;
+        volatile boolean done;
+
+        CombineSubscriber(FlowableCombineLatest<?> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = new SpscArrayQueue<>(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (SubscriptionHelper.setOnce(this, subscription)) {
+                subscription.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(Object item) {
+            if (!queue.offer(new Entry(parent.nextSequence(), item))) {
+                cancel();
+                parent.innerError(new MissingBackpressureException("combineLatest queue is full"));
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            parent.innerError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        Entry peek() {
+            Entry e = head;
+            if (e == null) {
+                e = queue.poll();
+                head = e;
+            }
+            return e;
+        }
+
+        Object take() {
+            Object value = head.value;
+            head = null;
+            if (++consumed == limit) {
+                consumed = 0;
+                get().request(limit);
+            }
+            return value;
+        }
+
+        void clear() {
+            head = null;
+            queue.clear();
+        }
+
+        void cancel() {
+            SubscriptionHelper.cancel(this);
+        }
+    }
+}
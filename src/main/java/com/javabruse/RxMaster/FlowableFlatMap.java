@@ -0,0 +1,284 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Subscriber;
+import com.javabruse.RxMaster.interfaces.Subscription;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+final class FlowableFlatMap<T, R> extends AtomicInteger implements Subscriber<T>, Subscription {
+    private static final InnerSubscriber<?>[] EMPTY = new InnerSubscriber<?>[0];
+    private static final InnerSubscriber<?>[] TERMINATED = new InnerSubscriber<?>[0];
+
+    private final Subscriber<R> downstream;
+    private final Function<T, Flowable<R>> mapper;
+    private final int maxConcurrency;
+    private final int prefetch;
+    private final AtomicReference<InnerSubscriber<?>[]> subscribers = new AtomicReference<>(EMPTY);
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final AtomicLong requested = new AtomicLong();
+
+    private Subscription upstream;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private long emitted;
+    private int lastIndex;
+
+    FlowableFlatMap(Subscriber<R> downstream, Function<T, Flowable<R>> mapper, int maxConcurrency, int prefetch) {
+        this.downstream = downstream;
+        this.mapper = mapper;
+        this.maxConcurrency = maxConcurrency;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        upstream = subscription;
+        downstream.onSubscribe(this);
+        subscription.request(maxConcurrency == Integer.MAX_VALUE ? Long.MAX_VALUE : maxConcurrency);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) return;
+        Flowable<R> inner;
+        try {
+            inner = mapper.apply(item);
+        } catch (Throwable t) {
+            upstream.cancel();
+            onError(t);
+            return;
+        }
+        InnerSubscriber<R> subscriber = new InnerSubscriber<>(this, prefetch);
+        if (add(subscriber)) {
+            inner.subscribe(subscriber);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (done) return;
+        error.compareAndSet(null, t);
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) return;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void request(long n) {
+        if (SubscriptionHelper.validate(n)) {
+            BackpressureHelper.add(requested, n);
+            drain();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        if (cancelled) return;
+        cancelled = true;
+        upstream.cancel();
+        cancelAll();
+        if (getAndIncrement() == 0) {
+            clearAll();
+        }
+    }
+
+    void innerError(Throwable t) {
+        if (error.compareAndSet(null, t)) {
+            drain();
+        }
+    }
+
+    private boolean add(InnerSubscriber<R> inner) {
+        for (;;) {
+            InnerSubscriber<?>[] current = subscribers.get();
+            if (current == TERMINATED) {
+                inner.cancel();
+                return false;
+            }
+            int n = current.length;
+            InnerSubscriber<?>[] next = new InnerSubscriber<?>[n + 1];
+            System.arraycopy(current, 0, next, 0, n);
+            next[n] = inner;
+            if (subscribers.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    private void remove(InnerSubscriber<?> inner) {
+        for (;;) {
+            InnerSubscriber<?>[] current = subscribers.get();
+            int n = current.length;
+            int index = -1;
+            for (int i = 0; i < n; i++) {
+                if (current[i] == inner) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) return;
+            InnerSubscriber<?>[] next;
+            if (n == 1) {
+                next = EMPTY;
+            } else {
+                next = new InnerSubscriber<?>[n - 1];
+                System.arraycopy(current, 0, next, 0, index);
+                System.arraycopy(current, index + 1, next, index, n - index - 1);
+            }
+            if (subscribers.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    private void cancelAll() {
+        InnerSubscriber<?>[] current = subscribers.getAndSet(TERMINATED);
+        for (InnerSubscriber<?> inner : current) {
+            inner.cancel();
+        }
+    }
+
+    private void clearAll() {
+        for (InnerSubscriber<?> inner : subscribers.get()) {
+            inner.queue.clear();
+        }
+    }
+
+    private boolean checkTerminate() {
+        if (cancelled) {
+            clearAll();
+            return true;
+        }
+        Throwable t = error.get();
+        if (t != null) {
+            cancelled = true;
+            upstream.cancel();
+            cancelAll();
+            downstream.onError(t);
+            return true;
+        }
+        return false;
+    }
+
+    void drain() {
+        if (getAndIncrement() != 0) return;
+        int missed = 1;
+        for (;;) {
+            if (checkTerminate()) return;
+            boolean d = done;
+            InnerSubscriber<?>[] inners = subscribers.get();
+            int n = inners.length;
+            if (d && n == 0) {
+                cancelled = true;
+                downstream.onComplete();
+                return;
+            }
+
+            long r = requested.get();
+            long e = emitted;
+            int completed = 0;
+            int start = lastIndex < n ? lastIndex : 0;
+            for (int i = 0; i < n; i++) {
+                int index = (start + i) % n;
+                @SuppressWarnings("unchecked")
+                InnerSubscriber<R> inner = (InnerSubscriber<R>) inners[index];
+                while (e != r) {
+                    boolean innerDone = inner.done;
+                    R item = inner.queue.poll();
+                    if (item == null) {
+                        if (innerDone) {
+                            remove(inner);
+                            completed++;
+                        }
+                        break;
+                    }
+                    downstream.onNext(item);
+                    e++;
+                    inner.consumedOne();
+                    if (checkTerminate()) return;
+                }
+                if (e == r) {
+                    if (inner.done && inner.queue.isEmpty()) {
+                        remove(inner);
+                        completed++;
+                    }
+                    lastIndex = index;
+                }
+            }
+            emitted = e;
+
+            if (completed != 0) {
+                if (maxConcurrency != Integer.MAX_VALUE && !cancelled) {
+                    upstream.request(completed);
+                }
+                continue;
+            }
+            missed = addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+
+    static final class InnerSubscriber<R> extends AtomicReference<Subscription> implements Subscriber<R> {
+        private final FlowableFlatMap<?, R> parent;
+        private final int prefetch;
+        private final int limit;
+        final SimpleQueue<R> queue;
+        volatile boolean done;
+        private int consumed;
+
+        InnerSubscriber(FlowableFlatMap<?, R> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = new SpscArrayQueue<>(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (SubscriptionHelper.setOnce(this, subscription)) {
+                subscription.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(R item) {
+            if (!queue.offer(item)) {
+                cancel();
+                parent.innerError(new MissingBackpressureException("flatMap inner queue is full"));
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            parent.innerError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        void consumedOne() {
+            if (++consumed == limit) {
+                consumed = 0;
+                get().request(limit);
+            }
+        }
+
+        void cancel() {
+            SubscriptionHelper.cancel(this);
+        }
+    }
+}
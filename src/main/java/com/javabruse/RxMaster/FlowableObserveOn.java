@@ -0,0 +1,143 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Worker;
+import com.javabruse.RxMaster.interfaces.Subscriber;
+import com.javabruse.RxMaster.interfaces.Subscription;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class FlowableObserveOn<T> extends AtomicInteger implements Subscriber<T>, Subscription, Runnable {
+    private final Subscriber<T> downstream;
+    private final Worker worker;
+    private final int prefetch;
+    private final int limit;
+    private final SimpleQueue<T> queue;
+    private final AtomicLong requested = new AtomicLong();
+
+    private Subscription upstream;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private Throwable error;
+
+    private long emitted;
+    private int consumed;
+
+    FlowableObserveOn(Subscriber<T> downstream, Worker worker, int prefetch) {
+        this.downstream = downstream;
+        this.worker = worker;
+        this.prefetch = prefetch;
+        this.limit = prefetch - (prefetch >> 2);
+        this.queue = new SpscArrayQueue<>(prefetch);
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        upstream = subscription;
+        downstream.onSubscribe(this);
+        subscription.request(prefetch);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) return;
+        if (!queue.offer(item)) {
+            upstream.cancel();
+            error = new MissingBackpressureException("observeOn queue is full");
+            done = true;
+        }
+        schedule();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (done) return;
+        error = t;
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) return;
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void request(long n) {
+        if (SubscriptionHelper.validate(n)) {
+            BackpressureHelper.add(requested, n);
+            schedule();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        if (cancelled) return;
+        cancelled = true;
+        upstream.cancel();
+        worker.dispose();
+        if (getAndIncrement() == 0) {
+            queue.clear();
+        }
+    }
+
+    private void schedule() {
+        if (getAndIncrement() == 0) {
+            worker.schedule(this);
+        }
+    }
+
+    @Override
+    public void run() {
+        int missed = 1;
+        long e = emitted;
+        int c = consumed;
+        for (;;) {
+            long r = requested.get();
+            while (e != r) {
+                boolean d = done;
+                T item = queue.poll();
+                boolean empty = item == null;
+                if (checkTerminated(d, empty)) return;
+                if (empty) break;
+                downstream.onNext(item);
+                e++;
+                if (++c == limit) {
+                    c = 0;
+                    upstream.request(limit);
+                }
+            }
+            if (e == r && checkTerminated(done, queue.isEmpty())) return;
+            emitted = e;
+            consumed = c;
+            missed = addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+
+    private boolean checkTerminated(boolean d, boolean empty) {
+        if (cancelled) {
+            queue.clear();
+            return true;
+        }
+        if (d) {
+            Throwable t = error;
+            if (t != null) {
+                cancelled = true;
+                worker.dispose();
+                queue.clear();
+                downstream.onError(t);
+                return true;
+            }
+            if (empty) {
+                cancelled = true;
+                worker.dispose();
+                downstream.onComplete();
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,216 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Subscriber;
+import com.javabruse.RxMaster.interfaces.Subscription;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class FlowableSources {
+    private FlowableSources() {
+    }
+
+    abstract static class BaseSubscription<T> extends AtomicLong implements Subscription {
+        final Subscriber<T> downstream;
+        volatile boolean cancelled;
+
+        BaseSubscription(Subscriber<T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public final void request(long n) {
+            if (SubscriptionHelper.validate(n) && BackpressureHelper.add(this, n) == 0) {
+                if (n == Long.MAX_VALUE) {
+                    fastPath();
+                } else {
+                    slowPath(n);
+                }
+            }
+        }
+
+        abstract void fastPath();
+
+        abstract void slowPath(long requested);
+
+        @Override
+        public final void cancel() {
+            cancelled = true;
+        }
+    }
+
+    static final class ArraySubscription<T> extends BaseSubscription<T> {
+        private final T[] items;
+        private int index;
+
+        ArraySubscription(Subscriber<T> downstream, T[] items) {
+            super(downstream);
+            this.items = items;
+        }
+
+        @Override
+        void fastPath() {
+            T[] a = items;
+            Subscriber<T> s = downstream;
+            for (int i = index; i < a.length; i++) {
+                if (cancelled) return;
+                s.onNext(a[i]);
+            }
+            if (!cancelled) {
+                s.onComplete();
+            }
+        }
+
+        @Override
+        void slowPath(long requested) {
+            T[] a = items;
+            Subscriber<T> s = downstream;
+            int i = index;
+            long emitted = 0L;
+            for (;;) {
+                while (emitted != requested && i != a.length) {
+                    if (cancelled) return;
+                    s.onNext(a[i]);
+                    i++;
+                    emitted++;
+                }
+                if (i == a.length) {
+                    if (!cancelled) {
+                        s.onComplete();
+                    }
+                    return;
+                }
+                requested = get();
+                if (requested == emitted) {
+                    index = i;
+                    requested = addAndGet(-emitted);
+                    if (requested == 0L) return;
+                    emitted = 0L;
+                }
+            }
+        }
+    }
+
+    static final class RangeSubscription extends BaseSubscription<Integer> {
+        private final int end;
+        private int index;
+
+        RangeSubscription(Subscriber<Integer> downstream, int start, int count) {
+            super(downstream);
+            this.index = start;
+            this.end = start + count;
+        }
+
+        @Override
+        void fastPath() {
+            Subscriber<Integer> s = downstream;
+            for (int i = index; i != end; i++) {
+                if (cancelled) return;
+                s.onNext(i);
+            }
+            if (!cancelled) {
+                s.onComplete();
+            }
+        }
+
+        @Override
+        void slowPath(long requested) {
+            Subscriber<Integer> s = downstream;
+            int i = index;
+            long emitted = 0L;
+            for (;;) {
+                while (emitted != requested && i != end) {
+                    if (cancelled) return;
+                    s.onNext(i);
+                    i++;
+                    emitted++;
+                }
+                if (i == end) {
+                    if (!cancelled) {
+                        s.onComplete();
+                    }
+                    return;
+                }
+                requested = get();
+                if (requested == emitted) {
+                    index = i;
+                    requested = addAndGet(-emitted);
+                    if (requested == 0L) return;
+                    emitted = 0L;
+                }
+            }
+        }
+    }
+
+    static final class IterableSubscription<T> extends BaseSubscription<T> {
+        private final Iterator<T> iterator;
+
+        IterableSubscription(Subscriber<T> downstream, Iterator<T> iterator) {
+            super(downstream);
+            this.iterator = iterator;
+        }
+
+        @Override
+        void fastPath() {
+            Iterator<T> it = iterator;
+            Subscriber<T> s = downstream;
+            for (;;) {
+                if (cancelled) return;
+                T item;
+                try {
+                    if (!it.hasNext()) break;
+                    item = it.next();
+                } catch (Throwable t) {
+                    s.onError(t);
+                    return;
+                }
+                s.onNext(item);
+            }
+            if (!cancelled) {
+                s.onComplete();
+            }
+        }
+
+        @Override
+        void slowPath(long requested) {
+            Iterator<T> it = iterator;
+            Subscriber<T> s = downstream;
+            long emitted = 0L;
+            for (;;) {
+                while (emitted != requested) {
+                    if (cancelled) return;
+                    T item;
+                    try {
+                        if (!it.hasNext()) {
+                            s.onComplete();
+                            return;
+                        }
+                        item = it.next();
+                    } catch (Throwable t) {
+                        s.onError(t);
+                        return;
+                    }
+                    s.onNext(item);
+                    emitted++;
+                }
+                try {
+                    if (!it.hasNext()) {
+                        if (!cancelled) {
+                            s.onComplete();
+                        }
+                        return;
+                    }
+                } catch (Throwable t) {
+                    s.onError(t);
+                    return;
+                }
+                requested = get();
+                if (requested == emitted) {
+                    requested = addAndGet(-emitted);
+                    if (requested == 0L) return;
+                    emitted = 0L;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Subscriber;
+import com.javabruse.RxMaster.interfaces.Subscription;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+final class FlowableZip<R> extends AtomicInteger implements Subscription {
+    private final Subscriber<R> downstream;
+    private final Function<Object[], R> zipper;
+    private final ZipSubscriber[] subscribers;
+    private final Object[] row;
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final AtomicLong requested = new AtomicLong();
+
+    private volatile boolean cancelled;
+    private long emitted;
+
+    FlowableZip(Subscriber<R> downstream, Function<Object[], R> zipper, int sourceCount, int prefetch) {
+        this.downstream = downstream;
+        this.zipper = zipper;
+        this.subscribers = new ZipSubscriber[sourceCount];
+        for (int i = 0; i < sourceCount; i++) {
+            subscribers[i] = new ZipSubscriber(this, prefetch);
+        }
+        this.row = new Object[sourceCount];
+    }
+
+    @SuppressWarnings("unchecked")
+    void subscribe(Flowable<?>[] sources) {
+        downstream.onSubscribe(this);
+        for (int i = 0; i < sources.length; i++) {
+            if (cancelled || error.get() != null) return;
+            ((Flowable<Object>) sources[i]).subscribe(subscribers[i]);
+        }
+    }
+
+    @Override
+    public void request(long n) {
+        if (SubscriptionHelper.validate(n)) {
+            BackpressureHelper.add(requested, n);
+            drain();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        if (cancelled) return;
+        cancelled = true;
+        cancelAll();
+        if (getAndIncrement() == 0) {
+            clearAll();
+        }
+    }
+
+    void innerError(Throwable t) {
+        if (error.compareAndSet(null, t)) {
+            drain();
+        } else {
+            RxPlugins.onError(t);
+        }
+    }
+
+    private void cancelAll() {
+        for (ZipSubscriber subscriber : subscribers) {
+            subscriber.cancel();
+        }
+    }
+
+    private void clearAll() {
+        Arrays.fill(row, null);
+        for (ZipSubscriber subscriber : subscribers) {
+            subscriber.queue.clear();
+        }
+    }
+
+    private boolean checkTerminate() {
+        if (cancelled) {
+            clearAll();
+            return true;
+        }
+        Throwable t = error.get();
+        if (t != null) {
+            cancelled = true;
+            cancelAll();
+            clearAll();
+            downstream.onError(t);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean fillRow() {
+        boolean full = true;
+        for (int i = 0; i < subscribers.length; i++) {
+            if (row[i] != null) continue;
+            ZipSubscriber subscriber = subscribers[i];
+            boolean d = subscriber.done;
+            Object item = subscriber.queue.poll();
+            if (item == null) {
+                if (d) {
+                    cancelled = true;
+                    cancelAll();
+                    clearAll();
+                    downstream.onComplete();
+                    return false;
+                }
+                full = false;
+            } else {
+                row[i] = item;
+            }
+        }
+        return full;
+    }
+
+    void drain() {
+        if (getAndIncrement() != 0) return;
+        int missed = 1;
+        for (;;) {
+            long r = requested.get();
+            long e = emitted;
+            for (;;) {
+                if (checkTerminate()) return;
+                boolean full = fillRow();
+                if (cancelled) return;
+                if (!full || e == r) break;
+
+                R value;
+                try {
+                    value = zipper.apply(row.clone());
+                    if (value == null) throw new NullPointerException("The zipper returned a null value");
+                } catch (Throwable t) {
+                    error.compareAndSet(null, t);
+                    continue;
+                }
+                Arrays.fill(row, null);
+                downstream.onNext(value);
+                e++;
+                for (ZipSubscriber subscriber : subscribers) {
+                    subscriber.consumedOne();
+                }
+            }
+            emitted = e;
+            missed = addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+
+    static final class ZipSubscriber extends AtomicReference<Subscription> implements Subscriber<Object> {
+        private final FlowableZip<?> parent;
+        private final int prefetch;
+        private final int limit;
+        final SimpleQueue<Object> queue;
+        volatile boolean done;
+        private int consumed;
+
+        ZipSubscriber(FlowableZip<?> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = new SpscArrayQueue<>(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (SubscriptionHelper.setOnce(this, subscription)) {
+                subscription.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(Object item) {
+            if (!queue.offer(item)) {
+                cancel();
+                parent.innerError(new MissingBackpressureException("zip queue is full"));
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            parent.innerError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        void consumedOne() {
+            if (++consumed == limit) {
+                consumed = 0;
+                get().request(limit);
+            }
+        }
+
+        void cancel() {
+            SubscriptionHelper.cancel(this);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+final class FusedMapFilter<T> extends Observable<T> {
+    private static final Object FILTERED = new Object();
+
+    final Observable<Object> source;
+    final Object[] stages;
+    final boolean[] filters;
+
+    private FusedMapFilter(Observable<Object> source, Object[] stages, boolean[] filters) {
+        this.source = source;
+        this.stages = stages;
+        this.filters = filters;
+    }
+
+    static <T, R> Observable<R> map(Observable<T> upstream, Function<T, R> mapper) {
+        return fuse(upstream, Objects.requireNonNull(mapper, "mapper is null"), false);
+    }
+
+    static <T> Observable<T> filter(Observable<T> upstream, Predicate<T> predicate) {
+        return fuse(upstream, Objects.requireNonNull(predicate, "predicate is null"), true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> Observable<R> fuse(Observable<?> upstream, Object stage, boolean filter) {
+        if (upstream instanceof FusedMapFilter<?> fused) {
+            int n = fused.stages.length;
+            Object[] stages = Arrays.copyOf(fused.stages, n + 1);
+            boolean[] filters = Arrays.copyOf(fused.filters, n + 1);
+            stages[n] = stage;
+            filters[n] = filter;
+            return new FusedMapFilter<>(fused.source, stages, filters);
+        }
+        return new FusedMapFilter<>((Observable<Object>) upstream, new Object[]{stage}, new boolean[]{filter});
+    }
+
+    @SuppressWarnings("unchecked")
+    static Object apply(Object[] stages, boolean[] filters, Object value) {
+        for (int i = 0; i < stages.length; i++) {
+            if (filters[i]) {
+                if (!((Predicate<Object>) stages[i]).test(value)) {
+                    return FILTERED;
+                }
+            } else {
+                value = ((Function<Object, Object>) stages[i]).apply(value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    void subscribeActual(Observer<T> observer) {
+        if (source instanceof ObservableFromArray<Object> array) {
+            emitArray(array.items, observer);
+        } else if (source instanceof ObservableFromIterable<Object> iterable) {
+            emitIterable(iterable.items, observer);
+        } else if ((Observable<?>) source instanceof ObservableRange range) {
+            emitRange(range.start, range.count, observer);
+        } else {
+            source.subscribeActual(new FusedObserver<>(observer, stages, filters));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void emitArray(Object[] items, Observer<T> observer) {
+        Object[] s = stages;
+        boolean[] f = filters;
+        BooleanDisposable d = new BooleanDisposable();
+        observer.onSubscribe(d);
+        for (Object item : items) {
+            if (d.isDisposed()) return;
+            Object value;
+            try {
+                value = apply(s, f, item);
+            } catch (Throwable t) {
+                observer.onError(t);
+                return;
+            }
+            if (value != FILTERED) {
+                observer.onNext((T) value);
+            }
+        }
+        if (!d.isDisposed()) {
+            observer.onComplete();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void emitRange(int start, int count, Observer<T> observer) {
+        Object[] s = stages;
+        boolean[] f = filters;
+        BooleanDisposable d = new BooleanDisposable();
+        observer.onSubscribe(d);
+        int end = start + count;
+        for (int i = start; i != end; i++) {
+            if (d.isDisposed()) return;
+            Object value;
+            try {
+                value = apply(s, f, i);
+            } catch (Throwable t) {
+                observer.onError(t);
+                return;
+            }
+            if (value != FILTERED) {
+                observer.onNext((T) value);
+            }
+        }
+        if (!d.isDisposed()) {
+            observer.onComplete();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void emitIterable(Iterable<Object> items, Observer<T> observer) {
+        Object[] s = stages;
+        boolean[] f = filters;
+        BooleanDisposable d = new BooleanDisposable();
+        observer.onSubscribe(d);
+        Iterator<Object> iterator;
+        try {
+            iterator = items.iterator();
+        } catch (Throwable t) {
+            observer.onError(t);
+            return;
+        }
+        for (;;) {
+            if (d.isDisposed()) return;
+            Object value;
+            try {
+                if (!iterator.hasNext()) break;
+                value = apply(s, f, iterator.next());
+            } catch (Throwable t) {
+                observer.onError(t);
+                return;
+            }
+            if (value != FILTERED) {
+                observer.onNext((T) value);
+            }
+        }
+        if (!d.isDisposed()) {
+            observer.onComplete();
+        }
+    }
+
+    static final class FusedObserver<T> implements Observer<Object> {
+        private final Observer<T> downstream;
+        private final Object[] stages;
+        private final boolean[] filters;
+        private Disposable upstream;
+        private boolean done;
+
+        FusedObserver(Observer<T> downstream, Object[] stages, boolean[] filters) {
+            this.downstream = downstream;
+            this.stages = stages;
+            this.filters = filters;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(d);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNext(Object item) {
+            if (done) return;
+            Object value;
+            try {
+                value = apply(stages, filters, item);
+            } catch (Throwable t) {
+                Disposable d = upstream;
+                if (d != null) {
+                    d.dispose();
+                }
+                onError(t);
+                return;
+            }
+            if (value != FILTERED) {
+                downstream.onNext((T) value);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            downstream.onComplete();
+        }
+    }
+}
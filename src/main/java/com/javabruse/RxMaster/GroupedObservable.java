@@ -0,0 +1,22 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+
+public final class GroupedObservable<K, T> extends Observable<T> {
+    private final K key;
+    final UnicastSubject<T> subject;
+
+    GroupedObservable(K key, UnicastSubject<T> subject) {
+        this.key = key;
+        this.subject = subject;
+    }
+
+    public K getKey() {
+        return key;
+    }
+
+    @Override
+    void subscribeActual(Observer<T> observer) {
+        subject.subscribeActual(observer);
+    }
+}
@@ -1,15 +1,9 @@
 package com.javabruse.RxMaster;
 
-import com.javabruse.RxMaster.interfaces.Scheduler;
-
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
-public class IOThreadScheduler implements Scheduler {
-    private final ExecutorService executor = Executors.newCachedThreadPool();
-
-    @Override
-    public void execute(Runnable task) {
-        executor.submit(task);
+public class IOThreadScheduler extends ExecutorScheduler {
+    public IOThreadScheduler() {
+        super(Executors.newCachedThreadPool(new RxThreadFactory("RxIO-")));
     }
 }
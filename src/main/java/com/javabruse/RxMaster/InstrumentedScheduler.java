@@ -0,0 +1,210 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+import com.javabruse.RxMaster.interfaces.Worker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+final class InstrumentedScheduler implements Scheduler {
+    private final Scheduler delegate;
+    private final Metrics metrics;
+
+    InstrumentedScheduler(Scheduler delegate, Metrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        InstrumentedTask instrumented = new InstrumentedTask(task, metrics, null);
+        instrumented.queue();
+        delegate.execute(instrumented);
+    }
+
+    @Override
+    public long now(TimeUnit unit) {
+        return delegate.now(unit);
+    }
+
+    @Override
+    public Worker createWorker() {
+        return new InstrumentedWorker(delegate.createWorker(), metrics);
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    static final class InstrumentedTask extends AtomicInteger implements Runnable, Disposable {
+        private static final AtomicReferenceFieldUpdater<InstrumentedTask, Disposable> HANDLE =
+                AtomicReferenceFieldUpdater.newUpdater(InstrumentedTask.class, Disposable.class, "handle");
+
+        private static final int WAITING = 0;
+        private static final int QUEUED = 1;
+        private static final int STARTED = 2;
+        private static final int CANCELLED = 3;
+
+        private final Runnable task;
+        private final Metrics metrics;
+        private final InstrumentedWorker worker;
+        private volatile Disposable handle;
+
+        InstrumentedTask(Runnable task, Metrics metrics, InstrumentedWorker worker) {
+            this.task = task;
+            this.metrics = metrics;
+            this.worker = worker;
+        }
+
+        boolean queue() {
+            if (!compareAndSet(WAITING, QUEUED)) {
+                return false;
+            }
+            if (worker != null && !worker.acquire()) {
+                set(CANCELLED);
+                return false;
+            }
+            metrics.pending.increment();
+            return true;
+        }
+
+        void submit() {
+            if (queue()) {
+                Disposable d = worker.delegate.schedule(this);
+                handle = d;
+                cancelIfDisposed(d);
+            }
+        }
+
+        void setTimer(Disposable timer) {
+            if (HANDLE.compareAndSet(this, null, timer)) {
+                cancelIfDisposed(timer);
+            }
+        }
+
+        private void cancelIfDisposed(Disposable d) {
+            if (get() == CANCELLED) {
+                d.dispose();
+            }
+        }
+
+        private boolean release() {
+            if (worker != null && !worker.release()) {
+                return false;
+            }
+            metrics.pending.decrement();
+            return true;
+        }
+
+        @Override
+        public void run() {
+            if (!compareAndSet(QUEUED, STARTED) || !release()) {
+                return;
+            }
+            metrics.active.increment();
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                metrics.errors.increment();
+                throw t;
+            } finally {
+                metrics.latency.record(System.nanoTime() - start);
+                metrics.count.increment();
+                metrics.active.decrement();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            for (;;) {
+                int state = get();
+                if (state == STARTED || state == CANCELLED) break;
+                if (compareAndSet(state, CANCELLED)) {
+                    if (state == QUEUED) {
+                        release();
+                    }
+                    break;
+                }
+            }
+            Disposable d = handle;
+            if (d != null) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            int state = get();
+            return state == STARTED || state == CANCELLED;
+        }
+    }
+
+    static final class InstrumentedWorker extends AtomicInteger implements Worker {
+        final Worker delegate;
+        private final Metrics metrics;
+
+        InstrumentedWorker(Worker delegate, Metrics metrics) {
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        boolean acquire() {
+            for (;;) {
+                int queued = get();
+                if (queued < 0) return false;
+                if (compareAndSet(queued, queued + 1)) return true;
+            }
+        }
+
+        boolean release() {
+            for (;;) {
+                int queued = get();
+                if (queued < 0) return false;
+                if (compareAndSet(queued, queued - 1)) return true;
+            }
+        }
+
+        @Override
+        public Disposable schedule(Runnable task) {
+            InstrumentedTask instrumented = new InstrumentedTask(task, metrics, this);
+            instrumented.submit();
+            return instrumented;
+        }
+
+        @Override
+        public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+            InstrumentedTask instrumented = new InstrumentedTask(task, metrics, this);
+            instrumented.setTimer(delegate.schedule(instrumented::submit, delay, unit));
+            return instrumented;
+        }
+
+        @Override
+        public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+            return delegate.schedulePeriodically(() -> timed(task), initialDelay, period, unit);
+        }
+
+        private void timed(Runnable task) {
+            InstrumentedTask instrumented = new InstrumentedTask(task, metrics, null);
+            instrumented.queue();
+            instrumented.run();
+        }
+
+        @Override
+        public void dispose() {
+            int queued = getAndSet(Integer.MIN_VALUE);
+            if (queued > 0) {
+                metrics.pending.add(-queued);
+            }
+            delegate.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return delegate.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.DoubleObserver;
+import com.javabruse.RxMaster.interfaces.IntObserver;
+import com.javabruse.RxMaster.interfaces.LongObserver;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+public class IntObservable {
+
+    public interface OnSubscribe {
+        void subscribe(IntObserver observer);
+    }
+
+    public final OnSubscribe onSubscribe;
+
+    public IntObservable(OnSubscribe onSubscribe) {
+        this.onSubscribe = onSubscribe;
+    }
+
+    public static IntObservable create(OnSubscribe source) {
+        return new IntObservable(source);
+    }
+
+    public static IntObservable of(int... values) {
+        return IntObservable.create(observer -> {
+            BooleanDisposable d = new BooleanDisposable();
+            observer.onSubscribe(d);
+            for (int value : values) {
+                if (d.isDisposed()) return;
+                observer.onNext(value);
+            }
+            if (!d.isDisposed()) {
+                observer.onComplete();
+            }
+        });
+    }
+
+    public static IntObservable range(int start, int count) {
+        if (count < 0) throw new IllegalArgumentException("count >= 0 required");
+        if ((long) start + count - 1 > Integer.MAX_VALUE) throw new IllegalArgumentException("Integer overflow");
+        return IntObservable.create(observer -> {
+            BooleanDisposable d = new BooleanDisposable();
+            observer.onSubscribe(d);
+            int end = start + count;
+            for (int i = start; i != end; i++) {
+                if (d.isDisposed()) return;
+                observer.onNext(i);
+            }
+            if (!d.isDisposed()) {
+                observer.onComplete();
+            }
+        });
+    }
+
+    public Disposable subscribe(IntObserver observer) {
+        SafeIntObserver safeObserver = new SafeIntObserver(observer);
+        onSubscribe.subscribe(safeObserver);
+        return safeObserver;
+    }
+
+    public IntObservable map(IntUnaryOperator mapper) {
+        return IntObservable.create(observer -> onSubscribe.subscribe(new MapObserver(observer, mapper)));
+    }
+
+    public IntObservable filter(IntPredicate predicate) {
+        return IntObservable.create(observer -> onSubscribe.subscribe(new FilterObserver(observer, predicate)));
+    }
+
+    public <R> Observable<R> mapToObj(IntFunction<R> mapper) {
+        return Observable.unsafeCreate(observer -> onSubscribe.subscribe(new MapToObjObserver<>(observer, mapper)));
+    }
+
+    public Observable<Integer> boxed() {
+        return mapToObj(Integer::valueOf);
+    }
+
+    public LongObservable asLongObservable() {
+        return LongObservable.create(observer -> onSubscribe.subscribe(new AsLongObserver(observer)));
+    }
+
+    public DoubleObservable asDoubleObservable() {
+        return DoubleObservable.create(observer -> onSubscribe.subscribe(new AsDoubleObserver(observer)));
+    }
+
+    public LongObservable sum() {
+        return asLongObservable().sum();
+    }
+
+    public IntObservable min() {
+        return reduce(true);
+    }
+
+    public IntObservable max() {
+        return reduce(false);
+    }
+
+    private IntObservable reduce(boolean min) {
+        return IntObservable.create(observer -> onSubscribe.subscribe(new MinMaxObserver(observer, min)));
+    }
+
+    public LongObservable count() {
+        return asLongObservable().count();
+    }
+
+    public DoubleObservable average() {
+        return asLongObservable().average();
+    }
+
+    static final class MapObserver extends PrimitiveStage<IntObserver> implements IntObserver {
+        private final IntUnaryOperator mapper;
+
+        MapObserver(IntObserver downstream, IntUnaryOperator mapper) {
+            super(downstream);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onNext(int item) {
+            if (done) return;
+            int mapped;
+            try {
+                mapped = mapper.applyAsInt(item);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+    }
+
+    static final class FilterObserver extends PrimitiveStage<IntObserver> implements IntObserver {
+        private final IntPredicate predicate;
+
+        FilterObserver(IntObserver downstream, IntPredicate predicate) {
+            super(downstream);
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void onNext(int item) {
+            if (done) return;
+            boolean pass;
+            try {
+                pass = predicate.test(item);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            if (pass) {
+                downstream.onNext(item);
+            }
+        }
+    }
+
+    static final class MapToObjObserver<R> extends PrimitiveStage<Observer<R>> implements IntObserver {
+        private final IntFunction<R> mapper;
+
+        MapToObjObserver(Observer<R> downstream, IntFunction<R> mapper) {
+            super(downstream);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onNext(int item) {
+            if (done) return;
+            R mapped;
+            try {
+                mapped = mapper.apply(item);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+    }
+
+    static final class AsLongObserver extends PrimitiveStage<LongObserver> implements IntObserver {
+        AsLongObserver(LongObserver downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(int item) {
+            downstream.onNext(item);
+        }
+    }
+
+    static final class AsDoubleObserver extends PrimitiveStage<DoubleObserver> implements IntObserver {
+        AsDoubleObserver(DoubleObserver downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(int item) {
+            downstream.onNext(item);
+        }
+    }
+
+    static final class MinMaxObserver extends PrimitiveStage.Aggregate<IntObserver> implements IntObserver {
+        private final boolean min;
+        private boolean hasValue;
+        private int value;
+
+        MinMaxObserver(IntObserver downstream, boolean min) {
+            super(downstream);
+            this.min = min;
+        }
+
+        @Override
+        public void onNext(int item) {
+            if (done) return;
+            if (!hasValue) {
+                hasValue = true;
+                value = item;
+            } else {
+                value = min ? Math.min(value, item) : Math.max(value, item);
+            }
+        }
+
+        @Override
+        void emitResult() {
+            if (hasValue) {
+                downstream.onNext(value);
+            }
+        }
+    }
+
+    static final class FromObjObserver<T> extends PrimitiveStage<IntObserver> implements Observer<T> {
+        private final ToIntFunction<T> mapper;
+
+        FromObjObserver(IntObserver downstream, ToIntFunction<T> mapper) {
+            super(downstream);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            int mapped;
+            try {
+                mapped = mapper.applyAsInt(item);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+    }
+
+    static final class SafeIntObserver extends SafePrimitiveObserver<IntObserver> implements IntObserver {
+        SafeIntObserver(IntObserver downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(int item) {
+            if (isActive()) {
+                downstream.onNext(item);
+            }
+        }
+    }
+}
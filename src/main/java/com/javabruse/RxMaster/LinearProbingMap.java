@@ -0,0 +1,155 @@
+package com.javabruse.RxMaster;
+
+import java.util.Arrays;
+
+final class LinearProbingMap<K, V> {
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private Object[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int maxSize;
+
+    LinearProbingMap() {
+        this(16);
+    }
+
+    LinearProbingMap(int capacity) {
+        int c = Math.max(4, roundToPowerOfTwo(capacity));
+        keys = new Object[c];
+        values = new Object[c];
+        mask = c - 1;
+        maxSize = (int) (c * LOAD_FACTOR);
+    }
+
+    static int roundToPowerOfTwo(int value) {
+        return 1 << (32 - Integer.numberOfLeadingZeros(value - 1));
+    }
+
+    static int mix(int x) {
+        int h = x * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(K key) {
+        Object[] k = keys;
+        int m = mask;
+        int pos = mix(key.hashCode()) & m;
+        for (;;) {
+            Object current = k[pos];
+            if (current == null) {
+                return null;
+            }
+            if (current.equals(key)) {
+                return (V) values[pos];
+            }
+            pos = (pos + 1) & m;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    V put(K key, V value) {
+        Object[] k = keys;
+        int m = mask;
+        int pos = mix(key.hashCode()) & m;
+        for (;;) {
+            Object current = k[pos];
+            if (current == null) {
+                k[pos] = key;
+                values[pos] = value;
+                if (++size >= maxSize) {
+                    rehash();
+                }
+                return null;
+            }
+            if (current.equals(key)) {
+                V previous = (V) values[pos];
+                values[pos] = value;
+                return previous;
+            }
+            pos = (pos + 1) & m;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(K key) {
+        Object[] k = keys;
+        int m = mask;
+        int pos = mix(key.hashCode()) & m;
+        for (;;) {
+            Object current = k[pos];
+            if (current == null) {
+                return null;
+            }
+            if (current.equals(key)) {
+                V previous = (V) values[pos];
+                size--;
+                shiftBack(pos);
+                return previous;
+            }
+            pos = (pos + 1) & m;
+        }
+    }
+
+    private void shiftBack(int pos) {
+        Object[] k = keys;
+        Object[] v = values;
+        int m = mask;
+        for (;;) {
+            int last = pos;
+            pos = (pos + 1) & m;
+            Object current;
+            for (;;) {
+                current = k[pos];
+                if (current == null) {
+                    k[last] = null;
+                    v[last] = null;
+                    return;
+                }
+                int slot = mix(current.hashCode()) & m;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & m;
+            }
+            k[last] = current;
+            v[last] = v[pos];
+        }
+    }
+
+    private void rehash() {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int c = oldKeys.length << 1;
+        int m = c - 1;
+        Object[] k = new Object[c];
+        Object[] v = new Object[c];
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object key = oldKeys[i];
+            if (key != null) {
+                int pos = mix(key.hashCode()) & m;
+                while (k[pos] != null) {
+                    pos = (pos + 1) & m;
+                }
+                k[pos] = key;
+                v[pos] = oldValues[i];
+            }
+        }
+        keys = k;
+        values = v;
+        mask = m;
+        maxSize = (int) (c * LOAD_FACTOR);
+    }
+
+    void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+}
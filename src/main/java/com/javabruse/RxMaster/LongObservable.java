@@ -0,0 +1,313 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.DoubleObserver;
+import com.javabruse.RxMaster.interfaces.LongObserver;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+public class LongObservable {
+
+    public interface OnSubscribe {
+        void subscribe(LongObserver observer);
+    }
+
+    public final OnSubscribe onSubscribe;
+
+    public LongObservable(OnSubscribe onSubscribe) {
+        this.onSubscribe = onSubscribe;
+    }
+
+    public static LongObservable create(OnSubscribe source) {
+        return new LongObservable(source);
+    }
+
+    public static LongObservable of(long... values) {
+        return LongObservable.create(observer -> {
+            BooleanDisposable d = new BooleanDisposable();
+            observer.onSubscribe(d);
+            for (long value : values) {
+                if (d.isDisposed()) return;
+                observer.onNext(value);
+            }
+            if (!d.isDisposed()) {
+                observer.onComplete();
+            }
+        });
+    }
+
+    public static LongObservable range(long start, long count) {
+        if (count < 0) throw new IllegalArgumentException("count >= 0 required");
+        if (count > 0 && start > Long.MAX_VALUE - (count - 1)) throw new IllegalArgumentException("Long overflow");
+        return LongObservable.create(observer -> {
+            BooleanDisposable d = new BooleanDisposable();
+            observer.onSubscribe(d);
+            long end = start + count;
+            for (long i = start; i != end; i++) {
+                if (d.isDisposed()) return;
+                observer.onNext(i);
+            }
+            if (!d.isDisposed()) {
+                observer.onComplete();
+            }
+        });
+    }
+
+    public Disposable subscribe(LongObserver observer) {
+        SafeLongObserver safeObserver = new SafeLongObserver(observer);
+        onSubscribe.subscribe(safeObserver);
+        return safeObserver;
+    }
+
+    public LongObservable map(LongUnaryOperator mapper) {
+        return LongObservable.create(observer -> onSubscribe.subscribe(new MapObserver(observer, mapper)));
+    }
+
+    public LongObservable filter(LongPredicate predicate) {
+        return LongObservable.create(observer -> onSubscribe.subscribe(new FilterObserver(observer, predicate)));
+    }
+
+    public <R> Observable<R> mapToObj(LongFunction<R> mapper) {
+        return Observable.unsafeCreate(observer -> onSubscribe.subscribe(new MapToObjObserver<>(observer, mapper)));
+    }
+
+    public Observable<Long> boxed() {
+        return mapToObj(Long::valueOf);
+    }
+
+    public DoubleObservable asDoubleObservable() {
+        return DoubleObservable.create(observer -> onSubscribe.subscribe(new AsDoubleObserver(observer)));
+    }
+
+    public LongObservable sum() {
+        return LongObservable.create(observer -> onSubscribe.subscribe(new SumObserver(observer)));
+    }
+
+    public LongObservable min() {
+        return reduce(true);
+    }
+
+    public LongObservable max() {
+        return reduce(false);
+    }
+
+    private LongObservable reduce(boolean min) {
+        return LongObservable.create(observer -> onSubscribe.subscribe(new MinMaxObserver(observer, min)));
+    }
+
+    public LongObservable count() {
+        return LongObservable.create(observer -> onSubscribe.subscribe(new CountObserver(observer)));
+    }
+
+    public DoubleObservable average() {
+        return DoubleObservable.create(observer -> onSubscribe.subscribe(new AverageObserver(observer)));
+    }
+
+    static final class MapObserver extends PrimitiveStage<LongObserver> implements LongObserver {
+        private final LongUnaryOperator mapper;
+
+        MapObserver(LongObserver downstream, LongUnaryOperator mapper) {
+            super(downstream);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onNext(long item) {
+            if (done) return;
+            long mapped;
+            try {
+                mapped = mapper.applyAsLong(item);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+    }
+
+    static final class FilterObserver extends PrimitiveStage<LongObserver> implements LongObserver {
+        private final LongPredicate predicate;
+
+        FilterObserver(LongObserver downstream, LongPredicate predicate) {
+            super(downstream);
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void onNext(long item) {
+            if (done) return;
+            boolean pass;
+            try {
+                pass = predicate.test(item);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            if (pass) {
+                downstream.onNext(item);
+            }
+        }
+    }
+
+    static final class MapToObjObserver<R> extends PrimitiveStage<Observer<R>> implements LongObserver {
+        private final LongFunction<R> mapper;
+
+        MapToObjObserver(Observer<R> downstream, LongFunction<R> mapper) {
+            super(downstream);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onNext(long item) {
+            if (done) return;
+            R mapped;
+            try {
+                mapped = mapper.apply(item);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+    }
+
+    static final class AsDoubleObserver extends PrimitiveStage<DoubleObserver> implements LongObserver {
+        AsDoubleObserver(DoubleObserver downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(long item) {
+            downstream.onNext(item);
+        }
+    }
+
+    static final class MinMaxObserver extends PrimitiveStage.Aggregate<LongObserver> implements LongObserver {
+        private final boolean min;
+        private boolean hasValue;
+        private long value;
+
+        MinMaxObserver(LongObserver downstream, boolean min) {
+            super(downstream);
+            this.min = min;
+        }
+
+        @Override
+        public void onNext(long item) {
+            if (done) return;
+            if (!hasValue) {
+                hasValue = true;
+                value = item;
+            } else {
+                value = min ? Math.min(value, item) : Math.max(value, item);
+            }
+        }
+
+        @Override
+        void emitResult() {
+            if (hasValue) {
+                downstream.onNext(value);
+            }
+        }
+    }
+
+    static final class SumObserver extends PrimitiveStage.Aggregate<LongObserver> implements LongObserver {
+        private long sum;
+
+        SumObserver(LongObserver downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(long item) {
+            if (done) return;
+            sum += item;
+        }
+
+        @Override
+        void emitResult() {
+            downstream.onNext(sum);
+        }
+    }
+
+    static final class CountObserver extends PrimitiveStage.Aggregate<LongObserver> implements LongObserver {
+        private long count;
+
+        CountObserver(LongObserver downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(long item) {
+            if (done) return;
+            count++;
+        }
+
+        @Override
+        void emitResult() {
+            downstream.onNext(count);
+        }
+    }
+
+    static final class AverageObserver extends PrimitiveStage.Aggregate<DoubleObserver> implements LongObserver {
+        private long sum;
+        private long count;
+
+        AverageObserver(DoubleObserver downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(long item) {
+            if (done) return;
+            sum += item;
+            count++;
+        }
+
+        @Override
+        void emitResult() {
+            if (count != 0) {
+                downstream.onNext((double) sum / count);
+            }
+        }
+    }
+
+    static final class FromObjObserver<T> extends PrimitiveStage<LongObserver> implements Observer<T> {
+        private final ToLongFunction<T> mapper;
+
+        FromObjObserver(LongObserver downstream, ToLongFunction<T> mapper) {
+            super(downstream);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            long mapped;
+            try {
+                mapped = mapper.applyAsLong(item);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+    }
+
+    static final class SafeLongObserver extends SafePrimitiveObserver<LongObserver> implements LongObserver {
+        SafeLongObserver(LongObserver downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(long item) {
+            if (isActive()) {
+                downstream.onNext(item);
+            }
+        }
+    }
+}
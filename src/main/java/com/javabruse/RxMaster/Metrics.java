@@ -0,0 +1,74 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.MetricsMBean;
+
+import java.util.concurrent.atomic.LongAdder;
+
+final class Metrics implements MetricsMBean {
+    final String name;
+    final LongAdder count = new LongAdder();
+    final LongAdder errors = new LongAdder();
+    final LongAdder pending = new LongAdder();
+    final LongAdder active = new LongAdder();
+    final LatencyHistogram latency = new LatencyHistogram();
+    private volatile long startNanos = System.nanoTime();
+
+    Metrics(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public double getRatePerSecond() {
+        long elapsed = System.nanoTime() - startNanos;
+        return elapsed <= 0 ? 0 : count.sum() * 1_000_000_000.0 / elapsed;
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getLatencyP50Nanos() {
+        return latency.percentile(50);
+    }
+
+    @Override
+    public long getLatencyP99Nanos() {
+        return latency.percentile(99);
+    }
+
+    @Override
+    public long getLatencyMaxNanos() {
+        return latency.max();
+    }
+
+    @Override
+    public long getPending() {
+        return pending.sum();
+    }
+
+    @Override
+    public long getActive() {
+        return active.sum();
+    }
+
+    @Override
+    public void reset() {
+        count.reset();
+        errors.reset();
+        latency.reset();
+        startNanos = System.nanoTime();
+    }
+
+    MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(name, getCount(), getRatePerSecond(), getErrors(),
+                latency.percentile(50), latency.percentile(90), latency.percentile(99), latency.percentile(99.9),
+                latency.max(), getPending(), getActive());
+    }
+}
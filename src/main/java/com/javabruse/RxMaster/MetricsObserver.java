@@ -0,0 +1,71 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+final class MetricsObserver<T> extends AtomicBoolean implements Observer<T>, Disposable {
+    private final Observer<T> downstream;
+    private final Metrics metrics;
+    private Disposable upstream;
+
+    MetricsObserver(Observer<T> downstream, Metrics metrics) {
+        this.downstream = downstream;
+        this.metrics = metrics;
+        metrics.active.increment();
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        upstream = d;
+        downstream.onSubscribe(this);
+    }
+
+    @Override
+    public void onNext(T item) {
+        metrics.pending.increment();
+        long start = System.nanoTime();
+        try {
+            downstream.onNext(item);
+        } finally {
+            metrics.latency.record(System.nanoTime() - start);
+            metrics.pending.decrement();
+            metrics.count.increment();
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        metrics.errors.increment();
+        finish();
+        downstream.onError(t);
+    }
+
+    @Override
+    public void onComplete() {
+        finish();
+        downstream.onComplete();
+    }
+
+    private void finish() {
+        if (compareAndSet(false, true)) {
+            metrics.active.decrement();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        finish();
+        Disposable d = upstream;
+        if (d != null) {
+            d.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        Disposable d = upstream;
+        return d != null && d.isDisposed();
+    }
+}
@@ -0,0 +1,14 @@
+package com.javabruse.RxMaster;
+
+public record MetricsSnapshot(String name,
+                              long count,
+                              double ratePerSecond,
+                              long errors,
+                              long p50Nanos,
+                              long p90Nanos,
+                              long p99Nanos,
+                              long p999Nanos,
+                              long maxNanos,
+                              long pending,
+                              long active) {
+}
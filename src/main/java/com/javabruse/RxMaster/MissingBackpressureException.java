@@ -0,0 +1,7 @@
+package com.javabruse.RxMaster;
+
+public class MissingBackpressureException extends RuntimeException {
+    public MissingBackpressureException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,61 @@
+package com.javabruse.RxMaster;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+final class MpscLinkedQueue<T> implements SimpleQueue<T> {
+    private static final class Node<T> extends AtomicReference<Node<T>> {
+        T value;
+
+        Node(T value) {
+            this.value = value;
+        }
+    }
+
+    private final AtomicReference<Node<T>> producerNode;
+    private Node<T> consumerNode;
+
+    MpscLinkedQueue() {
+        Node<T> stub = new Node<>(null);
+        this.producerNode = new AtomicReference<>(stub);
+        this.consumerNode = stub;
+    }
+
+    @Override
+    public boolean offer(T item) {
+        Objects.requireNonNull(item, "item is null");
+        Node<T> node = new Node<>(item);
+        Node<T> previous = producerNode.getAndSet(node);
+        previous.lazySet(node);
+        return true;
+    }
+
+    @Override
+    public T poll() {
+        Node<T> current = consumerNode;
+        Node<T> next = current.get();
+        if (next == null) {
+            if (current == producerNode.get()) {
+                return null;
+            }
+            while ((next = current.get()) == null) {
+                Thread.onSpinWait();
+            }
+        }
+        T item = next.value;
+        next.value = null;
+        consumerNode = next;
+        return item;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return consumerNode == producerNode.get();
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null) {
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+
+enum NotificationLite {
+    COMPLETE;
+
+    static final class ErrorNotification {
+        final Throwable error;
+
+        ErrorNotification(Throwable error) {
+            this.error = error;
+        }
+    }
+
+    static Object complete() {
+        return COMPLETE;
+    }
+
+    static Object error(Throwable t) {
+        return new ErrorNotification(t);
+    }
+
+    static boolean isComplete(Object o) {
+        return o == COMPLETE;
+    }
+
+    static boolean isError(Object o) {
+        return o instanceof ErrorNotification;
+    }
+
+    static Throwable getError(Object o) {
+        return ((ErrorNotification) o).error;
+    }
+
+    static boolean isTerminal(Object o) {
+        return o == COMPLETE || o instanceof ErrorNotification;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> boolean accept(Object o, Observer<T> observer) {
+        if (o == COMPLETE) {
+            observer.onComplete();
+            return true;
+        }
+        if (o instanceof ErrorNotification notification) {
+            observer.onError(notification.error);
+            return true;
+        }
+        observer.onNext((T) o);
+        return false;
+    }
+}
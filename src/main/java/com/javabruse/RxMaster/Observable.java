@@ -1,12 +1,38 @@
 package com.javabruse.RxMaster;
 
 import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.ObservableEmitter;
 import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.RetryPolicy;
 import com.javabruse.RxMaster.interfaces.Scheduler;
+import com.javabruse.RxMaster.interfaces.Worker;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
 public class Observable<T> {
 
@@ -14,168 +40,671 @@ public class Observable<T> {
         void subscribe(Observer<T> observer);
     }
 
+    public interface EmitterOnSubscribe<T> {
+        void subscribe(ObservableEmitter<T> emitter);
+    }
+
     public final OnSubscribe<T> onSubscribe;
 
     public Observable(OnSubscribe<T> onSubscribe) {
         this.onSubscribe = onSubscribe;
     }
 
+    Observable() {
+        this.onSubscribe = this::subscribeActual;
+    }
+
     public static <T> Observable<T> create(OnSubscribe<T> source) {
-        return new Observable<>(source);
+        return RxPlugins.onAssembly(new Observable<>(source));
     }
 
-    public Disposable subscribe(Observer<T> observer) {
-        AtomicBoolean isDisposed = new AtomicBoolean(false);
+    public static <T> Observable<T> createSerialized(EmitterOnSubscribe<T> source) {
+        Objects.requireNonNull(source, "source is null");
+        return Observable.unsafeCreate(observer -> {
+            CreateEmitter<T> emitter = new CreateEmitter<>(observer);
+            observer.onSubscribe(emitter);
+            source.subscribe(emitter.serialize());
+        });
+    }
 
-        Observer<T> safeObserver = new Observer<T>() {
-            @Override
-            public void onNext(T item) {
-                if (!isDisposed.get()) observer.onNext(item);
-            }
+    @SafeVarargs
+    public static <T> Observable<T> fromArray(T... items) {
+        return RxPlugins.onAssembly(new ObservableFromArray<>(items));
+    }
 
-            @Override
-            public void onError(Throwable t) {
-                if (!isDisposed.get()) observer.onError(t);
-            }
+    public static <T> Observable<T> fromIterable(Iterable<T> items) {
+        return RxPlugins.onAssembly(new ObservableFromIterable<>(items));
+    }
 
-            @Override
-            public void onComplete() {
-                if (!isDisposed.get()) observer.onComplete();
+    public static <T> Observable<T> just(T item) {
+        return RxPlugins.onAssembly(new ObservableJust<>(item));
+    }
+
+    public static Observable<Integer> range(int start, int count) {
+        if (count < 0) throw new IllegalArgumentException("count >= 0 required");
+        if ((long) start + count - 1 > Integer.MAX_VALUE) throw new IllegalArgumentException("Integer overflow");
+        return RxPlugins.onAssembly(new ObservableRange(start, count));
+    }
+
+    public static <T> Observable<T> fromPublisher(Flow.Publisher<T> publisher) {
+        return fromPublisher(publisher, Flowable.BUFFER_SIZE);
+    }
+
+    public static <T> Observable<T> fromPublisher(Flow.Publisher<T> publisher, int prefetch) {
+        Objects.requireNonNull(publisher, "publisher is null");
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch > 0 required");
+        return Observable.unsafeCreate(observer -> {
+            FlowInterop.PublisherObserver<T> parent = new FlowInterop.PublisherObserver<>(observer, prefetch);
+            observer.onSubscribe(parent);
+            publisher.subscribe(parent);
+        });
+    }
+
+    public static <T> Observable<T> fromCompletionStage(CompletionStage<T> stage) {
+        Objects.requireNonNull(stage, "stage is null");
+        return Observable.unsafeCreate(observer -> {
+            FlowInterop.StageObserver<T> parent = new FlowInterop.StageObserver<>(observer);
+            observer.onSubscribe(parent);
+            stage.whenComplete(parent);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Observable<T> fromFuture(Future<T> future) {
+        Objects.requireNonNull(future, "future is null");
+        if (future instanceof CompletionStage<?> stage) {
+            return fromCompletionStage((CompletionStage<T>) stage);
+        }
+        return pollFuture(future, TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(100), Schedulers.computation());
+    }
+
+    public static <T> Observable<T> fromFuture(Future<T> future, long pollInterval, TimeUnit unit, Scheduler scheduler) {
+        Objects.requireNonNull(future, "future is null");
+        if (pollInterval <= 0) throw new IllegalArgumentException("pollInterval > 0 required");
+        long interval = unit.toNanos(pollInterval);
+        return pollFuture(future, interval, interval, scheduler);
+    }
+
+    private static <T> Observable<T> pollFuture(Future<T> future, long minDelayNanos, long maxDelayNanos, Scheduler scheduler) {
+        return Observable.unsafeCreate(observer -> {
+            Worker worker = scheduler.createWorker();
+            FlowInterop.FuturePoller<T> poller = new FlowInterop.FuturePoller<>(observer, future, worker, minDelayNanos, maxDelayNanos);
+            observer.onSubscribe(poller);
+            worker.schedule(poller);
+        });
+    }
+
+    public static Observable<ByteBuffer> fromFile(Path path, int chunkSize) {
+        return fromFile(path, chunkSize, Schedulers.io());
+    }
+
+    public static Observable<ByteBuffer> fromFile(Path path, int chunkSize, Scheduler scheduler) {
+        Objects.requireNonNull(path, "path is null");
+        if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize > 0 required");
+        return new ObservableFromFile(path, chunkSize).subscribeOn(scheduler);
+    }
+
+    public static Observable<ByteBuffer> splitRecords(Observable<ByteBuffer> chunks, byte delimiter) {
+        Objects.requireNonNull(chunks, "chunks is null");
+        return Observable.unsafeCreate(observer -> chunks.subscribeActual(new RecordSplitter(observer, delimiter)));
+    }
+
+    public static Observable<Long> writeToFile(Observable<ByteBuffer> source, Path path, int batchSize) {
+        return writeToFile(source, path, batchSize, Schedulers.io());
+    }
+
+    public static Observable<Long> writeToFile(Observable<ByteBuffer> source, Path path, int batchSize, Scheduler scheduler) {
+        Objects.requireNonNull(path, "path is null");
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize > 0 required");
+        Objects.requireNonNull(scheduler, "scheduler is null");
+        return Observable.unsafeCreate(observer -> {
+            FileWriteObserver parent = new FileWriteObserver(observer, path, batchSize, scheduler.createWorker());
+            parent.start();
+            source.subscribeActual(parent);
+        });
+    }
+
+    public static <T> Observable<T> merge(Iterable<Observable<T>> sources) {
+        return merge(sources, Integer.MAX_VALUE, Flowable.BUFFER_SIZE);
+    }
+
+    public static <T> Observable<T> merge(Iterable<Observable<T>> sources, int maxConcurrency, int prefetch) {
+        Objects.requireNonNull(sources, "sources is null");
+        return fromIterable(sources).flatMap(source -> source, maxConcurrency, prefetch);
+    }
+
+    @SafeVarargs
+    public static <T> Observable<T> merge(Observable<T>... sources) {
+        return merge(Arrays.asList(sources));
+    }
+
+    public static <T> Observable<T> concat(Iterable<Observable<T>> sources) {
+        return concat(sources, Flowable.BUFFER_SIZE);
+    }
+
+    public static <T> Observable<T> concat(Iterable<Observable<T>> sources, int prefetch) {
+        return merge(sources, 1, prefetch);
+    }
+
+    @SafeVarargs
+    public static <T> Observable<T> concat(Observable<T>... sources) {
+        return concat(Arrays.asList(sources));
+    }
+
+    public static <T, R> Observable<R> zip(Iterable<Observable<T>> sources, Function<Object[], R> zipper) {
+        return zip(sources, zipper, Flowable.BUFFER_SIZE);
+    }
+
+    public static <T, R> Observable<R> zip(Iterable<Observable<T>> sources, Function<Object[], R> zipper, int prefetch) {
+        Objects.requireNonNull(sources, "sources is null");
+        Objects.requireNonNull(zipper, "zipper is null");
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch > 0 required");
+        return Observable.unsafeCreate(observer -> {
+            Observable<?>[] array = toSourceArray(sources);
+            if (array.length == 0) {
+                observer.onSubscribe(Disposables.disposed());
+                observer.onComplete();
+                return;
             }
-        };
+            new ObservableZip<>(observer, zipper, array.length, prefetch).subscribe(array);
+        });
+    }
 
-        onSubscribe.subscribe(safeObserver);
+    @SuppressWarnings("unchecked")
+    public static <A, B, R> Observable<R> zip(Observable<A> first, Observable<B> second, BiFunction<A, B, R> zipper) {
+        Objects.requireNonNull(zipper, "zipper is null");
+        return zip(Arrays.asList((Observable<Object>) first, (Observable<Object>) second),
+                row -> zipper.apply((A) row[0], (B) row[1]));
+    }
 
-        return new Disposable() {
-            @Override
-            public void dispose() {
-                isDisposed.set(true);
+    public static <T, R> Observable<R> combineLatest(Iterable<Observable<T>> sources, Function<Object[], R> combiner) {
+        return combineLatest(sources, combiner, Flowable.BUFFER_SIZE);
+    }
+
+    public static <T, R> Observable<R> combineLatest(Iterable<Observable<T>> sources, Function<Object[], R> combiner, int prefetch) {
+        Objects.requireNonNull(sources, "sources is null");
+        Objects.requireNonNull(combiner, "combiner is null");
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch > 0 required");
+        return Observable.unsafeCreate(observer -> {
+            Observable<?>[] array = toSourceArray(sources);
+            if (array.length == 0) {
+                observer.onSubscribe(Disposables.disposed());
+                observer.onComplete();
+                return;
             }
+            new ObservableCombineLatest<>(observer, combiner, array.length, prefetch).subscribe(array);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, R> Observable<R> combineLatest(Observable<A> first, Observable<B> second, BiFunction<A, B, R> combiner) {
+        Objects.requireNonNull(combiner, "combiner is null");
+        return combineLatest(Arrays.asList((Observable<Object>) first, (Observable<Object>) second),
+                row -> combiner.apply((A) row[0], (B) row[1]));
+    }
+
+    private static <T> Observable<?>[] toSourceArray(Iterable<Observable<T>> sources) {
+        List<Observable<?>> list = new ArrayList<>();
+        for (Observable<T> source : sources) {
+            list.add(Objects.requireNonNull(source, "source is null"));
+        }
+        return list.toArray(new Observable<?>[0]);
+    }
 
+    static <T> Observable<T> unsafeCreate(OnSubscribe<T> source) {
+        return RxPlugins.onAssembly(new Observable<T>() {
             @Override
-            public boolean isDisposed() {
-                return isDisposed.get();
+            void subscribeActual(Observer<T> observer) {
+                source.subscribe(observer);
             }
-        };
+        });
+    }
+
+    void subscribeActual(Observer<T> observer) {
+        CreateEmitter<T> emitter = new CreateEmitter<>(observer);
+        observer.onSubscribe(emitter);
+        onSubscribe.subscribe(emitter);
+    }
+
+    public Disposable subscribe(Observer<T> observer) {
+        SafeObserver<T> safeObserver = new SafeObserver<>(observer);
+        subscribeActual(safeObserver);
+        return safeObserver;
+    }
+
+    public TestObserver<T> test() {
+        TestObserver<T> observer = new TestObserver<>();
+        subscribeActual(observer);
+        return observer;
     }
 
     public <R> Observable<R> map(Function<T, R> mapper) {
-        return Observable.create(observer ->
-                this.subscribe(new Observer<T>() {
-                    @Override
-                    public void onNext(T item) {
-                        try {
-                            R mapped = mapper.apply(item);
-                            observer.onNext(mapped);
-                        } catch (Throwable t) {
-                            observer.onError(t);
-                        }
-                    }
-
-                    @Override
-                    public void onError(Throwable t) {
-                        observer.onError(t);
-                    }
-
-                    @Override
-                    public void onComplete() {
-                        observer.onComplete();
-                    }
-                })
-        );
+        return RxPlugins.onAssembly(FusedMapFilter.map(this, mapper));
     }
 
     public Observable<T> filter(Predicate<T> predicate) {
-        return Observable.create(observer ->
-                this.subscribe(new Observer<T>() {
-                    @Override
-                    public void onNext(T item) {
-                        try {
-                            if (predicate.test(item)) {
-                                observer.onNext(item);
-                            }
-                        } catch (Throwable t) {
-                            observer.onError(t);
-                        }
-                    }
-
-                    @Override
-                    public void onError(Throwable t) {
-                        observer.onError(t);
-                    }
-
-                    @Override
-                    public void onComplete() {
-                        observer.onComplete();
-                    }
-                })
-        );
+        return RxPlugins.onAssembly(FusedMapFilter.filter(this, predicate));
     }
 
     public Observable<T> subscribeOn(Scheduler scheduler) {
-        return Observable.create(observer ->
-                scheduler.execute(() -> Observable.this.subscribe(observer))
-        );
+        return Observable.unsafeCreate(observer -> {
+            SubscribeOnObserver<T> parent = new SubscribeOnObserver<>(observer);
+            observer.onSubscribe(parent);
+            parent.setTask(scheduler.schedule(() -> this.subscribeActual(parent), 0, TimeUnit.NANOSECONDS));
+        });
     }
 
     public Observable<T> observeOn(Scheduler scheduler) {
-        return Observable.create(observer ->
-                this.subscribe(new Observer<T>() {
-                    @Override
-                    public void onNext(T item) {
-                        scheduler.execute(() -> observer.onNext(item));
-                    }
-
-                    @Override
-                    public void onError(Throwable t) {
-                        scheduler.execute(() -> observer.onError(t));
-                    }
-
-                    @Override
-                    public void onComplete() {
-                        scheduler.execute(observer::onComplete);
-                    }
-                })
+        return observeOn(scheduler, Flowable.BUFFER_SIZE);
+    }
+
+    public Observable<T> observeOn(Scheduler scheduler, int bufferSize) {
+        if (bufferSize <= 0) throw new IllegalArgumentException("bufferSize > 0 required");
+        return Observable.unsafeCreate(observer ->
+                this.subscribeActual(new ObserveOnObserver<>(observer, scheduler.createWorker(), bufferSize))
         );
     }
 
     public <R> Observable<R> flatMap(Function<T, Observable<R>> mapper) {
-        return Observable.create(observer ->
-                this.subscribe(new Observer<T>() {
-                    @Override
-                    public void onNext(T item) {
-                        try {
-                            Observable<R> inner = mapper.apply(item);
-                            inner.subscribe(new Observer<R>() {
-                                @Override
-                                public void onNext(R r) {
-                                    observer.onNext(r);
-                                }
-
-                                @Override
-                                public void onError(Throwable t) {
-                                    observer.onError(t);
-                                }
-
-                                @Override
-                                public void onComplete() {
-                                }
-                            });
-                        } catch (Throwable t) {
-                            observer.onError(t);
-                        }
-                    }
-
-                    @Override
-                    public void onError(Throwable t) {
-                        observer.onError(t);
-                    }
-
-                    @Override
-                    public void onComplete() {
-                        observer.onComplete();
-                    }
-                })
+        return flatMap(mapper, Integer.MAX_VALUE, Flowable.BUFFER_SIZE);
+    }
+
+    public <R> Observable<R> flatMap(Function<T, Observable<R>> mapper, int maxConcurrency, int prefetch) {
+        if (maxConcurrency <= 0) throw new IllegalArgumentException("maxConcurrency > 0 required");
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch > 0 required");
+        return Observable.unsafeCreate(observer ->
+                this.subscribeActual(new ObservableFlatMap<>(observer, mapper, maxConcurrency, prefetch))
+        );
+    }
+
+    public Observable<List<T>> buffer(int count) {
+        return buffer(count, () -> new ArrayList<>(count));
+    }
+
+    public <C extends Collection<T>> Observable<C> buffer(int count, Supplier<C> bufferSupplier) {
+        if (count <= 0) throw new IllegalArgumentException("count > 0 required");
+        return Observable.unsafeCreate(observer ->
+                this.subscribeActual(new ObservableBuffer.ExactObserver<>(observer, count, bufferSupplier))
+        );
+    }
+
+    public Observable<List<T>> buffer(long time, TimeUnit unit, int maxSize) {
+        return buffer(time, unit, maxSize, Schedulers.computation());
+    }
+
+    public Observable<List<T>> buffer(long time, TimeUnit unit, int maxSize, Scheduler scheduler) {
+        if (time <= 0) throw new IllegalArgumentException("time > 0 required");
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize > 0 required");
+        return Observable.unsafeCreate(observer -> {
+            ObservableBuffer.TimedObserver<T> buffer =
+                    new ObservableBuffer.TimedObserver<>(observer, scheduler.createWorker(), maxSize);
+            buffer.start(time, unit);
+            this.subscribeActual(buffer);
+        });
+    }
+
+    public Observable<Observable<T>> window(int count) {
+        if (count <= 0) throw new IllegalArgumentException("count > 0 required");
+        return Observable.unsafeCreate(observer ->
+                this.subscribeActual(new ObservableWindow.ExactObserver<>(observer, count))
+        );
+    }
+
+    public Observable<Observable<T>> window(long time, TimeUnit unit, int maxSize) {
+        return window(time, unit, maxSize, Schedulers.computation());
+    }
+
+    public Observable<Observable<T>> window(long time, TimeUnit unit, int maxSize, Scheduler scheduler) {
+        if (time <= 0) throw new IllegalArgumentException("time > 0 required");
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize > 0 required");
+        return Observable.unsafeCreate(observer -> {
+            ObservableWindow.TimedObserver<T> window =
+                    new ObservableWindow.TimedObserver<>(observer, scheduler.createWorker(), maxSize);
+            window.start(time, unit);
+            this.subscribeActual(window);
+        });
+    }
+
+    public Observable<T> reduce(BinaryOperator<T> reducer) {
+        Objects.requireNonNull(reducer, "reducer is null");
+        return Observable.unsafeCreate(observer ->
+                this.subscribeActual(new ObservableAggregate.ReduceObserver<>(observer, null, reducer, false))
+        );
+    }
+
+    public <R> Observable<R> reduce(R seed, BiFunction<R, T, R> reducer) {
+        Objects.requireNonNull(reducer, "reducer is null");
+        return Observable.unsafeCreate(observer ->
+                this.subscribeActual(new ObservableAggregate.ReduceObserver<>(observer, seed, reducer, true))
+        );
+    }
+
+    public <C> Observable<C> collect(Supplier<C> containerSupplier, BiConsumer<C, T> collector) {
+        Objects.requireNonNull(containerSupplier, "containerSupplier is null");
+        Objects.requireNonNull(collector, "collector is null");
+        return Observable.unsafeCreate(observer -> {
+            C container;
+            try {
+                container = containerSupplier.get();
+            } catch (Throwable t) {
+                observer.onSubscribe(Disposables.disposed());
+                observer.onError(t);
+                return;
+            }
+            this.subscribeActual(new ObservableAggregate.ReduceObserver<T, C>(observer, container, (c, item) -> {
+                collector.accept(c, item);
+                return c;
+            }, true));
+        });
+    }
+
+    public Observable<T> scan(BinaryOperator<T> accumulator) {
+        Objects.requireNonNull(accumulator, "accumulator is null");
+        return Observable.unsafeCreate(observer ->
+                this.subscribeActual(new ObservableAggregate.ScanObserver<>(observer, null, accumulator, false))
+        );
+    }
+
+    public <R> Observable<R> scan(R seed, BiFunction<R, T, R> accumulator) {
+        Objects.requireNonNull(accumulator, "accumulator is null");
+        return Observable.unsafeCreate(observer ->
+                this.subscribeActual(new ObservableAggregate.ScanObserver<>(observer, seed, accumulator, true))
+        );
+    }
+
+    public <K> Observable<GroupedObservable<K, T>> groupBy(Function<T, K> keySelector) {
+        return groupBy(keySelector, Integer.MAX_VALUE);
+    }
+
+    public <K> Observable<GroupedObservable<K, T>> groupBy(Function<T, K> keySelector, int maxGroups) {
+        Objects.requireNonNull(keySelector, "keySelector is null");
+        if (maxGroups <= 0) throw new IllegalArgumentException("maxGroups > 0 required");
+        return Observable.unsafeCreate(observer ->
+                this.subscribeActual(new ObservableGroupBy<>(observer, keySelector, maxGroups, 0L, TimeUnit.NANOSECONDS, null))
+        );
+    }
+
+    public <K> Observable<GroupedObservable<K, T>> groupBy(Function<T, K> keySelector, int maxGroups, long idleTimeout, TimeUnit unit) {
+        return groupBy(keySelector, maxGroups, idleTimeout, unit, Schedulers.computation());
+    }
+
+    public <K> Observable<GroupedObservable<K, T>> groupBy(Function<T, K> keySelector, int maxGroups,
+                                                           long idleTimeout, TimeUnit unit, Scheduler scheduler) {
+        Objects.requireNonNull(keySelector, "keySelector is null");
+        Objects.requireNonNull(scheduler, "scheduler is null");
+        if (maxGroups <= 0) throw new IllegalArgumentException("maxGroups > 0 required");
+        if (idleTimeout <= 0) throw new IllegalArgumentException("idleTimeout > 0 required");
+        return Observable.unsafeCreate(observer ->
+                this.subscribeActual(new ObservableGroupBy<>(observer, keySelector, maxGroups, idleTimeout, unit, scheduler))
+        );
+    }
+
+    public Observable<T> distinct() {
+        return distinct(Function.identity());
+    }
+
+    public <K> Observable<T> distinct(Function<T, K> keySelector) {
+        Objects.requireNonNull(keySelector, "keySelector is null");
+        return Observable.unsafeCreate(observer -> {
+            Set<Object> seen = new HashSet<>();
+            this.subscribeActual(new ObservableAggregate.DistinctObserver<>(observer, keySelector, seen::add));
+        });
+    }
+
+    public <K> Observable<T> distinct(Function<T, K> keySelector, int maxKeys) {
+        Objects.requireNonNull(keySelector, "keySelector is null");
+        if (maxKeys <= 0) throw new IllegalArgumentException("maxKeys > 0 required");
+        return Observable.unsafeCreate(observer -> {
+            Set<Object> seen = Collections.newSetFromMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Boolean> eldest) {
+                    return size() > maxKeys;
+                }
+            });
+            this.subscribeActual(new ObservableAggregate.DistinctObserver<>(observer, keySelector, seen::add));
+        });
+    }
+
+    public <K> Observable<T> distinctApproximate(Function<T, K> keySelector, long expectedKeys, double falsePositiveRate) {
+        Objects.requireNonNull(keySelector, "keySelector is null");
+        if (expectedKeys <= 0) throw new IllegalArgumentException("expectedKeys > 0 required");
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("0 < falsePositiveRate < 1 required");
+        }
+        return Observable.unsafeCreate(observer -> {
+            BloomFilter seen = new BloomFilter(expectedKeys, falsePositiveRate);
+            this.subscribeActual(new ObservableAggregate.DistinctObserver<>(observer, keySelector, seen::add));
+        });
+    }
+
+    public Observable<T> sample(long period, TimeUnit unit) {
+        return sample(period, unit, Schedulers.computation());
+    }
+
+    public Observable<T> sample(long period, TimeUnit unit, Scheduler scheduler) {
+        if (period <= 0) throw new IllegalArgumentException("period > 0 required");
+        return Observable.unsafeCreate(observer -> {
+            ObservableThrottle.SampleObserver<T> sample =
+                    new ObservableThrottle.SampleObserver<>(observer, scheduler.createWorker());
+            sample.start(period, unit);
+            this.subscribeActual(sample);
+        });
+    }
+
+    public Observable<T> throttleLast(long period, TimeUnit unit) {
+        return sample(period, unit);
+    }
+
+    public Observable<T> throttleLast(long period, TimeUnit unit, Scheduler scheduler) {
+        return sample(period, unit, scheduler);
+    }
+
+    public Observable<T> throttleFirst(long window, TimeUnit unit) {
+        return throttleFirst(window, unit, Schedulers.computation());
+    }
+
+    public Observable<T> throttleFirst(long window, TimeUnit unit, Scheduler scheduler) {
+        if (window <= 0) throw new IllegalArgumentException("window > 0 required");
+        return Observable.unsafeCreate(observer ->
+                this.subscribeActual(new ObservableThrottle.ThrottleFirstObserver<>(observer, window, unit, scheduler))
         );
     }
+
+    public Observable<T> debounce(long timeout, TimeUnit unit) {
+        return debounce(timeout, unit, Schedulers.computation());
+    }
+
+    public Observable<T> debounce(long timeout, TimeUnit unit, Scheduler scheduler) {
+        if (timeout <= 0) throw new IllegalArgumentException("timeout > 0 required");
+        return Observable.unsafeCreate(observer ->
+                this.subscribeActual(new ObservableThrottle.DebounceObserver<>(observer, timeout, unit, scheduler.createWorker()))
+        );
+    }
+
+    public Observable<T> timeout(long timeout, TimeUnit unit) {
+        return timeout(timeout, unit, null, Schedulers.computation());
+    }
+
+    public Observable<T> timeout(long timeout, TimeUnit unit, Observable<T> fallback) {
+        return timeout(timeout, unit, fallback, Schedulers.computation());
+    }
+
+    public Observable<T> timeout(long timeout, TimeUnit unit, Observable<T> fallback, Scheduler scheduler) {
+        if (timeout <= 0) throw new IllegalArgumentException("timeout > 0 required");
+        return Observable.unsafeCreate(observer -> {
+            ObservableTimeout<T> parent = new ObservableTimeout<>(observer, timeout, unit, scheduler.createWorker(), fallback);
+            parent.start();
+            this.subscribeActual(parent);
+        });
+    }
+
+    public Observable<T> retry() {
+        return retry(Long.MAX_VALUE, t -> true);
+    }
+
+    public Observable<T> retry(long times) {
+        return retry(times, t -> true);
+    }
+
+    public Observable<T> retry(long times, Predicate<Throwable> predicate) {
+        if (times < 0) throw new IllegalArgumentException("times >= 0 required");
+        Objects.requireNonNull(predicate, "predicate is null");
+        return Observable.unsafeCreate(observer ->
+                new ObservableRetry.RetryObserver<>(observer, this, times, predicate).start()
+        );
+    }
+
+    public Observable<T> retryWhen(RetryPolicy policy) {
+        return retryWhen(policy, Schedulers.computation());
+    }
+
+    public Observable<T> retryWhen(RetryPolicy policy, Scheduler scheduler) {
+        Objects.requireNonNull(policy, "policy is null");
+        Objects.requireNonNull(scheduler, "scheduler is null");
+        return Observable.unsafeCreate(observer ->
+                new ObservableRetry.RetryWhenObserver<>(observer, this, policy, scheduler.createWorker()).start()
+        );
+    }
+
+    public Observable<T> onErrorResumeNext(Function<Throwable, Observable<T>> fallback) {
+        Objects.requireNonNull(fallback, "fallback is null");
+        return Observable.unsafeCreate(observer ->
+                this.subscribeActual(new ObservableOnErrorResume<>(observer, fallback))
+        );
+    }
+
+    public Observable<T> onErrorReturn(Function<Throwable, T> valueSupplier) {
+        Objects.requireNonNull(valueSupplier, "valueSupplier is null");
+        return onErrorResumeNext(t -> Observable.just(valueSupplier.apply(t)));
+    }
+
+    public Observable<T> onErrorReturnItem(T item) {
+        return onErrorResumeNext(t -> Observable.just(item));
+    }
+
+    public Observable<T> circuitBreaker(CircuitBreaker breaker) {
+        Objects.requireNonNull(breaker, "breaker is null");
+        return Observable.unsafeCreate(observer -> {
+            int permit = breaker.acquire();
+            if (permit == CircuitBreaker.REJECTED) {
+                observer.onSubscribe(Disposables.disposed());
+                observer.onError(new CircuitBreakerOpenException("Circuit breaker is open"));
+                return;
+            }
+            this.subscribeActual(new CircuitBreaker.BreakerObserver<>(observer, breaker, permit));
+        });
+    }
+
+    public ParallelObservable<T> parallel() {
+        return parallel(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelObservable<T> parallel(int rails) {
+        if (rails <= 0) throw new IllegalArgumentException("rails > 0 required");
+        return ParallelObservable.from(this, rails);
+    }
+
+    public ConnectableObservable<T> publish() {
+        return new ObservableMulticast<>(this, PublishSubject::create, true);
+    }
+
+    public Observable<T> share() {
+        return publish().refCount();
+    }
+
+    public ConnectableObservable<T> replay(int bufferSize) {
+        if (bufferSize <= 0) throw new IllegalArgumentException("bufferSize > 0 required");
+        return new ObservableMulticast<>(this, () -> ReplaySubject.createWithSize(bufferSize), false);
+    }
+
+    public ConnectableObservable<T> replay(int bufferSize, long time, TimeUnit unit) {
+        return replay(bufferSize, time, unit, Schedulers.computation());
+    }
+
+    public ConnectableObservable<T> replay(int bufferSize, long time, TimeUnit unit, Scheduler scheduler) {
+        if (bufferSize <= 0) throw new IllegalArgumentException("bufferSize > 0 required");
+        if (time <= 0) throw new IllegalArgumentException("time > 0 required");
+        return new ObservableMulticast<>(this, () -> ReplaySubject.createWithTimeAndSize(time, unit, scheduler, bufferSize), false);
+    }
+
+    public Observable<T> serialize() {
+        return Observable.unsafeCreate(observer -> subscribeActual(new SerializedObserver<>(observer)));
+    }
+
+    public Observable<T> metrics(String name) {
+        Objects.requireNonNull(name, "name is null");
+        if (!RxMetrics.isEnabled()) {
+            return this;
+        }
+        Metrics metrics = RxMetrics.pipeline(name);
+        return Observable.unsafeCreate(observer -> subscribeActual(new MetricsObserver<>(observer, metrics)));
+    }
+
+    public IntObservable mapToInt(ToIntFunction<T> mapper) {
+        return IntObservable.create(observer -> this.subscribeActual(new IntObservable.FromObjObserver<>(observer, mapper)));
+    }
+
+    public LongObservable mapToLong(ToLongFunction<T> mapper) {
+        return LongObservable.create(observer -> this.subscribeActual(new LongObservable.FromObjObserver<>(observer, mapper)));
+    }
+
+    public DoubleObservable mapToDouble(ToDoubleFunction<T> mapper) {
+        return DoubleObservable.create(observer -> this.subscribeActual(new DoubleObservable.FromObjObserver<>(observer, mapper)));
+    }
+
+    public Flowable<T> toFlowable(BackpressureStrategy strategy) {
+        return Flowable.fromObservable(this, strategy);
+    }
+
+    public Flow.Publisher<T> toPublisher() {
+        return toPublisher(BackpressureStrategy.BUFFER);
+    }
+
+    public Flow.Publisher<T> toPublisher(BackpressureStrategy strategy) {
+        return toFlowable(strategy).toPublisher();
+    }
+
+    public T blockingFirst() {
+        return blockingFirst(null);
+    }
+
+    public T blockingFirst(T defaultItem) {
+        ObservableBlocking.SingleObserver<T> observer = new ObservableBlocking.SingleObserver<>(true);
+        subscribeActual(observer);
+        return observer.await(defaultItem);
+    }
+
+    public T blockingLast() {
+        return blockingLast(null);
+    }
+
+    public T blockingLast(T defaultItem) {
+        ObservableBlocking.SingleObserver<T> observer = new ObservableBlocking.SingleObserver<>(false);
+        subscribeActual(observer);
+        return observer.await(defaultItem);
+    }
+
+    public Iterable<T> blockingIterable() {
+        return blockingIterable(Flowable.BUFFER_SIZE);
+    }
+
+    public Iterable<T> blockingIterable(int prefetch) {
+        return blockingIterable(prefetch, BackpressureStrategy.BUFFER);
+    }
+
+    public Iterable<T> blockingIterable(int prefetch, BackpressureStrategy strategy) {
+        return toFlowable(strategy).blockingIterable(prefetch);
+    }
+
+    public Stream<T> blockingStream() {
+        return blockingStream(Flowable.BUFFER_SIZE);
+    }
+
+    public Stream<T> blockingStream(int prefetch) {
+        return blockingStream(prefetch, BackpressureStrategy.BUFFER);
+    }
+
+    public Stream<T> blockingStream(int prefetch, BackpressureStrategy strategy) {
+        return toFlowable(strategy).blockingStream(prefetch);
+    }
 }
\ No newline at end of file
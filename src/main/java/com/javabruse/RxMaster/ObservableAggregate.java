@@ -0,0 +1,193 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+final class ObservableAggregate {
+    private ObservableAggregate() {
+    }
+
+    abstract static class AggregateObserver<T, R> implements Observer<T>, Disposable {
+        final Observer<R> downstream;
+        private Disposable upstream;
+        boolean done;
+
+        AggregateObserver(Observer<R> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        void fail(Throwable t) {
+            Disposable d = upstream;
+            if (d != null) {
+                d.dispose();
+            }
+            onError(t);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void dispose() {
+            Disposable d = upstream;
+            if (d != null) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            Disposable d = upstream;
+            return d != null && d.isDisposed();
+        }
+    }
+
+    static final class ReduceObserver<T, R> extends AggregateObserver<T, R> {
+        private final BiFunction<R, T, R> reducer;
+        private R value;
+        private boolean started;
+
+        ReduceObserver(Observer<R> downstream, R seed, BiFunction<R, T, R> reducer, boolean seeded) {
+            super(downstream);
+            this.value = seed;
+            this.reducer = reducer;
+            this.started = seeded;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNext(T item) {
+            if (done) return;
+            if (!started) {
+                started = true;
+                value = (R) item;
+                return;
+            }
+            try {
+                value = reducer.apply(value, item);
+            } catch (Throwable t) {
+                fail(t);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            value = null;
+            super.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            R v = value;
+            value = null;
+            if (started) {
+                downstream.onNext(v);
+            }
+            downstream.onComplete();
+        }
+    }
+
+    static final class ScanObserver<T, R> extends AggregateObserver<T, R> {
+        private final BiFunction<R, T, R> accumulator;
+        private final boolean emitSeed;
+        private R value;
+        private boolean started;
+
+        ScanObserver(Observer<R> downstream, R seed, BiFunction<R, T, R> accumulator, boolean emitSeed) {
+            super(downstream);
+            this.value = seed;
+            this.accumulator = accumulator;
+            this.emitSeed = emitSeed;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            super.onSubscribe(d);
+            if (emitSeed && !started) {
+                started = true;
+                downstream.onNext(value);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNext(T item) {
+            if (done) return;
+            R v;
+            if (!started) {
+                started = true;
+                if (!emitSeed) {
+                    value = (R) item;
+                    downstream.onNext(value);
+                    return;
+                }
+                downstream.onNext(value);
+            }
+            try {
+                v = accumulator.apply(value, item);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            value = v;
+            downstream.onNext(v);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            value = null;
+            downstream.onComplete();
+        }
+    }
+
+    static final class DistinctObserver<T, K> extends AggregateObserver<T, T> {
+        private final Function<T, K> keySelector;
+        private final Predicate<Object> firstSeen;
+
+        DistinctObserver(Observer<T> downstream, Function<T, K> keySelector, Predicate<Object> firstSeen) {
+            super(downstream);
+            this.keySelector = keySelector;
+            this.firstSeen = firstSeen;
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            boolean first;
+            try {
+                first = firstSeen.test(keySelector.apply(item));
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            if (first) {
+                downstream.onNext(item);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            downstream.onComplete();
+        }
+    }
+}
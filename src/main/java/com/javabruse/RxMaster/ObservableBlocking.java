@@ -0,0 +1,223 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Subscriber;
+import com.javabruse.RxMaster.interfaces.Subscription;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+final class ObservableBlocking {
+    private ObservableBlocking() {
+    }
+
+    static RuntimeException propagate(Throwable t) {
+        if (t instanceof RuntimeException e) {
+            return e;
+        }
+        if (t instanceof Error e) {
+            throw e;
+        }
+        return new RuntimeException(t);
+    }
+
+    static RuntimeException interrupted(Disposable d) {
+        d.dispose();
+        Thread.currentThread().interrupt();
+        return new RuntimeException(new InterruptedException());
+    }
+
+    static final class SingleObserver<T> implements Observer<T>, Disposable {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<SingleObserver, Disposable> UPSTREAM =
+                AtomicReferenceFieldUpdater.newUpdater(SingleObserver.class, Disposable.class, "upstream");
+
+        private final boolean first;
+        private final Thread waiter = Thread.currentThread();
+        private volatile Disposable upstream;
+        private volatile boolean done;
+        private T value;
+        private Throwable error;
+
+        SingleObserver(boolean first) {
+            this.first = first;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(UPSTREAM, this, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            value = item;
+            if (first) {
+                DisposableHelper.dispose(UPSTREAM, this);
+                signal();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            value = null;
+            error = t;
+            signal();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            signal();
+        }
+
+        private void signal() {
+            done = true;
+            LockSupport.unpark(waiter);
+        }
+
+        T await(T defaultItem) {
+            while (!done) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    throw interrupted(this);
+                }
+            }
+            Throwable t = error;
+            if (t != null) {
+                throw propagate(t);
+            }
+            T v = value;
+            if (v == null) {
+                if (defaultItem == null) {
+                    throw new NoSuchElementException("Observable completed without items");
+                }
+                return defaultItem;
+            }
+            return v;
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(UPSTREAM, this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(upstream);
+        }
+    }
+
+    static final class BlockingIterator<T> extends AtomicReference<Subscription> implements Subscriber<T>, Iterator<T>, Disposable {
+        private final SimpleQueue<T> queue;
+        private final int prefetch;
+        private final int limit;
+        private volatile boolean done;
+        private volatile Thread consumer;
+        private Throwable error;
+        private int consumed;
+
+        BlockingIterator(int prefetch) {
+            this.queue = new SpscArrayQueue<>(prefetch);
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (SubscriptionHelper.setOnce(this, subscription)) {
+                subscription.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            if (!queue.offer(item)) {
+                SubscriptionHelper.cancel(this);
+                onError(new MissingBackpressureException("blocking iterator queue is full"));
+                return;
+            }
+            wakeConsumer();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            error = t;
+            done = true;
+            wakeConsumer();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            wakeConsumer();
+        }
+
+        private void wakeConsumer() {
+            Thread t = consumer;
+            if (t != null) {
+                LockSupport.unpark(t);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            for (;;) {
+                boolean d = done;
+                if (!queue.isEmpty()) {
+                    return true;
+                }
+                if (d) {
+                    Throwable t = error;
+                    if (t != null) {
+                        throw propagate(t);
+                    }
+                    return false;
+                }
+                if (isDisposed()) {
+                    return false;
+                }
+                consumer = Thread.currentThread();
+                if (queue.isEmpty() && !done && !isDisposed()) {
+                    LockSupport.park(this);
+                }
+                consumer = null;
+                if (Thread.interrupted()) {
+                    throw interrupted(this);
+                }
+            }
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T item = queue.poll();
+            if (++consumed == limit) {
+                consumed = 0;
+                get().request(limit);
+            }
+            return item;
+        }
+
+        @Override
+        public void dispose() {
+            SubscriptionHelper.cancel(this);
+            wakeConsumer();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return get() == SubscriptionHelper.CANCELLED;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Worker;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+final class ObservableBuffer {
+    private ObservableBuffer() {
+    }
+
+    static final class ExactObserver<T, C extends Collection<T>> implements Observer<T> {
+        private final Observer<C> downstream;
+        private final int count;
+        private final Supplier<C> bufferSupplier;
+        private Disposable upstream;
+        private C buffer;
+        private boolean done;
+
+        ExactObserver(Observer<C> downstream, int count, Supplier<C> bufferSupplier) {
+            this.downstream = downstream;
+            this.count = count;
+            this.bufferSupplier = bufferSupplier;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            C b = buffer;
+            if (b == null) {
+                try {
+                    b = bufferSupplier.get();
+                    if (b == null) throw new NullPointerException("The bufferSupplier returned a null collection");
+                } catch (Throwable t) {
+                    Disposable d = upstream;
+                    if (d != null) {
+                        d.dispose();
+                    }
+                    onError(t);
+                    return;
+                }
+                buffer = b;
+            }
+            b.add(item);
+            if (b.size() >= count) {
+                buffer = null;
+                downstream.onNext(b);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            buffer = null;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            C b = buffer;
+            buffer = null;
+            if (b != null && !b.isEmpty()) {
+                downstream.onNext(b);
+            }
+            downstream.onComplete();
+        }
+    }
+
+    static final class TimedObserver<T> extends TimedBoundaryObserver<T, List<T>> {
+        private final int maxSize;
+        private List<T> buffer;
+
+        TimedObserver(Observer<List<T>> downstream, Worker worker, int maxSize) {
+            super(downstream, worker);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        void onItem(T item) {
+            List<T> b = buffer;
+            if (b == null) {
+                b = new ArrayList<>(Math.min(maxSize, Flowable.BUFFER_SIZE));
+                buffer = b;
+            }
+            b.add(item);
+            if (b.size() >= maxSize) {
+                buffer = null;
+                downstream.onNext(b);
+            }
+        }
+
+        @Override
+        void onBoundary() {
+            List<T> b = buffer;
+            if (b != null) {
+                buffer = null;
+                downstream.onNext(b);
+            }
+        }
+
+        @Override
+        void onTerminate(Throwable error) {
+            if (error != null) {
+                buffer = null;
+                downstream.onError(error);
+            } else {
+                onBoundary();
+                downstream.onComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+final class ObservableCombineLatest<R> extends AtomicInteger implements Disposable {
+    private final Observer<R> downstream;
+    private final Function<Object[], R> combiner;
+    private final CombineObserver[] observers;
+    private final Object[] latest;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+    private volatile boolean cancelled;
+    private long expected;
+    private int present;
+
+    ObservableCombineLatest(Observer<R> downstream, Function<Object[], R> combiner, int sourceCount, int prefetch) {
+        this.downstream = downstream;
+        this.combiner = combiner;
+        this.observers = new CombineObserver[sourceCount];
+        for (int i = 0; i < sourceCount; i++) {
+            observers[i] = new CombineObserver(this, prefetch);
+        }
+        this.latest = new Object[sourceCount];
+    }
+
+    @SuppressWarnings("unchecked")
+    void subscribe(Observable<?>[] sources) {
+        downstream.onSubscribe(this);
+        for (int i = 0; i < sources.length; i++) {
+            if (cancelled || error.get() != null) return;
+            ((Observable<Object>) sources[i]).subscribeActual(observers[i]);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (cancelled) return;
+        cancelled = true;
+        disposeAll();
+        if (getAndIncrement() == 0) {
+            clearAll();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return cancelled;
+    }
+
+    void innerError(Throwable t) {
+        if (error.compareAndSet(null, t)) {
+            drain();
+        } else {
+            RxPlugins.onError(t);
+        }
+    }
+
+    long nextSequence() {
+        return sequence.getAndIncrement();
+    }
+
+    private void disposeAll() {
+        for (CombineObserver observer : observers) {
+            observer.dispose();
+        }
+    }
+
+    private void clearAll() {
+        Arrays.fill(latest, null);
+        for (CombineObserver observer : observers) {
+            observer.clear();
+        }
+    }
+
+    private boolean checkTerminate() {
+        if (cancelled) {
+            clearAll();
+            return true;
+        }
+        Throwable t = error.get();
+        if (t != null) {
+            cancelled = true;
+            disposeAll();
+            clearAll();
+            downstream.onError(t);
+            return true;
+        }
+        return false;
+    }
+
+    private void complete() {
+        cancelled = true;
+        disposeAll();
+        clearAll();
+        downstream.onComplete();
+    }
+
+    void drain() {
+        if (getAndIncrement() != 0) return;
+        int missed = 1;
+        int n = observers.length;
+        for (;;) {
+            for (;;) {
+                if (checkTerminate()) return;
+                int index = -1;
+                int finished = 0;
+                for (int i = 0; i < n; i++) {
+                    CombineObserver observer = observers[i];
+                    boolean d = observer.done;
+                    Entry head = observer.peek();
+                    if (head == null) {
+                        if (d) {
+                            if (latest[i] == null) {
+                                complete();
+                                return;
+                            }
+                            finished++;
+                        }
+                    } else if (head.sequence == expected) {
+                        index = i;
+                        break;
+                    }
+                }
+                if (index < 0) {
+                    if (finished == n) {
+                        complete();
+                        return;
+                    }
+                    break;
+                }
+                expected++;
+                if (latest[index] == null) {
+                    present++;
+                }
+                latest[index] = observers[index].take();
+                if (present != n) continue;
+                R value;
+                try {
+                    value = combiner.apply(latest.clone());
+                    if (value == null) throw new NullPointerException("The combiner returned a null value");
+                } catch (Throwable t) {
+                    error.compareAndSet(null, t);
+                    continue;
+                }
+                downstream.onNext(value);
+            }
+            missed = addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+
+    static final class Entry {
+        final long sequence;
+        final Object value;
+
+        Entry(long sequence, Object value) {
+            this.sequence = sequence;
+            this.value = value;
+        }
+    }
+
+    static final class CombineObserver extends AtomicReference<Disposable> implements Observer<Object> {
+        private final ObservableCombineLatest<?> parent;
+        private final SimpleQueue<Entry> queue;
+        private Entry head;
+        volatile boolean done;
+
+        CombineObserver(ObservableCombineLatest<?> parent, int prefetch) {
+            this.parent = parent;
+            this.queue = new SpscLinkedArrayQueue<>(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(Object item) {
+            if (done) return;
+            queue.offer(new Entry(parent.nextSequence(), item));
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            parent.innerError(t);
+            done = true;
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            parent.drain();
+        }
+
+        Entry peek() {
+            Entry e = head;
+            if (e == null) {
+                e = queue.poll();
+                head = e;
+            }
+            return e;
+        }
+
+        Object take() {
+            Object value = head.value;
+            head = null;
+            return value;
+        }
+
+        void clear() {
+            head = null;
+            queue.clear();
+        }
+
+        void dispose() {
+            DisposableHelper.dispose(this);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+
+final class ObservableFlatMap<T, R> extends AtomicInteger implements Observer<T>, Disposable {
+    private static final InnerObserver<?>[] EMPTY = new InnerObserver<?>[0];
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ObservableFlatMap, Disposable> UPSTREAM =
+            AtomicReferenceFieldUpdater.newUpdater(ObservableFlatMap.class, Disposable.class, "upstream");
+
+    private final Observer<R> downstream;
+    private final Function<T, Observable<R>> mapper;
+    private final int maxConcurrency;
+    private final int prefetch;
+    private final SimpleQueue<Observable<R>> sources;
+    private final AtomicReference<InnerObserver<?>[]> subscribers = new AtomicReference<>(EMPTY);
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+    private volatile Disposable upstream;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private int active;
+
+    ObservableFlatMap(Observer<R> downstream, Function<T, Observable<R>> mapper, int maxConcurrency, int prefetch) {
+        this.downstream = downstream;
+        this.mapper = mapper;
+        this.maxConcurrency = maxConcurrency;
+        this.prefetch = prefetch;
+        this.sources = maxConcurrency == Integer.MAX_VALUE ? null : new SpscLinkedArrayQueue<>(prefetch);
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        if (DisposableHelper.setOnce(UPSTREAM, this, d)) {
+            downstream.onSubscribe(this);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done || cancelled) return;
+        Observable<R> inner;
+        try {
+            inner = mapper.apply(item);
+            if (inner == null) throw new NullPointerException("The mapper returned a null Observable");
+        } catch (Throwable t) {
+            onError(t);
+            return;
+        }
+        if (sources == null) {
+            subscribeInner(inner);
+        } else {
+            sources.offer(inner);
+            drain();
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (done) return;
+        if (!error.compareAndSet(null, t)) {
+            RxPlugins.onError(t);
+        }
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) return;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void dispose() {
+        if (cancelled) return;
+        cancelled = true;
+        DisposableHelper.dispose(UPSTREAM, this);
+        if (getAndIncrement() == 0) {
+            clearAll();
+        } else {
+            for (InnerObserver<?> inner : subscribers.get()) {
+                inner.dispose();
+            }
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return cancelled;
+    }
+
+    private void subscribeInner(Observable<R> source) {
+        InnerObserver<R> inner = new InnerObserver<>(this, prefetch);
+        add(inner);
+        source.subscribeActual(inner);
+    }
+
+    private void add(InnerObserver<R> inner) {
+        for (;;) {
+            InnerObserver<?>[] current = subscribers.get();
+            int n = current.length;
+            InnerObserver<?>[] next = new InnerObserver<?>[n + 1];
+            System.arraycopy(current, 0, next, 0, n);
+            next[n] = inner;
+            if (subscribers.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    private void remove(InnerObserver<?> inner) {
+        for (;;) {
+            InnerObserver<?>[] current = subscribers.get();
+            int n = current.length;
+            int index = -1;
+            for (int i = 0; i < n; i++) {
+                if (current[i] == inner) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) return;
+            InnerObserver<?>[] next;
+            if (n == 1) {
+                next = EMPTY;
+            } else {
+                next = new InnerObserver<?>[n - 1];
+                System.arraycopy(current, 0, next, 0, index);
+                System.arraycopy(current, index + 1, next, index, n - index - 1);
+            }
+            if (subscribers.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    void tryEmit(R item, InnerObserver<R> inner) {
+        if (cancelled) return;
+        if (get() == 0 && compareAndSet(0, 1)) {
+            if (inner.queue.isEmpty()) {
+                downstream.onNext(item);
+                if (decrementAndGet() == 0) return;
+            } else {
+                inner.queue.offer(item);
+            }
+        } else {
+            inner.queue.offer(item);
+            if (getAndIncrement() != 0) return;
+        }
+        drainLoop();
+    }
+
+    void innerError(Throwable t) {
+        if (error.compareAndSet(null, t)) {
+            drain();
+        } else {
+            RxPlugins.onError(t);
+        }
+    }
+
+    void drain() {
+        if (getAndIncrement() == 0) {
+            drainLoop();
+        }
+    }
+
+    private boolean checkTerminate() {
+        if (cancelled) {
+            clearAll();
+            return true;
+        }
+        Throwable t = error.get();
+        if (t != null) {
+            cancelled = true;
+            DisposableHelper.dispose(UPSTREAM, this);
+            clearAll();
+            downstream.onError(t);
+            return true;
+        }
+        return false;
+    }
+
+    private void clearAll() {
+        if (sources != null) {
+            sources.clear();
+        }
+        for (InnerObserver<?> inner : subscribers.getAndSet(EMPTY)) {
+            inner.dispose();
+            inner.queue.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drainLoop() {
+        int missed = 1;
+        for (;;) {
+            if (checkTerminate()) return;
+
+            if (sources != null) {
+                while (active < maxConcurrency) {
+                    Observable<R> source = sources.poll();
+                    if (source == null) break;
+                    active++;
+                    subscribeInner(source);
+                    if (checkTerminate()) return;
+                }
+            }
+
+            boolean d = done;
+            boolean innerCompleted = false;
+            for (InnerObserver<?> o : subscribers.get()) {
+                InnerObserver<R> inner = (InnerObserver<R>) o;
+                for (;;) {
+                    if (checkTerminate()) return;
+                    boolean innerDone = inner.done;
+                    R item = inner.queue.poll();
+                    if (item == null) {
+                        if (innerDone) {
+                            remove(inner);
+                            if (sources != null) active--;
+                            innerCompleted = true;
+                        }
+                        break;
+                    }
+                    downstream.onNext(item);
+                }
+            }
+            if (innerCompleted) continue;
+
+            if (d && subscribers.get().length == 0 && (sources == null || sources.isEmpty())) {
+                cancelled = true;
+                downstream.onComplete();
+                return;
+            }
+            missed = addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+
+    static final class InnerObserver<R> extends AtomicReference<Disposable> implements Observer<R> {
+        private final ObservableFlatMap<?, R> parent;
+        final SimpleQueue<R> queue;
+        volatile boolean done;
+
+        InnerObserver(ObservableFlatMap<?, R> parent, int prefetch) {
+            this.parent = parent;
+            this.queue = new SpscLinkedArrayQueue<>(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(R item) {
+            if (done) return;
+            parent.tryEmit(item, this);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            parent.innerError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            parent.drain();
+        }
+
+        void dispose() {
+            DisposableHelper.dispose(this);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.Objects;
+
+final class ObservableFromArray<T> extends Observable<T> {
+    final T[] items;
+
+    ObservableFromArray(T[] items) {
+        this.items = Objects.requireNonNull(items, "items is null");
+    }
+
+    @Override
+    void subscribeActual(Observer<T> observer) {
+        BooleanDisposable d = new BooleanDisposable();
+        observer.onSubscribe(d);
+        for (T item : items) {
+            if (d.isDisposed()) return;
+            observer.onNext(item);
+        }
+        if (!d.isDisposed()) {
+            observer.onComplete();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class ObservableFromFile extends Observable<ByteBuffer> {
+    private static final long MAX_REGION = 1L << 30;
+
+    private final Path path;
+    private final int chunkSize;
+
+    ObservableFromFile(Path path, int chunkSize) {
+        this.path = path;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    void subscribeActual(Observer<ByteBuffer> observer) {
+        BooleanDisposable d = new BooleanDisposable();
+        observer.onSubscribe(d);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long region = Math.max(chunkSize, MAX_REGION / chunkSize * chunkSize);
+            for (long position = 0; position < size; position += region) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(region, size - position));
+                int length = mapped.capacity();
+                for (int offset = 0; offset < length; offset += chunkSize) {
+                    if (d.isDisposed()) return;
+                    observer.onNext(mapped.slice(offset, Math.min(chunkSize, length - offset)));
+                }
+            }
+        } catch (IOException e) {
+            if (!d.isDisposed()) {
+                observer.onError(e);
+            }
+            return;
+        }
+        if (!d.isDisposed()) {
+            observer.onComplete();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.Iterator;
+import java.util.Objects;
+
+final class ObservableFromIterable<T> extends Observable<T> {
+    final Iterable<T> items;
+
+    ObservableFromIterable(Iterable<T> items) {
+        this.items = Objects.requireNonNull(items, "items is null");
+    }
+
+    @Override
+    void subscribeActual(Observer<T> observer) {
+        BooleanDisposable d = new BooleanDisposable();
+        observer.onSubscribe(d);
+        Iterator<T> iterator;
+        try {
+            iterator = items.iterator();
+        } catch (Throwable t) {
+            observer.onError(t);
+            return;
+        }
+        for (;;) {
+            if (d.isDisposed()) return;
+            T item;
+            try {
+                if (!iterator.hasNext()) break;
+                item = iterator.next();
+            } catch (Throwable t) {
+                observer.onError(t);
+                return;
+            }
+            observer.onNext(item);
+        }
+        if (!d.isDisposed()) {
+            observer.onComplete();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+final class ObservableGroupBy<T, K> implements Observer<T>, Disposable {
+    private static final Object NULL_KEY = new Object();
+
+    private final Observer<GroupedObservable<K, T>> downstream;
+    private final Function<T, K> keySelector;
+    private final int maxGroups;
+    private final long idleNanos;
+    private final Scheduler scheduler;
+    private final LinearProbingMap<Object, Group<K, T>> groups = new LinearProbingMap<>();
+    private Group<K, T> head;
+    private Group<K, T> tail;
+    private Disposable upstream;
+    private boolean done;
+
+    ObservableGroupBy(Observer<GroupedObservable<K, T>> downstream, Function<T, K> keySelector,
+                      int maxGroups, long idleTimeout, TimeUnit unit, Scheduler scheduler) {
+        this.downstream = downstream;
+        this.keySelector = keySelector;
+        this.maxGroups = maxGroups;
+        this.idleNanos = scheduler != null ? unit.toNanos(idleTimeout) : Long.MAX_VALUE;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        upstream = d;
+        downstream.onSubscribe(this);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) return;
+        K key;
+        try {
+            key = keySelector.apply(item);
+        } catch (Throwable t) {
+            upstream.dispose();
+            onError(t);
+            return;
+        }
+        long now = 0L;
+        if (scheduler != null) {
+            now = scheduler.now(TimeUnit.NANOSECONDS);
+            Group<K, T> oldest;
+            while ((oldest = tail) != null && now - oldest.lastAccess >= idleNanos) {
+                evict(oldest);
+            }
+        }
+        Object mapKey = key != null ? key : NULL_KEY;
+        Group<K, T> group = groups.get(mapKey);
+        if (group == null) {
+            if (groups.size() >= maxGroups) {
+                evict(tail);
+            }
+            group = new Group<>(mapKey, new GroupedObservable<>(key, UnicastSubject.create()));
+            groups.put(mapKey, group);
+            linkFirst(group);
+            downstream.onNext(group.observable);
+        } else if (group != head) {
+            unlink(group);
+            linkFirst(group);
+        }
+        group.lastAccess = now;
+        group.observable.subject.onNext(item);
+    }
+
+    private void evict(Group<K, T> group) {
+        unlink(group);
+        groups.remove(group.mapKey);
+        group.observable.subject.onComplete();
+    }
+
+    private void linkFirst(Group<K, T> group) {
+        group.prev = null;
+        group.next = head;
+        if (head != null) {
+            head.prev = group;
+        } else {
+            tail = group;
+        }
+        head = group;
+    }
+
+    private void unlink(Group<K, T> group) {
+        Group<K, T> prev = group.prev;
+        Group<K, T> next = group.next;
+        if (prev != null) {
+            prev.next = next;
+        } else {
+            head = next;
+        }
+        if (next != null) {
+            next.prev = prev;
+        } else {
+            tail = prev;
+        }
+        group.prev = null;
+        group.next = null;
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (done) return;
+        done = true;
+        Group<K, T> group = head;
+        head = null;
+        tail = null;
+        groups.clear();
+        while (group != null) {
+            group.observable.subject.onError(t);
+            group = group.next;
+        }
+        downstream.onError(t);
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) return;
+        done = true;
+        Group<K, T> group = head;
+        head = null;
+        tail = null;
+        groups.clear();
+        while (group != null) {
+            group.observable.subject.onComplete();
+            group = group.next;
+        }
+        downstream.onComplete();
+    }
+
+    @Override
+    public void dispose() {
+        Disposable d = upstream;
+        if (d != null) {
+            d.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        Disposable d = upstream;
+        return d != null && d.isDisposed();
+    }
+
+    static final class Group<K, T> {
+        final Object mapKey;
+        final GroupedObservable<K, T> observable;
+        long lastAccess;
+        Group<K, T> prev;
+        Group<K, T> next;
+
+        Group(Object mapKey, GroupedObservable<K, T> observable) {
+            this.mapKey = mapKey;
+            this.observable = observable;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+
+final class ObservableJust<T> extends Observable<T> {
+    final T item;
+
+    ObservableJust(T item) {
+        this.item = item;
+    }
+
+    @Override
+    void subscribeActual(Observer<T> observer) {
+        BooleanDisposable d = new BooleanDisposable();
+        observer.onSubscribe(d);
+        if (d.isDisposed()) return;
+        observer.onNext(item);
+        if (!d.isDisposed()) {
+            observer.onComplete();
+        }
+    }
+}
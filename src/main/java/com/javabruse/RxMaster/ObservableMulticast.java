@@ -0,0 +1,99 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+final class ObservableMulticast<T> extends ConnectableObservable<T> {
+    private final Observable<T> source;
+    private final Supplier<? extends Subject<T>> subjectSupplier;
+    private final boolean resetOnTerminate;
+    private final AtomicReference<Connection<T>> current = new AtomicReference<>();
+
+    ObservableMulticast(Observable<T> source, Supplier<? extends Subject<T>> subjectSupplier, boolean resetOnTerminate) {
+        this.source = source;
+        this.subjectSupplier = subjectSupplier;
+        this.resetOnTerminate = resetOnTerminate;
+    }
+
+    private Connection<T> connection() {
+        for (;;) {
+            Connection<T> conn = current.get();
+            if (conn != null) {
+                return conn;
+            }
+            Connection<T> fresh = new Connection<>(this, subjectSupplier.get());
+            if (current.compareAndSet(null, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    @Override
+    void subscribeActual(Observer<T> observer) {
+        connection().subject.subscribeActual(observer);
+    }
+
+    @Override
+    Disposable connect(Consumer<Disposable> connection) {
+        Connection<T> conn = connection();
+        connection.accept(conn);
+        if (conn.connected.compareAndSet(false, true)) {
+            source.subscribeActual(conn);
+        }
+        return conn;
+    }
+
+    static final class Connection<T> extends AtomicReference<Disposable> implements Observer<T>, Disposable {
+        private final ObservableMulticast<T> parent;
+        final Subject<T> subject;
+        final AtomicBoolean connected = new AtomicBoolean();
+
+        Connection(ObservableMulticast<T> parent, Subject<T> subject) {
+            this.parent = parent;
+            this.subject = subject;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            subject.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (parent.resetOnTerminate) {
+                parent.current.compareAndSet(this, null);
+            }
+            subject.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (parent.resetOnTerminate) {
+                parent.current.compareAndSet(this, null);
+            }
+            subject.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            if (DisposableHelper.dispose(this)) {
+                parent.current.compareAndSet(this, null);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(get());
+        }
+    }
+}
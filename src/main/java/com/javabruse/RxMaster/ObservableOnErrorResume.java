@@ -0,0 +1,68 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.function.Function;
+
+final class ObservableOnErrorResume<T> implements Observer<T>, Disposable {
+    private final Observer<T> downstream;
+    private final Function<Throwable, Observable<T>> fallback;
+    private final SerialDisposable upstream = new SerialDisposable();
+    private boolean resumed;
+
+    ObservableOnErrorResume(Observer<T> downstream, Function<Throwable, Observable<T>> fallback) {
+        this.downstream = downstream;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        if (!resumed) {
+            downstream.onSubscribe(this);
+        }
+        upstream.replace(d);
+    }
+
+    @Override
+    public void onNext(T item) {
+        downstream.onNext(item);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (resumed) {
+            downstream.onError(t);
+            return;
+        }
+        resumed = true;
+        Observable<T> next;
+        try {
+            next = fallback.apply(t);
+        } catch (Throwable e) {
+            e.addSuppressed(t);
+            downstream.onError(e);
+            return;
+        }
+        if (next == null) {
+            downstream.onError(new NullPointerException("fallback returned null"));
+            return;
+        }
+        next.subscribeActual(this);
+    }
+
+    @Override
+    public void onComplete() {
+        downstream.onComplete();
+    }
+
+    @Override
+    public void dispose() {
+        upstream.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return upstream.isDisposed();
+    }
+}
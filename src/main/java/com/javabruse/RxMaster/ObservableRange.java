@@ -0,0 +1,27 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+
+final class ObservableRange extends Observable<Integer> {
+    final int start;
+    final int count;
+
+    ObservableRange(int start, int count) {
+        this.start = start;
+        this.count = count;
+    }
+
+    @Override
+    void subscribeActual(Observer<Integer> observer) {
+        BooleanDisposable d = new BooleanDisposable();
+        observer.onSubscribe(d);
+        int end = start + count;
+        for (int i = start; i != end; i++) {
+            if (d.isDisposed()) return;
+            observer.onNext(i);
+        }
+        if (!d.isDisposed()) {
+            observer.onComplete();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+final class ObservableRefCount<T> extends Observable<T> {
+    private final ConnectableObservable<T> source;
+    private RefConnection connection;
+
+    ObservableRefCount(ConnectableObservable<T> source) {
+        this.source = source;
+    }
+
+    @Override
+    void subscribeActual(Observer<T> observer) {
+        RefConnection conn;
+        boolean connect = false;
+        synchronized (this) {
+            conn = connection;
+            if (conn == null) {
+                conn = new RefConnection();
+                connection = conn;
+            }
+            conn.subscribers++;
+            if (!conn.connected) {
+                conn.connected = true;
+                connect = true;
+            }
+        }
+        source.subscribeActual(new RefCountObserver<>(observer, this, conn));
+        if (connect) {
+            source.connect(conn.disposable::set);
+        }
+    }
+
+    void cancel(RefConnection conn) {
+        synchronized (this) {
+            if (connection != conn || --conn.subscribers != 0) {
+                return;
+            }
+            connection = null;
+        }
+        conn.disposable.dispose();
+    }
+
+    void terminated(RefConnection conn) {
+        synchronized (this) {
+            if (connection == conn) {
+                connection = null;
+            }
+        }
+    }
+
+    static final class RefConnection {
+        final SerialDisposable disposable = new SerialDisposable();
+        long subscribers;
+        boolean connected;
+    }
+
+    static final class RefCountObserver<T> extends AtomicBoolean implements Observer<T>, Disposable {
+        private final Observer<T> downstream;
+        private final ObservableRefCount<T> parent;
+        private final RefConnection connection;
+        private Disposable upstream;
+
+        RefCountObserver(Observer<T> downstream, ObservableRefCount<T> parent, RefConnection connection) {
+            this.downstream = downstream;
+            this.parent = parent;
+            this.connection = connection;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            downstream.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (compareAndSet(false, true)) {
+                parent.terminated(connection);
+                downstream.onError(t);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (compareAndSet(false, true)) {
+                parent.terminated(connection);
+                downstream.onComplete();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+            if (compareAndSet(false, true)) {
+                parent.cancel(connection);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return get();
+        }
+    }
+}
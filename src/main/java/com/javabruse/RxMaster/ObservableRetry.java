@@ -0,0 +1,146 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.RetryPolicy;
+import com.javabruse.RxMaster.interfaces.Worker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+final class ObservableRetry {
+    private ObservableRetry() {
+    }
+
+    abstract static class ResubscribeObserver<T> extends AtomicInteger implements Observer<T>, Disposable {
+        final Observer<T> downstream;
+        final Observable<T> source;
+        final SerialDisposable upstream = new SerialDisposable();
+
+        ResubscribeObserver(Observer<T> downstream, Observable<T> source) {
+            this.downstream = downstream;
+            this.source = source;
+        }
+
+        void start() {
+            downstream.onSubscribe(this);
+            subscribeNext();
+        }
+
+        void subscribeNext() {
+            if (getAndIncrement() != 0) return;
+            int missed = 1;
+            for (;;) {
+                if (upstream.isDisposed()) return;
+                source.subscribeActual(this);
+                missed = addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream.replace(d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            downstream.onNext(item);
+        }
+
+        @Override
+        public void onComplete() {
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+
+    static final class RetryObserver<T> extends ResubscribeObserver<T> {
+        private final Predicate<Throwable> predicate;
+        private long remaining;
+
+        RetryObserver(Observer<T> downstream, Observable<T> source, long times, Predicate<Throwable> predicate) {
+            super(downstream, source);
+            this.remaining = times;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            long r = remaining;
+            if (r != Long.MAX_VALUE) {
+                remaining = r - 1;
+            }
+            if (r == 0) {
+                downstream.onError(t);
+                return;
+            }
+            boolean retry;
+            try {
+                retry = predicate.test(t);
+            } catch (Throwable e) {
+                e.addSuppressed(t);
+                downstream.onError(e);
+                return;
+            }
+            if (retry) {
+                subscribeNext();
+            } else {
+                downstream.onError(t);
+            }
+        }
+    }
+
+    static final class RetryWhenObserver<T> extends ResubscribeObserver<T> {
+        private final RetryPolicy policy;
+        private final Worker worker;
+        private int attempt;
+
+        RetryWhenObserver(Observer<T> downstream, Observable<T> source, RetryPolicy policy, Worker worker) {
+            super(downstream, source);
+            this.policy = policy;
+            this.worker = worker;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            long delay;
+            try {
+                delay = policy.delayNanos(++attempt, t);
+            } catch (Throwable e) {
+                e.addSuppressed(t);
+                worker.dispose();
+                downstream.onError(e);
+                return;
+            }
+            if (delay < 0) {
+                worker.dispose();
+                downstream.onError(t);
+                return;
+            }
+            worker.schedule(this::subscribeNext, delay, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void onComplete() {
+            worker.dispose();
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            super.dispose();
+            worker.dispose();
+        }
+    }
+}
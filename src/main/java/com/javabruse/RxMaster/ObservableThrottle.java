@@ -0,0 +1,215 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+import com.javabruse.RxMaster.interfaces.Worker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+final class ObservableThrottle {
+    private ObservableThrottle() {
+    }
+
+    static final class SampleObserver<T> extends TimedBoundaryObserver<T, T> {
+        private T latest;
+
+        SampleObserver(Observer<T> downstream, Worker worker) {
+            super(downstream, worker);
+        }
+
+        @Override
+        void onItem(T item) {
+            latest = item;
+        }
+
+        @Override
+        void onBoundary() {
+            T item = latest;
+            if (item != null) {
+                latest = null;
+                downstream.onNext(item);
+            }
+        }
+
+        @Override
+        void onTerminate(Throwable error) {
+            latest = null;
+            if (error != null) {
+                downstream.onError(error);
+            } else {
+                downstream.onComplete();
+            }
+        }
+    }
+
+    static final class ThrottleFirstObserver<T> implements Observer<T>, Disposable {
+        private final Observer<T> downstream;
+        private final long windowNanos;
+        private final Scheduler scheduler;
+        private Disposable upstream;
+        private long gateEnd;
+        private boolean open = true;
+
+        ThrottleFirstObserver(Observer<T> downstream, long window, TimeUnit unit, Scheduler scheduler) {
+            this.downstream = downstream;
+            this.windowNanos = unit.toNanos(window);
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            long now = scheduler.now(TimeUnit.NANOSECONDS);
+            if (open || now - gateEnd >= 0) {
+                open = false;
+                gateEnd = now + windowNanos;
+                downstream.onNext(item);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            Disposable d = upstream;
+            if (d != null) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            Disposable d = upstream;
+            return d != null && d.isDisposed();
+        }
+    }
+
+    static final class DebounceObserver<T> implements Observer<T>, Disposable {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<DebounceObserver, Disposable> UPSTREAM =
+                AtomicReferenceFieldUpdater.newUpdater(DebounceObserver.class, Disposable.class, "upstream");
+
+        private final Observer<T> downstream;
+        private final long timeout;
+        private final TimeUnit unit;
+        private final Worker worker;
+        private volatile Disposable upstream;
+        private volatile DebounceTask<T> current;
+        private boolean done;
+
+        DebounceObserver(Observer<T> downstream, long timeout, TimeUnit unit, Worker worker) {
+            this.downstream = downstream;
+            this.timeout = timeout;
+            this.unit = unit;
+            this.worker = worker;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            if (DisposableHelper.setOnce(UPSTREAM, this, d)) {
+                downstream.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            DebounceTask<T> previous = current;
+            if (previous != null) {
+                previous.cancel();
+            }
+            DebounceTask<T> task = new DebounceTask<>(downstream, item);
+            current = task;
+            task.setTimer(worker.schedule(task, timeout, unit));
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            DebounceTask<T> previous = current;
+            if (previous != null) {
+                previous.cancel();
+            }
+            worker.schedule(() -> {
+                downstream.onError(t);
+                worker.dispose();
+            });
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            worker.schedule(() -> {
+                DebounceTask<T> last = current;
+                if (last != null) {
+                    last.run();
+                }
+                downstream.onComplete();
+                worker.dispose();
+            });
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(UPSTREAM, this);
+            worker.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(upstream);
+        }
+    }
+
+    static final class DebounceTask<T> extends AtomicBoolean implements Runnable {
+        private final Observer<T> downstream;
+        private final T item;
+        private volatile Disposable timer;
+
+        DebounceTask(Observer<T> downstream, T item) {
+            this.downstream = downstream;
+            this.item = item;
+        }
+
+        void setTimer(Disposable d) {
+            timer = d;
+            if (get()) {
+                d.dispose();
+            }
+        }
+
+        void cancel() {
+            if (compareAndSet(false, true)) {
+                Disposable d = timer;
+                if (d != null) {
+                    d.dispose();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            if (compareAndSet(false, true)) {
+                downstream.onNext(item);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Worker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+final class ObservableTimeout<T> extends AtomicLong implements Observer<T>, Disposable {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ObservableTimeout, Disposable> UPSTREAM =
+            AtomicReferenceFieldUpdater.newUpdater(ObservableTimeout.class, Disposable.class, "upstream");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ObservableTimeout, Disposable> TIMER =
+            AtomicReferenceFieldUpdater.newUpdater(ObservableTimeout.class, Disposable.class, "timer");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ObservableTimeout, Disposable> FALLBACK =
+            AtomicReferenceFieldUpdater.newUpdater(ObservableTimeout.class, Disposable.class, "fallbackUpstream");
+
+    private static final long TERMINATED = Long.MAX_VALUE;
+
+    private final Observer<T> downstream;
+    private final long timeout;
+    private final TimeUnit unit;
+    private final Worker worker;
+    private final Observable<T> fallback;
+    private volatile Disposable upstream;
+    private volatile Disposable timer;
+    private volatile Disposable fallbackUpstream;
+    private volatile boolean disposed;
+
+    ObservableTimeout(Observer<T> downstream, long timeout, TimeUnit unit, Worker worker, Observable<T> fallback) {
+        this.downstream = downstream;
+        this.timeout = timeout;
+        this.unit = unit;
+        this.worker = worker;
+        this.fallback = fallback;
+    }
+
+    void start() {
+        downstream.onSubscribe(this);
+        schedule(0L);
+    }
+
+    private void schedule(long index) {
+        DisposableHelper.set(TIMER, this, worker.schedule(() -> onTimeout(index), timeout, unit));
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        DisposableHelper.setOnce(UPSTREAM, this, d);
+    }
+
+    @Override
+    public void onNext(T item) {
+        long index = get();
+        if (index == TERMINATED || !compareAndSet(index, index + 1)) {
+            return;
+        }
+        downstream.onNext(item);
+        schedule(index + 1);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (getAndSet(TERMINATED) != TERMINATED) {
+            worker.dispose();
+            downstream.onError(t);
+        } else {
+            RxPlugins.onError(t);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (getAndSet(TERMINATED) != TERMINATED) {
+            worker.dispose();
+            downstream.onComplete();
+        }
+    }
+
+    private void onTimeout(long index) {
+        if (!compareAndSet(index, TERMINATED)) {
+            return;
+        }
+        DisposableHelper.dispose(UPSTREAM, this);
+        worker.dispose();
+        if (fallback == null) {
+            downstream.onError(new TimeoutException("No item within " + timeout + " " + unit.toString().toLowerCase()));
+            return;
+        }
+        fallback.subscribeActual(new Observer<T>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                DisposableHelper.setOnce(FALLBACK, ObservableTimeout.this, d);
+            }
+
+            @Override
+            public void onNext(T item) {
+                downstream.onNext(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                downstream.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                downstream.onComplete();
+            }
+        });
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        DisposableHelper.dispose(UPSTREAM, this);
+        DisposableHelper.dispose(FALLBACK, this);
+        worker.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
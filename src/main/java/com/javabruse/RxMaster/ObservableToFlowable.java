@@ -0,0 +1,275 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Subscriber;
+import com.javabruse.RxMaster.interfaces.Subscription;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+final class ObservableToFlowable {
+    private ObservableToFlowable() {
+    }
+
+    static <T> void subscribe(Observable<T> source, Subscriber<T> subscriber, BackpressureStrategy strategy) {
+        BaseEmitter<T> emitter = switch (strategy) {
+            case BUFFER -> new BufferEmitter<>(subscriber, Flowable.BUFFER_SIZE);
+            case DROP -> new DropEmitter<>(subscriber);
+            case LATEST -> new LatestEmitter<>(subscriber);
+            case ERROR -> new ErrorEmitter<>(subscriber);
+        };
+        subscriber.onSubscribe(emitter);
+        source.subscribeActual(emitter);
+    }
+
+    abstract static class BaseEmitter<T> extends AtomicLong implements Observer<T>, Subscription {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<BaseEmitter, Disposable> UPSTREAM =
+                AtomicReferenceFieldUpdater.newUpdater(BaseEmitter.class, Disposable.class, "upstream");
+
+        final Subscriber<T> downstream;
+        volatile boolean cancelled;
+        private volatile Disposable upstream;
+
+        BaseEmitter(Subscriber<T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(UPSTREAM, this, d);
+        }
+
+        @Override
+        public void request(long n) {
+            if (SubscriptionHelper.validate(n)) {
+                BackpressureHelper.add(this, n);
+                onRequested();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            DisposableHelper.dispose(UPSTREAM, this);
+            onCancelled();
+        }
+
+        void onRequested() {
+        }
+
+        void onCancelled() {
+        }
+    }
+
+    static class DropEmitter<T> extends BaseEmitter<T> {
+        boolean done;
+
+        DropEmitter(Subscriber<T> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done || cancelled) return;
+            if (get() != 0) {
+                downstream.onNext(item);
+                BackpressureHelper.produced(this, 1);
+            } else {
+                onOverflow();
+            }
+        }
+
+        void onOverflow() {
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done || cancelled) return;
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done || cancelled) return;
+            done = true;
+            downstream.onComplete();
+        }
+    }
+
+    static final class ErrorEmitter<T> extends DropEmitter<T> {
+        ErrorEmitter(Subscriber<T> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        void onOverflow() {
+            onError(new MissingBackpressureException("Could not emit value due to lack of requests"));
+            cancel();
+        }
+    }
+
+    abstract static class DrainEmitter<T> extends BaseEmitter<T> {
+        private final AtomicInteger wip = new AtomicInteger();
+        volatile boolean done;
+        Throwable error;
+
+        DrainEmitter(Subscriber<T> downstream) {
+            super(downstream);
+        }
+
+        abstract boolean offer(T item);
+
+        abstract T poll();
+
+        abstract boolean isEmpty();
+
+        abstract void clear();
+
+        @Override
+        public void onNext(T item) {
+            if (done || cancelled) return;
+            offer(item);
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done || cancelled) return;
+            error = t;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done || cancelled) return;
+            done = true;
+            drain();
+        }
+
+        @Override
+        void onRequested() {
+            drain();
+        }
+
+        @Override
+        void onCancelled() {
+            if (wip.getAndIncrement() == 0) {
+                clear();
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) return;
+            int missed = 1;
+            for (;;) {
+                long r = get();
+                long e = 0;
+                while (e != r) {
+                    if (cancelled) {
+                        clear();
+                        return;
+                    }
+                    boolean d = done;
+                    T item = poll();
+                    boolean empty = item == null;
+                    if (d && empty) {
+                        terminate();
+                        return;
+                    }
+                    if (empty) break;
+                    downstream.onNext(item);
+                    e++;
+                }
+                if (e == r) {
+                    if (cancelled) {
+                        clear();
+                        return;
+                    }
+                    if (done && isEmpty()) {
+                        terminate();
+                        return;
+                    }
+                }
+                if (e != 0) {
+                    BackpressureHelper.produced(this, e);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        private void terminate() {
+            Throwable t = error;
+            if (t != null) {
+                downstream.onError(t);
+            } else {
+                downstream.onComplete();
+            }
+        }
+    }
+
+    static final class BufferEmitter<T> extends DrainEmitter<T> {
+        private final SimpleQueue<T> queue;
+
+        BufferEmitter(Subscriber<T> downstream, int capacityHint) {
+            super(downstream);
+            this.queue = new SpscLinkedArrayQueue<>(capacityHint);
+        }
+
+        @Override
+        boolean offer(T item) {
+            return queue.offer(item);
+        }
+
+        @Override
+        T poll() {
+            return queue.poll();
+        }
+
+        @Override
+        boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        @Override
+        void clear() {
+            queue.clear();
+        }
+    }
+
+    static final class LatestEmitter<T> extends DrainEmitter<T> {
+        private final AtomicReference<T> latest = new AtomicReference<>();
+
+        LatestEmitter(Subscriber<T> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        boolean offer(T item) {
+            latest.set(item);
+            return true;
+        }
+
+        @Override
+        T poll() {
+            return latest.getAndSet(null);
+        }
+
+        @Override
+        boolean isEmpty() {
+            return latest.get() == null;
+        }
+
+        @Override
+        void clear() {
+            latest.lazySet(null);
+        }
+    }
+}
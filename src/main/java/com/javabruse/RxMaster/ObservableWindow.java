@@ -0,0 +1,121 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Worker;
+
+final class ObservableWindow {
+    private ObservableWindow() {
+    }
+
+    static final class ExactObserver<T> implements Observer<T> {
+        private final Observer<Observable<T>> downstream;
+        private final int count;
+        private UnicastSubject<T> window;
+        private int size;
+        private boolean done;
+
+        ExactObserver(Observer<Observable<T>> downstream, int count) {
+            this.downstream = downstream;
+            this.count = count;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            downstream.onSubscribe(d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            UnicastSubject<T> w = window;
+            if (w == null) {
+                w = UnicastSubject.create(Math.min(count, Flowable.BUFFER_SIZE));
+                window = w;
+                downstream.onNext(w);
+            }
+            w.onNext(item);
+            if (++size >= count) {
+                size = 0;
+                window = null;
+                w.onComplete();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            UnicastSubject<T> w = window;
+            window = null;
+            if (w != null) {
+                w.onError(t);
+            }
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            UnicastSubject<T> w = window;
+            window = null;
+            if (w != null) {
+                w.onComplete();
+            }
+            downstream.onComplete();
+        }
+    }
+
+    static final class TimedObserver<T> extends TimedBoundaryObserver<T, Observable<T>> {
+        private final int maxSize;
+        private UnicastSubject<T> window;
+        private int size;
+
+        TimedObserver(Observer<Observable<T>> downstream, Worker worker, int maxSize) {
+            super(downstream, worker);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        void onItem(T item) {
+            UnicastSubject<T> w = window;
+            if (w == null) {
+                w = UnicastSubject.create(Math.min(maxSize, Flowable.BUFFER_SIZE));
+                window = w;
+                downstream.onNext(w);
+            }
+            w.onNext(item);
+            if (++size >= maxSize) {
+                onBoundary();
+            }
+        }
+
+        @Override
+        void onBoundary() {
+            UnicastSubject<T> w = window;
+            if (w != null) {
+                window = null;
+                size = 0;
+                w.onComplete();
+            }
+        }
+
+        @Override
+        void onTerminate(Throwable error) {
+            UnicastSubject<T> w = window;
+            window = null;
+            if (error != null) {
+                if (w != null) {
+                    w.onError(error);
+                }
+                downstream.onError(error);
+            } else {
+                if (w != null) {
+                    w.onComplete();
+                }
+                downstream.onComplete();
+            }
+        }
+    }
+}
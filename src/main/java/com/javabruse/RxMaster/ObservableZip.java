@@ -0,0 +1,180 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+final class ObservableZip<R> extends AtomicInteger implements Disposable {
+    private final Observer<R> downstream;
+    private final Function<Object[], R> zipper;
+    private final ZipObserver[] observers;
+    private final Object[] row;
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+    private volatile boolean cancelled;
+
+    ObservableZip(Observer<R> downstream, Function<Object[], R> zipper, int sourceCount, int prefetch) {
+        this.downstream = downstream;
+        this.zipper = zipper;
+        this.observers = new ZipObserver[sourceCount];
+        for (int i = 0; i < sourceCount; i++) {
+            observers[i] = new ZipObserver(this, prefetch);
+        }
+        this.row = new Object[sourceCount];
+    }
+
+    @SuppressWarnings("unchecked")
+    void subscribe(Observable<?>[] sources) {
+        downstream.onSubscribe(this);
+        for (int i = 0; i < sources.length; i++) {
+            if (cancelled || error.get() != null) return;
+            ((Observable<Object>) sources[i]).subscribeActual(observers[i]);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (cancelled) return;
+        cancelled = true;
+        disposeAll();
+        if (getAndIncrement() == 0) {
+            clearAll();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return cancelled;
+    }
+
+    void innerError(Throwable t) {
+        if (error.compareAndSet(null, t)) {
+            drain();
+        } else {
+            RxPlugins.onError(t);
+        }
+    }
+
+    private void disposeAll() {
+        for (ZipObserver observer : observers) {
+            observer.dispose();
+        }
+    }
+
+    private void clearAll() {
+        Arrays.fill(row, null);
+        for (ZipObserver observer : observers) {
+            observer.queue.clear();
+        }
+    }
+
+    private boolean checkTerminate() {
+        if (cancelled) {
+            clearAll();
+            return true;
+        }
+        Throwable t = error.get();
+        if (t != null) {
+            cancelled = true;
+            disposeAll();
+            clearAll();
+            downstream.onError(t);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean fillRow() {
+        boolean full = true;
+        for (int i = 0; i < observers.length; i++) {
+            if (row[i] != null) continue;
+            ZipObserver observer = observers[i];
+            boolean d = observer.done;
+            Object item = observer.queue.poll();
+            if (item == null) {
+                if (d) {
+                    cancelled = true;
+                    disposeAll();
+                    clearAll();
+                    downstream.onComplete();
+                    return false;
+                }
+                full = false;
+            } else {
+                row[i] = item;
+            }
+        }
+        return full;
+    }
+
+    void drain() {
+        if (getAndIncrement() != 0) return;
+        int missed = 1;
+        for (;;) {
+            for (;;) {
+                if (checkTerminate()) return;
+                boolean full = fillRow();
+                if (cancelled) return;
+                if (!full) break;
+
+                R value;
+                try {
+                    value = zipper.apply(row.clone());
+                    if (value == null) throw new NullPointerException("The zipper returned a null value");
+                } catch (Throwable t) {
+                    error.compareAndSet(null, t);
+                    continue;
+                }
+                Arrays.fill(row, null);
+                downstream.onNext(value);
+            }
+            missed = addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+
+    static final class ZipObserver extends AtomicReference<Disposable> implements Observer<Object> {
+        private final ObservableZip<?> parent;
+        final SimpleQueue<Object> queue;
+        volatile boolean done;
+
+        ZipObserver(ObservableZip<?> parent, int prefetch) {
+            this.parent = parent;
+            this.queue = new SpscLinkedArrayQueue<>(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(Object item) {
+            if (done) return;
+            queue.offer(item);
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            parent.innerError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            parent.drain();
+        }
+
+        void dispose() {
+            DisposableHelper.dispose(this);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Worker;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+final class ObserveOnObserver<T> extends AtomicInteger implements Observer<T>, Disposable, Runnable {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ObserveOnObserver, Disposable> UPSTREAM =
+            AtomicReferenceFieldUpdater.newUpdater(ObserveOnObserver.class, Disposable.class, "upstream");
+
+    private final Observer<T> downstream;
+    private final Worker worker;
+    private final SimpleQueue<T> queue;
+
+    private volatile Disposable upstream;
+    private volatile boolean done;
+    private volatile boolean disposed;
+    private Throwable error;
+    private boolean terminated;
+
+    ObserveOnObserver(Observer<T> downstream, Worker worker, int bufferSize) {
+        this.downstream = downstream;
+        this.worker = worker;
+        this.queue = new SpscLinkedArrayQueue<>(bufferSize);
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        if (DisposableHelper.setOnce(UPSTREAM, this, d)) {
+            downstream.onSubscribe(this);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) return;
+        queue.offer(item);
+        schedule();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (done) return;
+        error = t;
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) return;
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) return;
+        disposed = true;
+        DisposableHelper.dispose(UPSTREAM, this);
+        worker.dispose();
+        if (getAndIncrement() == 0) {
+            queue.clear();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    private void schedule() {
+        if (getAndIncrement() == 0) {
+            worker.schedule(this);
+        }
+    }
+
+    @Override
+    public void run() {
+        int missed = 1;
+        SimpleQueue<T> q = queue;
+        Observer<T> a = downstream;
+        for (;;) {
+            if (terminated) return;
+            for (;;) {
+                if (disposed) {
+                    queue.clear();
+                    return;
+                }
+                boolean d = done;
+                T item = q.poll();
+                boolean empty = item == null;
+                if (d && empty) {
+                    terminated = true;
+                    worker.dispose();
+                    Throwable t = error;
+                    if (t != null) {
+                        a.onError(t);
+                    } else {
+                        a.onComplete();
+                    }
+                    return;
+                }
+                if (empty) break;
+                a.onNext(item);
+            }
+            missed = addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.javabruse.RxMaster;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+final class OpenHashSet<T> {
+    private static final Object TOMBSTONE = new Object();
+    private static final int MIN_CAPACITY = 16;
+
+    private static final int ADDED = 0;
+    private static final int PRESENT = 1;
+    private static final int MOVED = 2;
+    private static final int FULL = 3;
+
+    private static final class Moved {
+        final Object value;
+
+        Moved(Object value) {
+            this.value = value;
+        }
+    }
+
+    private static final class Table {
+        final AtomicReferenceArray<Object> slots;
+        final int mask;
+        final int threshold;
+        final AtomicInteger used = new AtomicInteger();
+        final AtomicInteger transferred = new AtomicInteger();
+        final AtomicReference<Table> next = new AtomicReference<>();
+
+        Table(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+            this.threshold = capacity - (capacity >> 2);
+        }
+    }
+
+    private final AtomicReference<Table> table;
+    private final AtomicInteger size = new AtomicInteger();
+
+    OpenHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    OpenHashSet(int capacity) {
+        this.table = new AtomicReference<>(new Table(SpscArrayQueue.roundToPowerOfTwo(Math.max(MIN_CAPACITY, capacity))));
+    }
+
+    private static int mix(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    boolean add(T value) {
+        Objects.requireNonNull(value, "value is null");
+        for (;;) {
+            Table t = table.get();
+            int result = tryAdd(t, value, false);
+            if (result == ADDED) {
+                size.incrementAndGet();
+                if (t.used.get() >= t.threshold) {
+                    resize(t);
+                }
+                return true;
+            }
+            if (result == PRESENT) {
+                return false;
+            }
+            resize(t);
+        }
+    }
+
+    private static int tryAdd(Table t, Object value, boolean transfer) {
+        AtomicReferenceArray<Object> slots = t.slots;
+        int mask = t.mask;
+        int index = mix(value.hashCode()) & mask;
+        for (int probes = 0; probes <= mask; ) {
+            Object current = slots.get(index);
+            if (current == null) {
+                if (!transfer && t.used.get() >= t.threshold) {
+                    return FULL;
+                }
+                if (slots.compareAndSet(index, null, value)) {
+                    t.used.incrementAndGet();
+                    return ADDED;
+                }
+                continue;
+            }
+            if (current instanceof Moved) {
+                return MOVED;
+            }
+            if (current != TOMBSTONE && current.equals(value)) {
+                return PRESENT;
+            }
+            index = (index + 1) & mask;
+            probes++;
+        }
+        return FULL;
+    }
+
+    boolean remove(T value) {
+        if (value == null) return false;
+        for (;;) {
+            Table t = table.get();
+            AtomicReferenceArray<Object> slots = t.slots;
+            int mask = t.mask;
+            int index = mix(value.hashCode()) & mask;
+            boolean moved = false;
+            for (int probes = 0; probes <= mask; ) {
+                Object current = slots.get(index);
+                if (current == null) {
+                    return false;
+                }
+                if (current instanceof Moved) {
+                    moved = true;
+                    break;
+                }
+                if (current != TOMBSTONE && current.equals(value)) {
+                    if (slots.compareAndSet(index, current, TOMBSTONE)) {
+                        size.decrementAndGet();
+                        return true;
+                    }
+                    continue;
+                }
+                index = (index + 1) & mask;
+                probes++;
+            }
+            if (!moved) {
+                return false;
+            }
+            resize(t);
+        }
+    }
+
+    private void resize(Table t) {
+        Table n = t.next.get();
+        if (n == null) {
+            int capacity = t.slots.length();
+            int live = size.get();
+            int newCapacity = live * 2 >= t.threshold ? capacity << 1 : capacity;
+            Table candidate = new Table(newCapacity);
+            n = t.next.compareAndSet(null, candidate) ? candidate : t.next.get();
+        }
+        AtomicReferenceArray<Object> slots = t.slots;
+        int capacity = slots.length();
+        for (int i = 0; i < capacity; i++) {
+            Object current = slots.get(i);
+            if (current instanceof Moved) {
+                continue;
+            }
+            if (!slots.compareAndSet(i, current, new Moved(current))) {
+                i--;
+                continue;
+            }
+            if (current != null && current != TOMBSTONE) {
+                tryAdd(n, current, true);
+            }
+            t.transferred.incrementAndGet();
+        }
+        while (t.transferred.get() < capacity) {
+            Thread.onSpinWait();
+        }
+        table.compareAndSet(t, n);
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEach(Consumer<T> action) {
+        AtomicReferenceArray<Object> slots = table.get().slots;
+        for (int i = 0; i < slots.length(); i++) {
+            Object current = slots.get(i);
+            if (current instanceof Moved moved) {
+                current = moved.value;
+            }
+            if (current != null && current != TOMBSTONE) {
+                action.accept((T) current);
+            }
+        }
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    boolean isEmpty() {
+        return size.get() == 0;
+    }
+}
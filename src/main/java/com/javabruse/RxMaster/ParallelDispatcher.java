@@ -0,0 +1,41 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+final class ParallelDispatcher<T> implements Observer<T> {
+    private final ParallelObservable.Rail<T>[] rails;
+    private int index;
+
+    ParallelDispatcher(ParallelObservable.Rail<T>[] rails) {
+        this.rails = rails;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        for (ParallelObservable.Rail<T> rail : rails) {
+            rail.onSubscribe(d);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        int i = index;
+        rails[i].onNext(item);
+        index = ++i == rails.length ? 0 : i;
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        for (ParallelObservable.Rail<T> rail : rails) {
+            rail.onError(t);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        for (ParallelObservable.Rail<T> rail : rails) {
+            rail.onComplete();
+        }
+    }
+}
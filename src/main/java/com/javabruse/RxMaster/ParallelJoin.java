@@ -0,0 +1,235 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+final class ParallelJoin<T> extends AtomicInteger implements Disposable {
+    private static final Object DROPPED = new Object();
+
+    private final Observer<T> downstream;
+    private final JoinRail<T>[] rails;
+    private final boolean ordered;
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+    private volatile boolean cancelled;
+    private int current;
+    private int remaining;
+
+    @SuppressWarnings("unchecked")
+    ParallelJoin(Observer<T> downstream, int parallelism, int prefetch, boolean ordered) {
+        this.downstream = downstream;
+        this.ordered = ordered;
+        this.remaining = parallelism;
+        this.rails = (JoinRail<T>[]) new JoinRail<?>[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            rails[i] = new JoinRail<>(this, prefetch);
+        }
+    }
+
+    ParallelObservable.Rail<T>[] rails() {
+        return rails;
+    }
+
+    @Override
+    public void dispose() {
+        if (cancelled) return;
+        cancelled = true;
+        disposeAll();
+        if (getAndIncrement() == 0) {
+            clearAll();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return cancelled;
+    }
+
+    private void disposeAll() {
+        for (JoinRail<T> rail : rails) {
+            DisposableHelper.dispose(rail);
+        }
+    }
+
+    private void clearAll() {
+        for (JoinRail<T> rail : rails) {
+            rail.queue.clear();
+        }
+    }
+
+    void tryEmit(JoinRail<T> rail, Object item) {
+        if (cancelled) return;
+        if (get() == 0 && compareAndSet(0, 1)) {
+            if (rail.queue.isEmpty() && (!ordered || rails[current] == rail)) {
+                if (ordered) {
+                    current = next(current);
+                }
+                if (item != DROPPED) {
+                    downstream.onNext(rail.cast(item));
+                }
+                if (decrementAndGet() == 0) return;
+            } else {
+                rail.queue.offer(item);
+            }
+        } else {
+            rail.queue.offer(item);
+            if (getAndIncrement() != 0) return;
+        }
+        drainLoop();
+    }
+
+    void onError(Throwable t) {
+        if (error.compareAndSet(null, t)) {
+            drain();
+        }
+    }
+
+    void drain() {
+        if (getAndIncrement() == 0) {
+            drainLoop();
+        }
+    }
+
+    private int next(int index) {
+        return ++index == rails.length ? 0 : index;
+    }
+
+    private boolean checkTerminate() {
+        if (cancelled) {
+            clearAll();
+            return true;
+        }
+        Throwable t = error.get();
+        if (t != null) {
+            cancelled = true;
+            disposeAll();
+            clearAll();
+            downstream.onError(t);
+            return true;
+        }
+        return false;
+    }
+
+    private void drainLoop() {
+        if (ordered) {
+            drainOrdered();
+        } else {
+            drainUnordered();
+        }
+    }
+
+    private void drainUnordered() {
+        int missed = 1;
+        for (;;) {
+            boolean allDone = true;
+            for (JoinRail<T> rail : rails) {
+                for (;;) {
+                    if (checkTerminate()) return;
+                    boolean d = rail.done;
+                    Object item = rail.queue.poll();
+                    if (item == null) {
+                        if (!d) {
+                            allDone = false;
+                        }
+                        break;
+                    }
+                    downstream.onNext(rail.cast(item));
+                }
+            }
+            if (allDone) {
+                cancelled = true;
+                downstream.onComplete();
+                return;
+            }
+            missed = addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+
+    private void drainOrdered() {
+        int missed = 1;
+        int index = current;
+        for (;;) {
+            for (;;) {
+                if (checkTerminate()) return;
+                JoinRail<T> rail = rails[index];
+                if (rail.exhausted) {
+                    index = next(index);
+                    continue;
+                }
+                boolean d = rail.done;
+                Object item = rail.queue.poll();
+                if (item == null) {
+                    if (!d) break;
+                    rail.exhausted = true;
+                    if (--remaining == 0) {
+                        cancelled = true;
+                        downstream.onComplete();
+                        return;
+                    }
+                    index = next(index);
+                    continue;
+                }
+                index = next(index);
+                if (item != DROPPED) {
+                    current = index;
+                    downstream.onNext(rail.cast(item));
+                }
+            }
+            current = index;
+            missed = addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+
+    static final class JoinRail<T> extends AtomicReference<Disposable> implements ParallelObservable.Rail<T> {
+        private final ParallelJoin<T> parent;
+        final SimpleQueue<Object> queue;
+        volatile boolean done;
+        boolean exhausted;
+
+        JoinRail(ParallelJoin<T> parent, int prefetch) {
+            this.parent = parent;
+            this.queue = new SpscLinkedArrayQueue<>(prefetch);
+        }
+
+        @SuppressWarnings("unchecked")
+        T cast(Object item) {
+            return (T) item;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) return;
+            parent.tryEmit(this, item);
+        }
+
+        @Override
+        public void onDrop() {
+            if (done || !parent.ordered) return;
+            parent.tryEmit(this, DROPPED);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            parent.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            parent.drain();
+        }
+    }
+}
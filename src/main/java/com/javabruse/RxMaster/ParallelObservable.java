@@ -0,0 +1,366 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public final class ParallelObservable<T> {
+
+    interface Rail<T> extends Observer<T> {
+        void onDrop();
+    }
+
+    interface OnSubscribe<T> {
+        void subscribe(Rail<T>[] rails);
+    }
+
+    private final int parallelism;
+    private final OnSubscribe<T> onSubscribe;
+
+    ParallelObservable(int parallelism, OnSubscribe<T> onSubscribe) {
+        this.parallelism = parallelism;
+        this.onSubscribe = onSubscribe;
+    }
+
+    static <T> ParallelObservable<T> from(Observable<T> source, int parallelism) {
+        return new ParallelObservable<>(parallelism, rails -> source.subscribeActual(new ParallelDispatcher<>(rails)));
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    void subscribe(Rail<T>[] rails) {
+        onSubscribe.subscribe(rails);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> ParallelObservable<R> lift(Function<Rail<R>, Rail<T>> operator) {
+        return new ParallelObservable<>(parallelism, rails -> {
+            Rail<T>[] parents = (Rail<T>[]) new Rail<?>[rails.length];
+            for (int i = 0; i < rails.length; i++) {
+                parents[i] = operator.apply(rails[i]);
+            }
+            subscribe(parents);
+        });
+    }
+
+    public ParallelObservable<T> runOn(Scheduler scheduler) {
+        return runOn(scheduler, Flowable.BUFFER_SIZE);
+    }
+
+    public ParallelObservable<T> runOn(Scheduler scheduler, int prefetch) {
+        Objects.requireNonNull(scheduler, "scheduler is null");
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch > 0 required");
+        return lift(rail -> new RunOnRail<>(rail, scheduler.createWorker(), prefetch));
+    }
+
+    public <R> ParallelObservable<R> map(Function<T, R> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return lift(rail -> new Rail<T>() {
+            private Disposable upstream;
+            private boolean done;
+
+            @Override
+            public void onSubscribe(Disposable d) {
+                upstream = d;
+                rail.onSubscribe(d);
+            }
+
+            @Override
+            public void onNext(T item) {
+                if (done) return;
+                R mapped;
+                try {
+                    mapped = mapper.apply(item);
+                } catch (Throwable t) {
+                    Disposable d = upstream;
+                    if (d != null) {
+                        d.dispose();
+                    }
+                    onError(t);
+                    return;
+                }
+                rail.onNext(mapped);
+            }
+
+            @Override
+            public void onDrop() {
+                rail.onDrop();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                if (done) return;
+                done = true;
+                rail.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                if (done) return;
+                done = true;
+                rail.onComplete();
+            }
+        });
+    }
+
+    public ParallelObservable<T> filter(Predicate<T> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return lift(rail -> new Rail<T>() {
+            private Disposable upstream;
+            private boolean done;
+
+            @Override
+            public void onSubscribe(Disposable d) {
+                upstream = d;
+                rail.onSubscribe(d);
+            }
+
+            @Override
+            public void onNext(T item) {
+                if (done) return;
+                boolean pass;
+                try {
+                    pass = predicate.test(item);
+                } catch (Throwable t) {
+                    Disposable d = upstream;
+                    if (d != null) {
+                        d.dispose();
+                    }
+                    onError(t);
+                    return;
+                }
+                if (pass) {
+                    rail.onNext(item);
+                } else {
+                    rail.onDrop();
+                }
+            }
+
+            @Override
+            public void onDrop() {
+                rail.onDrop();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                if (done) return;
+                done = true;
+                rail.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                if (done) return;
+                done = true;
+                rail.onComplete();
+            }
+        });
+    }
+
+    public <R> ParallelObservable<R> reduce(Supplier<R> seedSupplier, BiFunction<R, T, R> reducer) {
+        Objects.requireNonNull(seedSupplier, "seedSupplier is null");
+        Objects.requireNonNull(reducer, "reducer is null");
+        return lift(rail -> new Rail<T>() {
+            private R value;
+            private boolean started;
+            private Disposable upstream;
+            private boolean done;
+
+            @Override
+            public void onSubscribe(Disposable d) {
+                upstream = d;
+                rail.onSubscribe(d);
+            }
+
+            @Override
+            public void onNext(T item) {
+                if (done) return;
+                try {
+                    if (!started) {
+                        started = true;
+                        value = seedSupplier.get();
+                    }
+                    value = reducer.apply(value, item);
+                } catch (Throwable t) {
+                    Disposable d = upstream;
+                    if (d != null) {
+                        d.dispose();
+                    }
+                    onError(t);
+                }
+            }
+
+            @Override
+            public void onDrop() {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                if (done) return;
+                done = true;
+                value = null;
+                rail.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                if (done) return;
+                done = true;
+                R v;
+                try {
+                    v = started ? value : seedSupplier.get();
+                } catch (Throwable t) {
+                    rail.onError(t);
+                    return;
+                }
+                value = null;
+                rail.onNext(v);
+                rail.onComplete();
+            }
+        });
+    }
+
+    public Observable<T> reduce(BinaryOperator<T> reducer) {
+        Objects.requireNonNull(reducer, "reducer is null");
+        ParallelObservable<T> partial = lift(rail -> new Rail<T>() {
+            private T value;
+            private Disposable upstream;
+            private boolean done;
+
+            @Override
+            public void onSubscribe(Disposable d) {
+                upstream = d;
+                rail.onSubscribe(d);
+            }
+
+            @Override
+            public void onNext(T item) {
+                if (done) return;
+                if (value == null) {
+                    value = item;
+                    return;
+                }
+                try {
+                    value = reducer.apply(value, item);
+                } catch (Throwable t) {
+                    Disposable d = upstream;
+                    if (d != null) {
+                        d.dispose();
+                    }
+                    onError(t);
+                }
+            }
+
+            @Override
+            public void onDrop() {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                if (done) return;
+                done = true;
+                value = null;
+                rail.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                if (done) return;
+                done = true;
+                T v = value;
+                value = null;
+                if (v != null) {
+                    rail.onNext(v);
+                }
+                rail.onComplete();
+            }
+        });
+        Observable<T> merged = partial.sequential();
+        return Observable.unsafeCreate(observer ->
+                merged.subscribeActual(new Observer<T>() {
+                    private Disposable upstream;
+                    private T value;
+                    private boolean done;
+
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        upstream = d;
+                        observer.onSubscribe(d);
+                    }
+
+                    @Override
+                    public void onNext(T item) {
+                        if (done) return;
+                        if (value == null) {
+                            value = item;
+                            return;
+                        }
+                        try {
+                            value = reducer.apply(value, item);
+                        } catch (Throwable t) {
+                            Disposable d = upstream;
+                            if (d != null) {
+                                d.dispose();
+                            }
+                            onError(t);
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        if (done) return;
+                        done = true;
+                        value = null;
+                        observer.onError(t);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (done) return;
+                        done = true;
+                        T v = value;
+                        value = null;
+                        if (v != null) {
+                            observer.onNext(v);
+                        }
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    public Observable<T> sequential() {
+        return sequential(Flowable.BUFFER_SIZE);
+    }
+
+    public Observable<T> sequential(int prefetch) {
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch > 0 required");
+        return Observable.unsafeCreate(observer -> {
+            ParallelJoin<T> join = new ParallelJoin<>(observer, parallelism, prefetch, false);
+            observer.onSubscribe(join);
+            subscribe(join.rails());
+        });
+    }
+
+    public Observable<T> sequentialOrdered() {
+        return sequentialOrdered(Flowable.BUFFER_SIZE);
+    }
+
+    public Observable<T> sequentialOrdered(int prefetch) {
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch > 0 required");
+        return Observable.unsafeCreate(observer -> {
+            ParallelJoin<T> join = new ParallelJoin<>(observer, parallelism, prefetch, true);
+            observer.onSubscribe(join);
+            subscribe(join.rails());
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.TerminalObserver;
+
+abstract class PrimitiveStage<D extends TerminalObserver> {
+    final D downstream;
+    Disposable upstream;
+    boolean done;
+
+    PrimitiveStage(D downstream) {
+        this.downstream = downstream;
+    }
+
+    public void onSubscribe(Disposable d) {
+        upstream = d;
+        downstream.onSubscribe(d);
+    }
+
+    public void onError(Throwable t) {
+        if (done) return;
+        done = true;
+        downstream.onError(t);
+    }
+
+    public void onComplete() {
+        if (done) return;
+        done = true;
+        downstream.onComplete();
+    }
+
+    final void fail(Throwable t) {
+        Disposable d = upstream;
+        if (d != null) {
+            d.dispose();
+        }
+        onError(t);
+    }
+
+    abstract static class Aggregate<D extends TerminalObserver> extends PrimitiveStage<D> {
+        Aggregate(D downstream) {
+            super(downstream);
+        }
+
+        abstract void emitResult();
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            emitResult();
+            downstream.onComplete();
+        }
+    }
+}
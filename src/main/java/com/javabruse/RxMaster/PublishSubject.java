@@ -0,0 +1,174 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class PublishSubject<T> extends Subject<T> {
+    private static final PublishDisposable<?>[] EMPTY = new PublishDisposable<?>[0];
+    private static final PublishDisposable<?>[] TERMINATED = new PublishDisposable<?>[0];
+
+    private final AtomicReference<PublishDisposable<?>[]> subscribers = new AtomicReference<>(EMPTY);
+    private Throwable error;
+
+    private PublishSubject() {
+    }
+
+    public static <T> PublishSubject<T> create() {
+        return new PublishSubject<>();
+    }
+
+    @Override
+    void subscribeActual(Observer<T> observer) {
+        PublishDisposable<T> pd = new PublishDisposable<>(observer, this);
+        observer.onSubscribe(pd);
+        if (add(pd)) {
+            if (pd.isDisposed()) {
+                remove(pd);
+            }
+        } else {
+            Throwable t = error;
+            if (t != null) {
+                observer.onError(t);
+            } else {
+                observer.onComplete();
+            }
+        }
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        if (subscribers.get() == TERMINATED) {
+            d.dispose();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onNext(T item) {
+        for (PublishDisposable<?> pd : subscribers.get()) {
+            ((PublishDisposable<T>) pd).onNext(item);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (subscribers.get() == TERMINATED) return;
+        error = t;
+        for (PublishDisposable<?> pd : subscribers.getAndSet(TERMINATED)) {
+            pd.onError(t);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (subscribers.get() == TERMINATED) return;
+        for (PublishDisposable<?> pd : subscribers.getAndSet(TERMINATED)) {
+            pd.onComplete();
+        }
+    }
+
+    @Override
+    public boolean hasObservers() {
+        return subscribers.get().length != 0;
+    }
+
+    public boolean hasComplete() {
+        return subscribers.get() == TERMINATED && error == null;
+    }
+
+    public boolean hasThrowable() {
+        return subscribers.get() == TERMINATED && error != null;
+    }
+
+    public Throwable getThrowable() {
+        return subscribers.get() == TERMINATED ? error : null;
+    }
+
+    private boolean add(PublishDisposable<T> pd) {
+        for (;;) {
+            PublishDisposable<?>[] current = subscribers.get();
+            if (current == TERMINATED) {
+                return false;
+            }
+            int n = current.length;
+            PublishDisposable<?>[] next = new PublishDisposable<?>[n + 1];
+            System.arraycopy(current, 0, next, 0, n);
+            next[n] = pd;
+            if (subscribers.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    private void remove(PublishDisposable<?> pd) {
+        for (;;) {
+            PublishDisposable<?>[] current = subscribers.get();
+            if (current == TERMINATED || current == EMPTY) {
+                return;
+            }
+            int n = current.length;
+            int index = -1;
+            for (int i = 0; i < n; i++) {
+                if (current[i] == pd) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) return;
+            PublishDisposable<?>[] next;
+            if (n == 1) {
+                next = EMPTY;
+            } else {
+                next = new PublishDisposable<?>[n - 1];
+                System.arraycopy(current, 0, next, 0, index);
+                System.arraycopy(current, index + 1, next, index, n - index - 1);
+            }
+            if (subscribers.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    static final class PublishDisposable<T> extends AtomicBoolean implements Disposable {
+        private final Observer<T> downstream;
+        private final PublishSubject<T> parent;
+
+        PublishDisposable(Observer<T> downstream, PublishSubject<T> parent) {
+            this.downstream = downstream;
+            this.parent = parent;
+        }
+
+        void onNext(T item) {
+            if (!get()) {
+                downstream.onNext(item);
+            }
+        }
+
+        void onError(Throwable t) {
+            if (!get()) {
+                downstream.onError(t);
+            }
+        }
+
+        void onComplete() {
+            if (!get()) {
+                downstream.onComplete();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (compareAndSet(false, true)) {
+                parent.remove(this);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return get();
+        }
+    }
+}
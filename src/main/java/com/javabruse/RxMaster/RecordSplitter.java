@@ -0,0 +1,79 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.nio.ByteBuffer;
+
+final class RecordSplitter implements Observer<ByteBuffer> {
+    private final Observer<ByteBuffer> downstream;
+    private final byte delimiter;
+    private ByteBuffer carry;
+    private boolean done;
+
+    RecordSplitter(Observer<ByteBuffer> downstream, byte delimiter) {
+        this.downstream = downstream;
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        downstream.onSubscribe(d);
+    }
+
+    @Override
+    public void onNext(ByteBuffer chunk) {
+        if (done) return;
+        int start = chunk.position();
+        int limit = chunk.limit();
+        byte delim = delimiter;
+        for (int i = start; i < limit; i++) {
+            if (chunk.get(i) != delim) continue;
+            ByteBuffer c = carry;
+            if (c != null) {
+                carry = null;
+                downstream.onNext(append(c, chunk, start, i).flip());
+            } else {
+                downstream.onNext(chunk.slice(start, i - start));
+            }
+            start = i + 1;
+        }
+        if (start < limit) {
+            ByteBuffer c = carry;
+            if (c == null) {
+                c = ByteBuffer.allocate(Math.max(64, (limit - start) * 2));
+            }
+            carry = append(c, chunk, start, limit);
+        }
+    }
+
+    private ByteBuffer append(ByteBuffer target, ByteBuffer chunk, int from, int to) {
+        int length = to - from;
+        if (target.remaining() < length) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(target.capacity() * 2, target.position() + length));
+            target = grown.put(target.flip());
+        }
+        target.put(target.position(), chunk, from, length);
+        return target.position(target.position() + length);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (done) return;
+        done = true;
+        carry = null;
+        downstream.onError(t);
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) return;
+        done = true;
+        ByteBuffer c = carry;
+        carry = null;
+        if (c != null && c.position() > 0) {
+            downstream.onNext(c.flip());
+        }
+        downstream.onComplete();
+    }
+}
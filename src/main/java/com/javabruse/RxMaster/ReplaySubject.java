@@ -0,0 +1,251 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public final class ReplaySubject<T> extends Subject<T> {
+    private static final ReplayDisposable<?>[] EMPTY = new ReplayDisposable<?>[0];
+    private static final ReplayDisposable<?>[] TERMINATED = new ReplayDisposable<?>[0];
+
+    private final AtomicReference<ReplayDisposable<?>[]> subscribers = new AtomicReference<>(EMPTY);
+    private final AtomicReferenceArray<Object> values;
+    private final AtomicLongArray times;
+    private final int capacity;
+    private final int mask;
+    private final int maxSize;
+    private final long maxAgeNanos;
+    private final Scheduler scheduler;
+
+    private volatile long tail;
+    private volatile boolean done;
+    private Throwable error;
+
+    private ReplaySubject(int maxSize, long maxAgeNanos, Scheduler scheduler) {
+        this.capacity = SpscArrayQueue.roundToPowerOfTwo(maxSize + 1);
+        this.mask = capacity - 1;
+        this.maxSize = maxSize;
+        this.values = new AtomicReferenceArray<>(capacity);
+        this.times = scheduler != null ? new AtomicLongArray(capacity) : null;
+        this.maxAgeNanos = maxAgeNanos;
+        this.scheduler = scheduler;
+    }
+
+    public static <T> ReplaySubject<T> createWithSize(int maxSize) {
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize > 0 required");
+        return new ReplaySubject<>(maxSize, 0, null);
+    }
+
+    public static <T> ReplaySubject<T> createWithTimeAndSize(long maxAge, TimeUnit unit, Scheduler scheduler, int maxSize) {
+        if (maxAge <= 0) throw new IllegalArgumentException("maxAge > 0 required");
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize > 0 required");
+        return new ReplaySubject<>(maxSize, unit.toNanos(maxAge), Objects.requireNonNull(scheduler, "scheduler is null"));
+    }
+
+    @Override
+    void subscribeActual(Observer<T> observer) {
+        ReplayDisposable<T> rd = new ReplayDisposable<>(observer, this);
+        observer.onSubscribe(rd);
+        if (add(rd) && rd.cancelled) {
+            remove(rd);
+            return;
+        }
+        replay(rd);
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        if (done) {
+            d.dispose();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onNext(T item) {
+        Objects.requireNonNull(item, "item is null");
+        if (done) return;
+        long t = tail;
+        int i = (int) t & mask;
+        if (times != null) {
+            times.set(i, scheduler.now(TimeUnit.NANOSECONDS));
+        }
+        values.set(i, item);
+        tail = t + 1;
+        for (ReplayDisposable<?> rd : subscribers.get()) {
+            replay((ReplayDisposable<T>) rd);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (done) return;
+        error = t;
+        terminate();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) return;
+        terminate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void terminate() {
+        done = true;
+        for (ReplayDisposable<?> rd : subscribers.getAndSet(TERMINATED)) {
+            replay((ReplayDisposable<T>) rd);
+        }
+    }
+
+    @Override
+    public boolean hasObservers() {
+        return subscribers.get().length != 0;
+    }
+
+    public int size() {
+        return (int) Math.min(tail, maxSize);
+    }
+
+    private long firstIndex() {
+        long t = tail;
+        long index = Math.max(0, t - maxSize);
+        if (times == null) {
+            return index;
+        }
+        long limit = scheduler.now(TimeUnit.NANOSECONDS) - maxAgeNanos;
+        while (index < t) {
+            long time = times.get((int) index & mask);
+            long current = tail;
+            if (current - index >= capacity) {
+                index = current - maxSize;
+                continue;
+            }
+            if (time >= limit) {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void replay(ReplayDisposable<T> rd) {
+        if (rd.getAndIncrement() != 0) return;
+        int missed = 1;
+        Observer<T> a = rd.downstream;
+        for (;;) {
+            long index = rd.index;
+            if (index < 0) {
+                index = firstIndex();
+            }
+            for (;;) {
+                if (rd.cancelled) return;
+                boolean d = done;
+                long t = tail;
+                if (index == t) {
+                    if (d) {
+                        rd.cancelled = true;
+                        Throwable e = error;
+                        if (e != null) {
+                            a.onError(e);
+                        } else {
+                            a.onComplete();
+                        }
+                        return;
+                    }
+                    break;
+                }
+                if (t - index > maxSize) {
+                    index = t - maxSize;
+                }
+                Object value = values.get((int) index & mask);
+                if (tail - index >= capacity) {
+                    continue;
+                }
+                index++;
+                a.onNext((T) value);
+            }
+            rd.index = index;
+            missed = rd.addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+
+    private boolean add(ReplayDisposable<T> rd) {
+        for (;;) {
+            ReplayDisposable<?>[] current = subscribers.get();
+            if (current == TERMINATED) {
+                return false;
+            }
+            int n = current.length;
+            ReplayDisposable<?>[] next = new ReplayDisposable<?>[n + 1];
+            System.arraycopy(current, 0, next, 0, n);
+            next[n] = rd;
+            if (subscribers.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    private void remove(ReplayDisposable<?> rd) {
+        for (;;) {
+            ReplayDisposable<?>[] current = subscribers.get();
+            if (current == TERMINATED || current == EMPTY) {
+                return;
+            }
+            int n = current.length;
+            int index = -1;
+            for (int i = 0; i < n; i++) {
+                if (current[i] == rd) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) return;
+            ReplayDisposable<?>[] next;
+            if (n == 1) {
+                next = EMPTY;
+            } else {
+                next = new ReplayDisposable<?>[n - 1];
+                System.arraycopy(current, 0, next, 0, index);
+                System.arraycopy(current, index + 1, next, index, n - index - 1);
+            }
+            if (subscribers.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    static final class ReplayDisposable<T> extends AtomicInteger implements Disposable {
+        final Observer<T> downstream;
+        private final ReplaySubject<T> parent;
+        volatile boolean cancelled;
+        long index = -1;
+
+        ReplayDisposable(Observer<T> downstream, ReplaySubject<T> parent) {
+            this.downstream = downstream;
+            this.parent = parent;
+        }
+
+        @Override
+        public void dispose() {
+            if (!cancelled) {
+                cancelled = true;
+                parent.remove(this);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Worker;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+final class RunOnRail<T> extends AtomicInteger implements ParallelObservable.Rail<T>, Disposable, Runnable {
+    private static final Object DROPPED = new Object();
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<RunOnRail, Disposable> UPSTREAM =
+            AtomicReferenceFieldUpdater.newUpdater(RunOnRail.class, Disposable.class, "upstream");
+
+    private final ParallelObservable.Rail<T> downstream;
+    private final Worker worker;
+    private final SimpleQueue<Object> queue;
+
+    private volatile Disposable upstream;
+    private volatile boolean done;
+    private volatile boolean disposed;
+    private Throwable error;
+    private boolean terminated;
+
+    RunOnRail(ParallelObservable.Rail<T> downstream, Worker worker, int prefetch) {
+        this.downstream = downstream;
+        this.worker = worker;
+        this.queue = new SpscLinkedArrayQueue<>(prefetch);
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        if (DisposableHelper.setOnce(UPSTREAM, this, d)) {
+            downstream.onSubscribe(this);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) return;
+        queue.offer(item);
+        schedule();
+    }
+
+    @Override
+    public void onDrop() {
+        if (done) return;
+        queue.offer(DROPPED);
+        schedule();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (done) return;
+        error = t;
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) return;
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) return;
+        disposed = true;
+        DisposableHelper.dispose(UPSTREAM, this);
+        worker.dispose();
+        if (getAndIncrement() == 0) {
+            queue.clear();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    private void schedule() {
+        if (getAndIncrement() == 0) {
+            worker.schedule(this);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void run() {
+        int missed = 1;
+        SimpleQueue<Object> q = queue;
+        ParallelObservable.Rail<T> a = downstream;
+        for (;;) {
+            if (terminated) return;
+            for (;;) {
+                if (disposed) {
+                    q.clear();
+                    return;
+                }
+                boolean d = done;
+                Object item = q.poll();
+                boolean empty = item == null;
+                if (d && empty) {
+                    terminated = true;
+                    worker.dispose();
+                    Throwable t = error;
+                    if (t != null) {
+                        a.onError(t);
+                    } else {
+                        a.onComplete();
+                    }
+                    return;
+                }
+                if (empty) break;
+                if (item == DROPPED) {
+                    a.onDrop();
+                } else {
+                    a.onNext((T) item);
+                }
+            }
+            missed = addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+}
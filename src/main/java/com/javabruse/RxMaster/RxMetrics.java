@@ -0,0 +1,100 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.MetricsMBean;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class RxMetrics {
+    public static final String ENABLED_PROPERTY = "rxmaster.metrics";
+    static final String DOMAIN = "com.javabruse.RxMaster";
+
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+    private static final Map<String, Metrics> REGISTRY = new ConcurrentHashMap<>();
+
+    private RxMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        RxMetrics.enabled = enabled;
+    }
+
+    public static Scheduler instrument(Scheduler scheduler, String name) {
+        if (!enabled || scheduler instanceof InstrumentedScheduler) {
+            return scheduler;
+        }
+        return new InstrumentedScheduler(scheduler, metrics("Scheduler", name));
+    }
+
+    static Metrics pipeline(String name) {
+        return metrics("Pipeline", name);
+    }
+
+    private static Metrics metrics(String type, String name) {
+        String key = type + ":" + name;
+        Metrics existing = REGISTRY.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        return REGISTRY.computeIfAbsent(key, k -> {
+            Metrics metrics = new Metrics(name);
+            register(type, metrics);
+            return metrics;
+        });
+    }
+
+    private static void register(String type, Metrics metrics) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = objectName(type, metrics.name);
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(new StandardMBean(metrics, MetricsMBean.class), objectName);
+            }
+        } catch (JMException | SecurityException ignored) {
+        }
+    }
+
+    static ObjectName objectName(String type, String name) throws JMException {
+        return new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+    }
+
+    public static Map<String, MetricsSnapshot> snapshot() {
+        Map<String, MetricsSnapshot> result = new TreeMap<>();
+        REGISTRY.forEach((key, metrics) -> result.put(key, metrics.snapshot()));
+        return result;
+    }
+
+    public static MetricsSnapshot snapshot(String name) {
+        Metrics metrics = REGISTRY.get("Pipeline:" + name);
+        if (metrics == null) {
+            metrics = REGISTRY.get("Scheduler:" + name);
+        }
+        return metrics != null ? metrics.snapshot() : null;
+    }
+
+    public static void clear() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (String key : REGISTRY.keySet()) {
+            int separator = key.indexOf(':');
+            try {
+                ObjectName objectName = objectName(key.substring(0, separator), key.substring(separator + 1));
+                if (server.isRegistered(objectName)) {
+                    server.unregisterMBean(objectName);
+                }
+            } catch (JMException | SecurityException ignored) {
+            }
+        }
+        REGISTRY.clear();
+    }
+}
@@ -0,0 +1,129 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Scheduler;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public final class RxPlugins {
+    private static volatile Function<Runnable, Runnable> onScheduleHandler;
+    @SuppressWarnings("rawtypes")
+    private static volatile Function<Observable, Observable> onObservableAssembly;
+    private static volatile Consumer<Throwable> errorHandler;
+    private static volatile Function<Scheduler, Scheduler> onComputationHandler;
+    private static volatile Function<Scheduler, Scheduler> onIoHandler;
+    private static volatile Function<Scheduler, Scheduler> onSingleHandler;
+    private static volatile boolean lockdown;
+
+    private RxPlugins() {
+    }
+
+    public static Runnable onSchedule(Runnable task) {
+        Function<Runnable, Runnable> f = onScheduleHandler;
+        if (f == null) {
+            return task;
+        }
+        return f.apply(task);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static <T> Observable<T> onAssembly(Observable<T> source) {
+        Function<Observable, Observable> f = onObservableAssembly;
+        if (f == null) {
+            return source;
+        }
+        return f.apply(source);
+    }
+
+    public static void onError(Throwable error) {
+        Consumer<Throwable> f = errorHandler;
+        if (f != null) {
+            try {
+                f.accept(error);
+                return;
+            } catch (Throwable t) {
+                t.addSuppressed(error);
+                error = t;
+            }
+        }
+        Thread current = Thread.currentThread();
+        current.getUncaughtExceptionHandler().uncaughtException(current, error);
+    }
+
+    public static Scheduler onComputationScheduler(Scheduler scheduler) {
+        Function<Scheduler, Scheduler> f = onComputationHandler;
+        if (f == null) {
+            return scheduler;
+        }
+        return f.apply(scheduler);
+    }
+
+    public static Scheduler onIoScheduler(Scheduler scheduler) {
+        Function<Scheduler, Scheduler> f = onIoHandler;
+        if (f == null) {
+            return scheduler;
+        }
+        return f.apply(scheduler);
+    }
+
+    public static Scheduler onSingleScheduler(Scheduler scheduler) {
+        Function<Scheduler, Scheduler> f = onSingleHandler;
+        if (f == null) {
+            return scheduler;
+        }
+        return f.apply(scheduler);
+    }
+
+    public static synchronized void setScheduleHandler(Function<Runnable, Runnable> handler) {
+        checkLockdown();
+        onScheduleHandler = handler;
+    }
+
+    @SuppressWarnings("rawtypes")
+    public static synchronized void setOnObservableAssembly(Function<Observable, Observable> handler) {
+        checkLockdown();
+        onObservableAssembly = handler;
+    }
+
+    public static synchronized void setErrorHandler(Consumer<Throwable> handler) {
+        checkLockdown();
+        errorHandler = handler;
+    }
+
+    public static synchronized void setComputationSchedulerHandler(Function<Scheduler, Scheduler> handler) {
+        checkLockdown();
+        onComputationHandler = handler;
+    }
+
+    public static synchronized void setIoSchedulerHandler(Function<Scheduler, Scheduler> handler) {
+        checkLockdown();
+        onIoHandler = handler;
+    }
+
+    public static synchronized void setSingleSchedulerHandler(Function<Scheduler, Scheduler> handler) {
+        checkLockdown();
+        onSingleHandler = handler;
+    }
+
+    public static synchronized void reset() {
+        checkLockdown();
+        onScheduleHandler = null;
+        onObservableAssembly = null;
+        errorHandler = null;
+        onComputationHandler = null;
+        onIoHandler = null;
+        onSingleHandler = null;
+    }
+
+    public static void lockdown() {
+        lockdown = true;
+    }
+
+    public static boolean isLockdown() {
+        return lockdown;
+    }
+
+    private static void checkLockdown() {
+        if (lockdown) throw new IllegalStateException("Plugins can't be changed anymore");
+    }
+}
@@ -0,0 +1,20 @@
+package com.javabruse.RxMaster;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class RxThreadFactory implements ThreadFactory {
+    private final String prefix;
+    private final AtomicLong counter = new AtomicLong();
+
+    RxThreadFactory(String prefix) {
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
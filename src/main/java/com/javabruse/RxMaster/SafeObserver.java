@@ -0,0 +1,59 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+final class SafeObserver<T> implements Observer<T>, Disposable {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<SafeObserver, Disposable> UPSTREAM =
+            AtomicReferenceFieldUpdater.newUpdater(SafeObserver.class, Disposable.class, "upstream");
+
+    private final Observer<T> downstream;
+    private volatile Disposable upstream;
+
+    SafeObserver(Observer<T> downstream) {
+        this.downstream = downstream;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        if (DisposableHelper.setOnce(UPSTREAM, this, d)) {
+            downstream.onSubscribe(this);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (upstream != DisposableHelper.DISPOSED) {
+            downstream.onNext(item);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (UPSTREAM.getAndSet(this, DisposableHelper.DISPOSED) != DisposableHelper.DISPOSED) {
+            downstream.onError(t);
+        } else {
+            RxPlugins.onError(t);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (UPSTREAM.getAndSet(this, DisposableHelper.DISPOSED) != DisposableHelper.DISPOSED) {
+            downstream.onComplete();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        DisposableHelper.dispose(UPSTREAM, this);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return upstream == DisposableHelper.DISPOSED;
+    }
+}
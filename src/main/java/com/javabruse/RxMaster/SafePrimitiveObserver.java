@@ -0,0 +1,53 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.TerminalObserver;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+abstract class SafePrimitiveObserver<D extends TerminalObserver> implements Disposable {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<SafePrimitiveObserver, Disposable> UPSTREAM =
+            AtomicReferenceFieldUpdater.newUpdater(SafePrimitiveObserver.class, Disposable.class, "upstream");
+
+    final D downstream;
+    private volatile Disposable upstream;
+
+    SafePrimitiveObserver(D downstream) {
+        this.downstream = downstream;
+    }
+
+    final boolean isActive() {
+        return upstream != DisposableHelper.DISPOSED;
+    }
+
+    public void onSubscribe(Disposable d) {
+        if (DisposableHelper.setOnce(UPSTREAM, this, d)) {
+            downstream.onSubscribe(this);
+        }
+    }
+
+    public void onError(Throwable t) {
+        if (UPSTREAM.getAndSet(this, DisposableHelper.DISPOSED) != DisposableHelper.DISPOSED) {
+            downstream.onError(t);
+        } else {
+            RxPlugins.onError(t);
+        }
+    }
+
+    public void onComplete() {
+        if (UPSTREAM.getAndSet(this, DisposableHelper.DISPOSED) != DisposableHelper.DISPOSED) {
+            downstream.onComplete();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        DisposableHelper.dispose(UPSTREAM, this);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return upstream == DisposableHelper.DISPOSED;
+    }
+}
@@ -0,0 +1,141 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+public final class SchedulerTimer {
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+    private SchedulerTimer() {
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, new RxThreadFactory("RxTimer-"));
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    public static Disposable schedule(Scheduler scheduler, Runnable task, long delay, TimeUnit unit) {
+        return schedule(scheduler::execute, task, delay, unit, null);
+    }
+
+    public static Disposable schedulePeriodically(Scheduler scheduler, Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return schedulePeriodically(scheduler::execute, task, initialDelay, period, unit, null);
+    }
+
+    static Disposable schedule(Consumer<Runnable> dispatcher, Runnable task, long delay, TimeUnit unit, CompositeDisposable tracker) {
+        DelayedTask delayed = new DelayedTask(dispatcher, task, tracker);
+        if (tracker != null) {
+            tracker.add(delayed);
+        }
+        if (delay <= 0) {
+            delayed.run();
+        } else {
+            delayed.set(TIMER.schedule(delayed, delay, unit));
+        }
+        return delayed;
+    }
+
+    static Disposable schedulePeriodically(Consumer<Runnable> dispatcher, Runnable task, long initialDelay, long period, TimeUnit unit, CompositeDisposable tracker) {
+        if (period <= 0) throw new IllegalArgumentException("period > 0 required");
+        PeriodicTask periodic = new PeriodicTask(dispatcher, task, unit.toNanos(period), tracker);
+        if (tracker != null) {
+            tracker.add(periodic);
+        }
+        periodic.start(unit.toNanos(initialDelay));
+        return periodic;
+    }
+
+    private static class DelayedTask extends AtomicReference<Future<?>> implements Runnable, Disposable {
+        final Consumer<Runnable> dispatcher;
+        final Runnable task;
+        final CompositeDisposable tracker;
+        final Runnable action = this::fire;
+        volatile boolean disposed;
+
+        DelayedTask(Consumer<Runnable> dispatcher, Runnable task, CompositeDisposable tracker) {
+            this.dispatcher = dispatcher;
+            this.task = task;
+            this.tracker = tracker;
+        }
+
+        @Override
+        public void run() {
+            if (!disposed) {
+                dispatcher.accept(action);
+            }
+        }
+
+        void fire() {
+            if (disposed) return;
+            try {
+                task.run();
+            } finally {
+                done();
+            }
+        }
+
+        void done() {
+            disposed = true;
+            if (tracker != null) {
+                tracker.delete(this);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (disposed) return;
+            done();
+            Future<?> future = get();
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+
+    private static final class PeriodicTask extends DelayedTask {
+        private final long periodNanos;
+        private long startNanos;
+        private long count;
+
+        PeriodicTask(Consumer<Runnable> dispatcher, Runnable task, long periodNanos, CompositeDisposable tracker) {
+            super(dispatcher, task, tracker);
+            this.periodNanos = periodNanos;
+        }
+
+        void start(long initialDelayNanos) {
+            startNanos = System.nanoTime() + Math.max(0, initialDelayNanos);
+            set(TIMER.schedule(this, Math.max(0, initialDelayNanos), TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        void fire() {
+            if (disposed) return;
+            try {
+                task.run();
+            } catch (Throwable t) {
+                done();
+                throw t;
+            }
+            if (disposed) return;
+            long next = startNanos + ++count * periodNanos;
+            long now = System.nanoTime();
+            if (next < now) {
+                count += (now - next) / periodNanos + 1;
+                next = startNanos + count * periodNanos;
+            }
+            set(TIMER.schedule(this, next - now, TimeUnit.NANOSECONDS));
+        }
+    }
+}
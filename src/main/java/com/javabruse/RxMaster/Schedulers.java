@@ -0,0 +1,77 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Scheduler;
+
+public final class Schedulers {
+    public static final String IO_VIRTUAL_PROPERTY = "rxmaster.io.virtual";
+    public static final String IO_MAX_CONCURRENCY_PROPERTY = "rxmaster.io.maxConcurrency";
+
+    private static final Scheduler TRAMPOLINE = new TrampolineScheduler();
+
+    private static volatile Scheduler computation;
+    private static volatile Scheduler io;
+    private static volatile Scheduler single;
+    private static volatile boolean ioVirtualThreads = Boolean.getBoolean(IO_VIRTUAL_PROPERTY);
+
+    private Schedulers() {
+    }
+
+    public static Scheduler computation() {
+        Scheduler s = computation;
+        if (s == null) {
+            synchronized (Schedulers.class) {
+                s = computation;
+                if (s == null) {
+                    s = RxMetrics.instrument(new ComputationScheduler(), "computation");
+                    computation = s;
+                }
+            }
+        }
+        return RxPlugins.onComputationScheduler(s);
+    }
+
+    public static Scheduler io() {
+        Scheduler s = io;
+        if (s == null) {
+            synchronized (Schedulers.class) {
+                s = io;
+                if (s == null) {
+                    s = RxMetrics.instrument(ioVirtualThreads
+                            ? new VirtualThreadScheduler(Integer.getInteger(IO_MAX_CONCURRENCY_PROPERTY, 0))
+                            : new IOThreadScheduler(), "io");
+                    io = s;
+                }
+            }
+        }
+        return RxPlugins.onIoScheduler(s);
+    }
+
+    public static Scheduler single() {
+        Scheduler s = single;
+        if (s == null) {
+            synchronized (Schedulers.class) {
+                s = single;
+                if (s == null) {
+                    s = RxMetrics.instrument(new SingleThreadScheduler(), "single");
+                    single = s;
+                }
+            }
+        }
+        return RxPlugins.onSingleScheduler(s);
+    }
+
+    public static Scheduler trampoline() {
+        return TRAMPOLINE;
+    }
+
+    public static synchronized void setIoVirtualThreads(boolean enabled) {
+        if (ioVirtualThreads != enabled) {
+            ioVirtualThreads = enabled;
+            io = null;
+        }
+    }
+
+    public static boolean isIoVirtualThreads() {
+        return ioVirtualThreads;
+    }
+}
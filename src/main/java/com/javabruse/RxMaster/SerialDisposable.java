@@ -0,0 +1,42 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+public final class SerialDisposable implements Disposable {
+    private static final AtomicReferenceFieldUpdater<SerialDisposable, Disposable> RESOURCE =
+            AtomicReferenceFieldUpdater.newUpdater(SerialDisposable.class, Disposable.class, "resource");
+
+    private volatile Disposable resource;
+
+    public SerialDisposable() {
+    }
+
+    public SerialDisposable(Disposable initial) {
+        this.resource = initial;
+    }
+
+    public boolean set(Disposable next) {
+        return DisposableHelper.set(RESOURCE, this, next);
+    }
+
+    public boolean replace(Disposable next) {
+        return DisposableHelper.replace(RESOURCE, this, next);
+    }
+
+    public Disposable get() {
+        Disposable current = resource;
+        return current == DisposableHelper.DISPOSED ? Disposables.disposed() : current;
+    }
+
+    @Override
+    public void dispose() {
+        DisposableHelper.dispose(RESOURCE, this);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return DisposableHelper.isDisposed(resource);
+    }
+}
@@ -0,0 +1,95 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+class SerializedObserver<T> extends AtomicInteger implements Observer<T> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<SerializedObserver> TERMINATED =
+            AtomicIntegerFieldUpdater.newUpdater(SerializedObserver.class, "terminated");
+
+    private final Observer<T> downstream;
+    private final MpscLinkedQueue<Object> queue = new MpscLinkedQueue<>();
+    private volatile int terminated;
+    private volatile boolean done;
+
+    SerializedObserver(Observer<T> downstream) {
+        this.downstream = downstream;
+    }
+
+    boolean isCancelled() {
+        return false;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        downstream.onSubscribe(d);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (terminated != 0 || isCancelled()) {
+            return;
+        }
+        if (get() == 0 && compareAndSet(0, 1)) {
+            downstream.onNext(item);
+            if (decrementAndGet() == 0) {
+                return;
+            }
+        } else {
+            queue.offer(item);
+            if (getAndIncrement() != 0) {
+                return;
+            }
+        }
+        drainLoop();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (TERMINATED.compareAndSet(this, 0, 1)) {
+            terminate(NotificationLite.error(t));
+        } else {
+            RxPlugins.onError(t);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (TERMINATED.compareAndSet(this, 0, 1)) {
+            terminate(NotificationLite.complete());
+        }
+    }
+
+    private void terminate(Object notification) {
+        queue.offer(notification);
+        if (getAndIncrement() == 0) {
+            drainLoop();
+        }
+    }
+
+    private void drainLoop() {
+        int missed = 1;
+        for (;;) {
+            if (done) {
+                queue.clear();
+                return;
+            }
+            Object o;
+            while ((o = queue.poll()) != null) {
+                if (NotificationLite.accept(o, downstream)) {
+                    done = true;
+                    queue.clear();
+                    return;
+                }
+            }
+            missed = addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.javabruse.RxMaster;
+
+interface SimpleQueue<T> {
+    boolean offer(T item);
+
+    T poll();
+
+    boolean isEmpty();
+
+    void clear();
+}
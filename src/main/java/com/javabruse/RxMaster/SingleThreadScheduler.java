@@ -1,15 +1,9 @@
 package com.javabruse.RxMaster;
 
-import com.javabruse.RxMaster.interfaces.Scheduler;
-
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
-public class SingleThreadScheduler implements Scheduler {
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
-
-    @Override
-    public void execute(Runnable task) {
-        executor.submit(task);
+public class SingleThreadScheduler extends ExecutorScheduler {
+    public SingleThreadScheduler() {
+        super(Executors.newSingleThreadExecutor(new RxThreadFactory("RxSingle-")));
     }
 }
@@ -0,0 +1,59 @@
+package com.javabruse.RxMaster;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+final class SpscArrayQueue<T> implements SimpleQueue<T> {
+    private final AtomicReferenceArray<T> buffer;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    SpscArrayQueue(int capacity) {
+        int size = roundToPowerOfTwo(Math.max(2, capacity));
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    static int roundToPowerOfTwo(int value) {
+        return 1 << (32 - Integer.numberOfLeadingZeros(value - 1));
+    }
+
+    @Override
+    public boolean offer(T item) {
+        Objects.requireNonNull(item, "item is null");
+        long index = producerIndex.get();
+        int offset = (int) index & mask;
+        if (buffer.get(offset) != null) {
+            return false;
+        }
+        buffer.lazySet(offset, item);
+        producerIndex.lazySet(index + 1);
+        return true;
+    }
+
+    @Override
+    public T poll() {
+        long index = consumerIndex.get();
+        int offset = (int) index & mask;
+        T item = buffer.get(offset);
+        if (item == null) {
+            return null;
+        }
+        consumerIndex.lazySet(index + 1);
+        buffer.lazySet(offset, null);
+        return item;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return producerIndex.get() == consumerIndex.get();
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null) {
+        }
+    }
+}
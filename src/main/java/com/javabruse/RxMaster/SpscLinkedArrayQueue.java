@@ -0,0 +1,78 @@
+package com.javabruse.RxMaster;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+final class SpscLinkedArrayQueue<T> implements SimpleQueue<T> {
+    private static final class Segment {
+        final AtomicReferenceArray<Object> items;
+        volatile Segment next;
+
+        Segment(int size) {
+            this.items = new AtomicReferenceArray<>(size);
+        }
+    }
+
+    private final int segmentSize;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    private Segment producerSegment;
+    private int producerOffset;
+
+    private Segment consumerSegment;
+    private int consumerOffset;
+
+    SpscLinkedArrayQueue(int segmentSize) {
+        this.segmentSize = SpscArrayQueue.roundToPowerOfTwo(Math.max(8, segmentSize));
+        Segment first = new Segment(this.segmentSize);
+        this.producerSegment = first;
+        this.consumerSegment = first;
+    }
+
+    @Override
+    public boolean offer(T item) {
+        Objects.requireNonNull(item, "item is null");
+        if (producerOffset == segmentSize) {
+            Segment next = new Segment(segmentSize);
+            producerSegment.next = next;
+            producerSegment = next;
+            producerOffset = 0;
+        }
+        producerSegment.items.lazySet(producerOffset++, item);
+        producerIndex.lazySet(producerIndex.get() + 1);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        if (consumerOffset == segmentSize) {
+            Segment next = consumerSegment.next;
+            if (next == null) {
+                return null;
+            }
+            consumerSegment = next;
+            consumerOffset = 0;
+        }
+        Object item = consumerSegment.items.get(consumerOffset);
+        if (item == null) {
+            return null;
+        }
+        consumerSegment.items.lazySet(consumerOffset++, null);
+        consumerIndex.lazySet(consumerIndex.get() + 1);
+        return (T) item;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return producerIndex.get() == consumerIndex.get();
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null) {
+        }
+    }
+}
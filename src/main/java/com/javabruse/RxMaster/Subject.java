@@ -0,0 +1,11 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+
+public abstract class Subject<T> extends Observable<T> implements Observer<T> {
+
+    Subject() {
+    }
+
+    public abstract boolean hasObservers();
+}
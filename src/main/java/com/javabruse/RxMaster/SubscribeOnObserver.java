@@ -0,0 +1,58 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+final class SubscribeOnObserver<T> implements Observer<T>, Disposable {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<SubscribeOnObserver, Disposable> UPSTREAM =
+            AtomicReferenceFieldUpdater.newUpdater(SubscribeOnObserver.class, Disposable.class, "upstream");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<SubscribeOnObserver, Disposable> TASK =
+            AtomicReferenceFieldUpdater.newUpdater(SubscribeOnObserver.class, Disposable.class, "task");
+
+    private final Observer<T> downstream;
+    private volatile Disposable upstream;
+    private volatile Disposable task;
+
+    SubscribeOnObserver(Observer<T> downstream) {
+        this.downstream = downstream;
+    }
+
+    void setTask(Disposable d) {
+        DisposableHelper.setOnce(TASK, this, d);
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        DisposableHelper.setOnce(UPSTREAM, this, d);
+    }
+
+    @Override
+    public void onNext(T item) {
+        downstream.onNext(item);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        downstream.onError(t);
+    }
+
+    @Override
+    public void onComplete() {
+        downstream.onComplete();
+    }
+
+    @Override
+    public void dispose() {
+        DisposableHelper.dispose(UPSTREAM, this);
+        DisposableHelper.dispose(TASK, this);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return DisposableHelper.isDisposed(upstream);
+    }
+}
@@ -0,0 +1,43 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Subscription;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+enum SubscriptionHelper implements Subscription {
+    CANCELLED;
+
+    @Override
+    public void request(long n) {
+    }
+
+    @Override
+    public void cancel() {
+    }
+
+    static boolean validate(long n) {
+        return n > 0;
+    }
+
+    static boolean setOnce(AtomicReference<Subscription> field, Subscription subscription) {
+        if (!field.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return false;
+        }
+        return true;
+    }
+
+    static boolean cancel(AtomicReference<Subscription> field) {
+        Subscription current = field.get();
+        if (current != CANCELLED) {
+            current = field.getAndSet(CANCELLED);
+            if (current != CANCELLED) {
+                if (current != null) {
+                    current.cancel();
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,195 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+public class TestObserver<T> implements Observer<T>, Disposable {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<TestObserver, Disposable> UPSTREAM =
+            AtomicReferenceFieldUpdater.newUpdater(TestObserver.class, Disposable.class, "upstream");
+
+    private final List<T> values = new ArrayList<>();
+    private final List<Throwable> errors = new CopyOnWriteArrayList<>();
+    private final List<String> violations = new CopyOnWriteArrayList<>();
+    private final CountDownLatch done = new CountDownLatch(1);
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile Disposable upstream;
+    private volatile int valueCount;
+    private volatile int completions;
+    private volatile boolean terminated;
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        if (UPSTREAM.compareAndSet(this, null, d)) {
+            return;
+        }
+        d.dispose();
+        if (upstream != DisposableHelper.DISPOSED) {
+            violations.add("onSubscribe called more than once");
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        enter("onNext");
+        if (terminated) {
+            violations.add("onNext after terminal event: " + item);
+        }
+        values.add(item);
+        valueCount++;
+        wip.decrementAndGet();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        enter("onError");
+        if (terminated) {
+            violations.add("onError after terminal event: " + t);
+        }
+        errors.add(t);
+        terminate();
+    }
+
+    @Override
+    public void onComplete() {
+        enter("onComplete");
+        if (terminated) {
+            violations.add("onComplete after terminal event");
+        }
+        completions++;
+        terminate();
+    }
+
+    private void enter(String signal) {
+        if (wip.getAndIncrement() != 0) {
+            violations.add(signal + " called concurrently on " + Thread.currentThread().getName());
+        }
+    }
+
+    private void terminate() {
+        terminated = true;
+        wip.decrementAndGet();
+        done.countDown();
+    }
+
+    @Override
+    public void dispose() {
+        DisposableHelper.dispose(UPSTREAM, this);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return upstream == DisposableHelper.DISPOSED;
+    }
+
+    public TestObserver<T> await() throws InterruptedException {
+        done.await();
+        return this;
+    }
+
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        return done.await(timeout, unit);
+    }
+
+    public boolean isTerminated() {
+        return terminated;
+    }
+
+    public int valueCount() {
+        return valueCount;
+    }
+
+    public List<T> values() {
+        return Collections.unmodifiableList(values);
+    }
+
+    public List<Throwable> errors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public int completions() {
+        return completions;
+    }
+
+    public List<String> violations() {
+        return Collections.unmodifiableList(violations);
+    }
+
+    @SafeVarargs
+    public final TestObserver<T> assertValues(T... expected) {
+        if (!values.equals(Arrays.asList(expected))) {
+            throw fail("Expected values " + Arrays.toString(expected) + " but got " + values);
+        }
+        return this;
+    }
+
+    public TestObserver<T> assertValueCount(int expected) {
+        if (valueCount != expected) {
+            throw fail("Expected " + expected + " values but got " + valueCount);
+        }
+        return this;
+    }
+
+    public TestObserver<T> assertNoValues() {
+        return assertValueCount(0);
+    }
+
+    public TestObserver<T> assertNoErrors() {
+        if (!errors.isEmpty()) {
+            AssertionError error = fail("Expected no errors but got " + errors);
+            error.initCause(errors.get(0));
+            throw error;
+        }
+        return this;
+    }
+
+    public TestObserver<T> assertError(Class<? extends Throwable> type) {
+        if (errors.size() != 1 || !type.isInstance(errors.get(0))) {
+            throw fail("Expected a single " + type.getName() + " but got " + errors);
+        }
+        return this;
+    }
+
+    public TestObserver<T> assertComplete() {
+        if (completions != 1) {
+            throw fail("Expected one completion but got " + completions);
+        }
+        return this;
+    }
+
+    public TestObserver<T> assertNotComplete() {
+        if (completions != 0) {
+            throw fail("Expected no completion but got " + completions);
+        }
+        return this;
+    }
+
+    public TestObserver<T> assertNotTerminated() {
+        if (terminated) {
+            throw fail("Expected no terminal event");
+        }
+        return this;
+    }
+
+    public TestObserver<T> assertNoViolations() {
+        if (!violations.isEmpty()) {
+            throw fail("Protocol violations: " + violations);
+        }
+        return this;
+    }
+
+    private AssertionError fail(String message) {
+        return new AssertionError(message + " (values: " + valueCount + ", errors: " + errors.size()
+                + ", completions: " + completions + ", disposed: " + isDisposed() + ")");
+    }
+}
@@ -0,0 +1,212 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+import com.javabruse.RxMaster.interfaces.Worker;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class TestScheduler implements Scheduler {
+    private final PriorityBlockingQueue<TimedAction> queue = new PriorityBlockingQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long time;
+
+    public TestScheduler() {
+    }
+
+    public TestScheduler(long initialTime, TimeUnit unit) {
+        this.time = unit.toNanos(initialTime);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        enqueue(RxPlugins.onSchedule(task), 0L, null);
+    }
+
+    @Override
+    public long now(TimeUnit unit) {
+        return unit.convert(time, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        return enqueue(RxPlugins.onSchedule(task), unit.toNanos(delay), null);
+    }
+
+    @Override
+    public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return enqueuePeriodic(RxPlugins.onSchedule(task), unit.toNanos(initialDelay), unit.toNanos(period), null);
+    }
+
+    @Override
+    public Worker createWorker() {
+        return new TestWorker();
+    }
+
+    public void advanceTimeBy(long delay, TimeUnit unit) {
+        advanceTimeTo(time + unit.toNanos(delay), TimeUnit.NANOSECONDS);
+    }
+
+    public void advanceTimeTo(long target, TimeUnit unit) {
+        runUntil(unit.toNanos(target));
+    }
+
+    public void triggerActions() {
+        runUntil(time);
+    }
+
+    public int pendingActions() {
+        return queue.size();
+    }
+
+    private void runUntil(long target) {
+        for (;;) {
+            TimedAction action = queue.peek();
+            if (action == null || action.time > target) {
+                break;
+            }
+            queue.remove(action);
+            if (action.time > time) {
+                time = action.time;
+            }
+            if (!action.isDisposed()) {
+                action.task.run();
+            }
+        }
+        if (target > time) {
+            time = target;
+        }
+    }
+
+    private TimedAction enqueue(Runnable task, long delayNanos, TestWorker worker) {
+        TimedAction action = new TimedAction(time + Math.max(0L, delayNanos), sequence.getAndIncrement(), task, worker);
+        queue.offer(action);
+        return action;
+    }
+
+    private Disposable enqueuePeriodic(Runnable task, long initialDelayNanos, long periodNanos, TestWorker worker) {
+        if (periodNanos <= 0) throw new IllegalArgumentException("period > 0 required");
+        PeriodicTask periodic = new PeriodicTask(task, time + Math.max(0L, initialDelayNanos), periodNanos, worker);
+        periodic.scheduleNext();
+        return periodic;
+    }
+
+    final class TimedAction implements Comparable<TimedAction>, Disposable {
+        final long time;
+        final long seq;
+        final Runnable task;
+        final TestWorker worker;
+        private volatile boolean disposed;
+
+        TimedAction(long time, long seq, Runnable task, TestWorker worker) {
+            this.time = time;
+            this.seq = seq;
+            this.task = task;
+            this.worker = worker;
+        }
+
+        @Override
+        public int compareTo(TimedAction other) {
+            int c = Long.compare(time, other.time);
+            return c != 0 ? c : Long.compare(seq, other.seq);
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+            queue.remove(this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed || (worker != null && worker.isDisposed());
+        }
+    }
+
+    final class PeriodicTask implements Runnable, Disposable {
+        private final Runnable task;
+        private final long periodNanos;
+        private final TestWorker worker;
+        private long nextTime;
+        private volatile TimedAction current;
+        private volatile boolean disposed;
+
+        PeriodicTask(Runnable task, long firstTime, long periodNanos, TestWorker worker) {
+            this.task = task;
+            this.nextTime = firstTime;
+            this.periodNanos = periodNanos;
+            this.worker = worker;
+        }
+
+        void scheduleNext() {
+            TimedAction action = new TimedAction(nextTime, sequence.getAndIncrement(), this, worker);
+            nextTime += periodNanos;
+            current = action;
+            queue.offer(action);
+            if (disposed) {
+                action.dispose();
+            }
+        }
+
+        @Override
+        public void run() {
+            task.run();
+            if (!isDisposed()) {
+                scheduleNext();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+            TimedAction action = current;
+            if (action != null) {
+                action.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed || (worker != null && worker.isDisposed());
+        }
+    }
+
+    final class TestWorker implements Worker {
+        private volatile boolean disposed;
+
+        @Override
+        public Disposable schedule(Runnable task) {
+            return schedule(task, 0L, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+            if (disposed) {
+                return Disposables.disposed();
+            }
+            return enqueue(RxPlugins.onSchedule(task), unit.toNanos(delay), this);
+        }
+
+        @Override
+        public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+            if (disposed) {
+                return Disposables.disposed();
+            }
+            return enqueuePeriodic(RxPlugins.onSchedule(task), unit.toNanos(initialDelay), unit.toNanos(period), this);
+        }
+
+        @Override
+        public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            queue.removeIf(action -> action.worker == this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
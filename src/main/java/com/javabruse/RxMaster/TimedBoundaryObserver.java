@@ -0,0 +1,133 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Worker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+abstract class TimedBoundaryObserver<T, U> extends AtomicInteger implements Observer<T>, Disposable, Runnable {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<TimedBoundaryObserver, Disposable> UPSTREAM =
+            AtomicReferenceFieldUpdater.newUpdater(TimedBoundaryObserver.class, Disposable.class, "upstream");
+
+    final Observer<U> downstream;
+    private final Worker worker;
+    private final SimpleQueue<T> queue = new SpscLinkedArrayQueue<>(Flowable.BUFFER_SIZE);
+    private final AtomicInteger ticks = new AtomicInteger();
+
+    private volatile Disposable upstream;
+    private volatile boolean done;
+    private volatile boolean disposed;
+    private Throwable error;
+    private boolean terminated;
+
+    TimedBoundaryObserver(Observer<U> downstream, Worker worker) {
+        this.downstream = downstream;
+        this.worker = worker;
+    }
+
+    void start(long period, TimeUnit unit) {
+        worker.schedulePeriodically(this, period, period, unit);
+    }
+
+    abstract void onItem(T item);
+
+    abstract void onBoundary();
+
+    abstract void onTerminate(Throwable error);
+
+    @Override
+    public void run() {
+        ticks.incrementAndGet();
+        if (getAndIncrement() == 0) {
+            drainLoop();
+        }
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        if (DisposableHelper.setOnce(UPSTREAM, this, d)) {
+            downstream.onSubscribe(this);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) return;
+        if (get() == 0 && compareAndSet(0, 1)) {
+            if (queue.isEmpty()) {
+                onItem(item);
+            } else {
+                queue.offer(item);
+            }
+            if (decrementAndGet() == 0) return;
+        } else {
+            queue.offer(item);
+            if (getAndIncrement() != 0) return;
+        }
+        drainLoop();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (done) return;
+        error = t;
+        done = true;
+        if (getAndIncrement() == 0) {
+            drainLoop();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) return;
+        done = true;
+        if (getAndIncrement() == 0) {
+            drainLoop();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) return;
+        disposed = true;
+        DisposableHelper.dispose(UPSTREAM, this);
+        worker.dispose();
+        if (getAndIncrement() == 0) {
+            queue.clear();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    private void drainLoop() {
+        int missed = 1;
+        for (;;) {
+            if (terminated || disposed) {
+                queue.clear();
+                return;
+            }
+            T item;
+            while ((item = queue.poll()) != null) {
+                onItem(item);
+            }
+            if (ticks.getAndSet(0) != 0) {
+                onBoundary();
+            }
+            if (done && queue.isEmpty()) {
+                terminated = true;
+                worker.dispose();
+                onTerminate(error);
+                return;
+            }
+            missed = addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+}
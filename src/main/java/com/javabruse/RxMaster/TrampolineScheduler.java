@@ -0,0 +1,93 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class TrampolineScheduler implements Scheduler, DirectScheduler {
+    private static final ThreadLocal<Trampoline> TRAMPOLINE = ThreadLocal.withInitial(Trampoline::new);
+
+    @Override
+    public void execute(Runnable task) {
+        executeDirect(RxPlugins.onSchedule(task));
+    }
+
+    @Override
+    public void executeDirect(Runnable task) {
+        Trampoline trampoline = TRAMPOLINE.get();
+        if (trampoline.draining) {
+            trampoline.queue.offer(task);
+            return;
+        }
+        trampoline.draining = true;
+        try {
+            Runnable next = task;
+            do {
+                try {
+                    next.run();
+                } catch (Throwable t) {
+                    RxPlugins.onError(t);
+                }
+            } while ((next = trampoline.queue.poll()) != null);
+        } finally {
+            trampoline.draining = false;
+        }
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        SleepingTask sleeping = new SleepingTask(RxPlugins.onSchedule(task), System.nanoTime() + unit.toNanos(delay));
+        executeDirect(sleeping);
+        return sleeping;
+    }
+
+    @Override
+    public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return SchedulerTimer.schedulePeriodically(this::executeDirect, RxPlugins.onSchedule(task), initialDelay, period, unit, null);
+    }
+
+    static final class Trampoline {
+        final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+        boolean draining;
+    }
+
+    static final class SleepingTask implements Runnable, Disposable {
+        private final Runnable task;
+        private final long deadline;
+        private volatile boolean disposed;
+
+        SleepingTask(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            long wait;
+            while (!disposed && (wait = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, wait);
+                if (Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            if (!disposed) {
+                disposed = true;
+                task.run();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class UnicastSubject<T> extends Subject<T> {
+    private final SimpleQueue<T> queue;
+    private final AtomicBoolean once = new AtomicBoolean();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private final BooleanDisposable disposable = new BooleanDisposable();
+    private volatile Observer<T> downstream;
+    private volatile boolean done;
+    private Throwable error;
+    private boolean terminated;
+
+    private UnicastSubject(int capacityHint) {
+        this.queue = new SpscLinkedArrayQueue<>(capacityHint);
+    }
+
+    public static <T> UnicastSubject<T> create() {
+        return new UnicastSubject<>(Flowable.BUFFER_SIZE);
+    }
+
+    public static <T> UnicastSubject<T> create(int capacityHint) {
+        return new UnicastSubject<>(capacityHint);
+    }
+
+    @Override
+    void subscribeActual(Observer<T> observer) {
+        if (!once.compareAndSet(false, true)) {
+            observer.onError(new IllegalStateException("UnicastSubject allows only a single observer"));
+            return;
+        }
+        observer.onSubscribe(disposable);
+        downstream = observer;
+        drain();
+    }
+
+    public boolean hasObserver() {
+        return downstream != null;
+    }
+
+    @Override
+    public boolean hasObservers() {
+        return hasObserver();
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) return;
+        queue.offer(item);
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (done) return;
+        error = t;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) return;
+        done = true;
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) return;
+        int missed = 1;
+        for (;;) {
+            Observer<T> a = downstream;
+            if (a != null && !terminated) {
+                for (;;) {
+                    if (disposable.isDisposed()) {
+                        terminated = true;
+                        queue.clear();
+                        break;
+                    }
+                    boolean d = done;
+                    T item = queue.poll();
+                    if (item == null) {
+                        if (d) {
+                            terminated = true;
+                            Throwable t = error;
+                            if (t != null) {
+                                a.onError(t);
+                            } else {
+                                a.onComplete();
+                            }
+                        }
+                        break;
+                    }
+                    a.onNext(item);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+}
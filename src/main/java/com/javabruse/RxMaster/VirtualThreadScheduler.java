@@ -0,0 +1,36 @@
+package com.javabruse.RxMaster;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+public class VirtualThreadScheduler extends ExecutorScheduler {
+    private final Semaphore permits;
+
+    public VirtualThreadScheduler() {
+        this(0);
+    }
+
+    public VirtualThreadScheduler(int maxConcurrency) {
+        super(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("RxVirtual-", 0).factory()));
+        if (maxConcurrency < 0) throw new IllegalArgumentException("maxConcurrency >= 0 required");
+        this.permits = maxConcurrency == 0 ? null : new Semaphore(maxConcurrency);
+    }
+
+    @Override
+    public void executeDirect(Runnable task) {
+        if (permits == null) {
+            super.executeDirect(task);
+            return;
+        }
+        executor.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                RxPlugins.onError(t);
+            } finally {
+                permits.release();
+            }
+        });
+    }
+}
@@ -0,0 +1,6 @@
+package com.javabruse.RxMaster.interfaces;
+
+@FunctionalInterface
+public interface Cancellable {
+    void cancel() throws Exception;
+}
@@ -0,0 +1,5 @@
+package com.javabruse.RxMaster.interfaces;
+
+public interface DoubleObserver extends TerminalObserver {
+    void onNext(double item);
+}
@@ -0,0 +1,5 @@
+package com.javabruse.RxMaster.interfaces;
+
+public interface IntObserver extends TerminalObserver {
+    void onNext(int item);
+}
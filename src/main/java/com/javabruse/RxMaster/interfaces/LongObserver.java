@@ -0,0 +1,5 @@
+package com.javabruse.RxMaster.interfaces;
+
+public interface LongObserver extends TerminalObserver {
+    void onNext(long item);
+}
@@ -0,0 +1,13 @@
+package com.javabruse.RxMaster.interfaces;
+
+public interface MetricsMBean {
+    long getCount();
+    double getRatePerSecond();
+    long getErrors();
+    long getLatencyP50Nanos();
+    long getLatencyP99Nanos();
+    long getLatencyMaxNanos();
+    long getPending();
+    long getActive();
+    void reset();
+}
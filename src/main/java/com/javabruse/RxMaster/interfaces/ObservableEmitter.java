@@ -0,0 +1,7 @@
+package com.javabruse.RxMaster.interfaces;
+
+public interface ObservableEmitter<T> extends Observer<T> {
+    void setDisposable(Disposable d);
+    void setCancellable(Cancellable c);
+    boolean isDisposed();
+}
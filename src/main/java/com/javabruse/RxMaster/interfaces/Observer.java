@@ -1,7 +1,5 @@
 package com.javabruse.RxMaster.interfaces;
 
-public interface Observer<T> {
+public interface Observer<T> extends TerminalObserver {
     void onNext(T item);
-    void onError(Throwable t);
-    void onComplete();
-}
\ No newline at end of file
+}
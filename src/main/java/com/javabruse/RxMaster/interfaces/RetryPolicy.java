@@ -0,0 +1,36 @@
+package com.javabruse.RxMaster.interfaces;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@FunctionalInterface
+public interface RetryPolicy {
+    long delayNanos(int attempt, Throwable error);
+
+    static RetryPolicy fixedDelay(int maxRetries, long delay, TimeUnit unit) {
+        if (maxRetries < 0) throw new IllegalArgumentException("maxRetries >= 0 required");
+        if (delay < 0) throw new IllegalArgumentException("delay >= 0 required");
+        long delayNanos = unit.toNanos(delay);
+        return (attempt, error) -> attempt <= maxRetries ? delayNanos : -1L;
+    }
+
+    static RetryPolicy exponentialBackoff(int maxRetries, long initialDelay, long maxDelay, TimeUnit unit, double jitter) {
+        if (maxRetries < 0) throw new IllegalArgumentException("maxRetries >= 0 required");
+        if (initialDelay <= 0) throw new IllegalArgumentException("initialDelay > 0 required");
+        if (maxDelay < initialDelay) throw new IllegalArgumentException("maxDelay >= initialDelay required");
+        if (!(jitter >= 0 && jitter <= 1)) throw new IllegalArgumentException("0 <= jitter <= 1 required");
+        long initialNanos = unit.toNanos(initialDelay);
+        long maxNanos = unit.toNanos(maxDelay);
+        return (attempt, error) -> {
+            if (attempt > maxRetries) {
+                return -1L;
+            }
+            int shift = Math.min(attempt - 1, 62);
+            long delay = initialNanos > (maxNanos >> shift) ? maxNanos : initialNanos << shift;
+            if (jitter > 0) {
+                delay -= (long) (delay * jitter * ThreadLocalRandom.current().nextDouble());
+            }
+            return delay;
+        };
+    }
+}
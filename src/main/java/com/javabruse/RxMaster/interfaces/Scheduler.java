@@ -1,5 +1,29 @@
 package com.javabruse.RxMaster.interfaces;
 
+import com.javabruse.RxMaster.ExecutorWorker;
+import com.javabruse.RxMaster.SchedulerTimer;
+
+import java.util.concurrent.TimeUnit;
+
 public interface Scheduler {
     void execute(Runnable task);
+
+    default long now(TimeUnit unit) {
+        return unit.convert(System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    default Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        return SchedulerTimer.schedule(this, task, delay, unit);
+    }
+
+    default Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return SchedulerTimer.schedulePeriodically(this, task, initialDelay, period, unit);
+    }
+
+    default Worker createWorker() {
+        return new ExecutorWorker(this);
+    }
+
+    default void shutdown() {
+    }
 }
@@ -0,0 +1,8 @@
+package com.javabruse.RxMaster.interfaces;
+
+public interface Subscriber<T> {
+    void onSubscribe(Subscription subscription);
+    void onNext(T item);
+    void onError(Throwable t);
+    void onComplete();
+}
@@ -0,0 +1,6 @@
+package com.javabruse.RxMaster.interfaces;
+
+public interface Subscription {
+    void request(long n);
+    void cancel();
+}
@@ -0,0 +1,9 @@
+package com.javabruse.RxMaster.interfaces;
+
+public interface TerminalObserver {
+    default void onSubscribe(Disposable d) {
+    }
+
+    void onError(Throwable t);
+    void onComplete();
+}
@@ -0,0 +1,9 @@
+package com.javabruse.RxMaster.interfaces;
+
+import java.util.concurrent.TimeUnit;
+
+public interface Worker extends Disposable {
+    Disposable schedule(Runnable task);
+    Disposable schedule(Runnable task, long delay, TimeUnit unit);
+    Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit);
+}
@@ -0,0 +1,192 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AggregationTest {
+
+    static class Recorder<T> implements Observer<T> {
+        final List<T> values = new ArrayList<>();
+        final List<Throwable> errors = new ArrayList<>();
+        int completions;
+
+        @Override
+        public void onNext(T item) {
+            values.add(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            errors.add(t);
+        }
+
+        @Override
+        public void onComplete() {
+            completions++;
+        }
+    }
+
+    @Test
+    public void testReduceScanAndCollect() {
+        Recorder<Integer> reduced = new Recorder<>();
+        Observable.fromArray(1, 2, 3, 4).reduce(Integer::sum).subscribe(reduced);
+        assertEquals(List.of(10), reduced.values);
+        assertEquals(1, reduced.completions);
+
+        Recorder<Integer> empty = new Recorder<>();
+        Observable.<Integer>fromArray().reduce(Integer::sum).subscribe(empty);
+        assertTrue(empty.values.isEmpty());
+        assertEquals(1, empty.completions);
+
+        Recorder<String> seeded = new Recorder<>();
+        Observable.fromArray(1, 2, 3).reduce("", (acc, x) -> acc + x).subscribe(seeded);
+        assertEquals(List.of("123"), seeded.values);
+
+        Recorder<Integer> scanned = new Recorder<>();
+        Observable.fromArray(1, 2, 3).scan(Integer::sum).subscribe(scanned);
+        assertEquals(List.of(1, 3, 6), scanned.values);
+
+        Recorder<Integer> scannedSeed = new Recorder<>();
+        Observable.fromArray(1, 2, 3).scan(10, Integer::sum).subscribe(scannedSeed);
+        assertEquals(List.of(10, 11, 13, 16), scannedSeed.values);
+
+        Recorder<List<Integer>> collected = new Recorder<>();
+        Observable<List<Integer>> collect = Observable.fromArray(1, 2, 3).collect(ArrayList::new, List::add);
+        collect.subscribe(collected);
+        collect.subscribe(collected);
+        assertEquals(List.of(List.of(1, 2, 3), List.of(1, 2, 3)), collected.values);
+        assertNotSame(collected.values.get(0), collected.values.get(1));
+    }
+
+    @Test
+    public void testReduceErrorStopsUpstream() {
+        Recorder<Integer> recorder = new Recorder<>();
+        Observable.fromIterable(() -> new Iterator<Integer>() {
+            int next;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return next++;
+            }
+        }).reduce((a, b) -> {
+            if (b == 5) throw new IllegalStateException("boom");
+            return a + b;
+        }).subscribe(recorder);
+
+        assertEquals(1, recorder.errors.size());
+        assertEquals("boom", recorder.errors.get(0).getMessage());
+    }
+
+    @Test
+    public void testGroupByEvictsLeastRecentlyUsedGroup() {
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        List<String> opened = new ArrayList<>();
+        Recorder<GroupedObservable<String, Integer>> outer = new Recorder<>() {
+            @Override
+            public void onNext(GroupedObservable<String, Integer> group) {
+                opened.add(group.getKey());
+                List<Integer> sink = groups.computeIfAbsent(group.getKey() + opened.size(), k -> new ArrayList<>());
+                group.subscribe(new Recorder<>() {
+                    @Override
+                    public void onNext(Integer item) {
+                        sink.add(item);
+                    }
+                });
+            }
+        };
+
+        Observable.fromArray(1, 2, 11, 3, 12, 4)
+                .groupBy(x -> x < 10 ? (x % 2 == 0 ? "even" : "odd") : "big", 2)
+                .subscribe(outer);
+
+        assertEquals(List.of("odd", "even", "big", "odd", "even"), opened);
+        assertEquals(List.of(1), groups.get("odd1"));
+        assertEquals(List.of(2), groups.get("even2"));
+        assertEquals(List.of(11, 12), groups.get("big3"));
+        assertEquals(List.of(3), groups.get("odd4"));
+        assertEquals(List.of(4), groups.get("even5"));
+        assertEquals(1, outer.completions);
+    }
+
+    @Test
+    public void testGroupByEvictsIdleGroups() {
+        AtomicLong clock = new AtomicLong();
+        Scheduler scheduler = new Scheduler() {
+            @Override
+            public void execute(Runnable task) {
+                task.run();
+            }
+
+            @Override
+            public long now(TimeUnit unit) {
+                return unit.convert(clock.get(), TimeUnit.SECONDS);
+            }
+        };
+        PublishSubject<String> subject = PublishSubject.create();
+        List<String> opened = new ArrayList<>();
+        List<String> closed = new ArrayList<>();
+        subject.groupBy(s -> s.substring(0, 1), 100, 10, TimeUnit.SECONDS, scheduler)
+                .subscribe(new Recorder<>() {
+                    @Override
+                    public void onNext(GroupedObservable<String, String> group) {
+                        opened.add(group.getKey());
+                        group.subscribe(new Recorder<>() {
+                            @Override
+                            public void onComplete() {
+                                closed.add(group.getKey());
+                            }
+                        });
+                    }
+                });
+
+        subject.onNext("a1");
+        subject.onNext("b1");
+        clock.set(5);
+        subject.onNext("a2");
+        clock.set(12);
+        subject.onNext("a3");
+        assertEquals(List.of("b"), closed);
+        clock.set(30);
+        subject.onNext("b2");
+        assertEquals(List.of("b", "a"), closed);
+        assertEquals(List.of("a", "b", "b"), opened);
+    }
+
+    @Test
+    public void testDistinctVariants() {
+        Recorder<Integer> unbounded = new Recorder<>();
+        Observable.fromArray(1, 2, 1, 3, 2, 4).distinct().subscribe(unbounded);
+        assertEquals(List.of(1, 2, 3, 4), unbounded.values);
+
+        Recorder<Integer> bounded = new Recorder<>();
+        Observable.fromArray(1, 2, 3, 1, 4, 5, 1, 2).distinct(x -> x, 3).subscribe(bounded);
+        assertEquals(List.of(1, 2, 3, 4, 5, 2), bounded.values);
+
+        Recorder<Integer> approximate = new Recorder<>();
+        Integer[] items = new Integer[20_000];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = i % 10_000;
+        }
+        Observable.fromArray(items).distinctApproximate(x -> x, 10_000, 0.01).subscribe(approximate);
+        assertTrue(approximate.values.size() > 9_800 && approximate.values.size() <= 10_000,
+                "unexpected distinct count " + approximate.values.size());
+        assertEquals(approximate.values.size(), new HashSet<>(approximate.values).size());
+    }
+}
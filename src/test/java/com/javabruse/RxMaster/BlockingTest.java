@@ -0,0 +1,146 @@
+package com.javabruse.RxMaster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockingTest {
+
+    @Test
+    public void testBlockingFirstAndLast() {
+        Observable<Integer> source = Observable.range(1, 10).subscribeOn(Schedulers.computation());
+
+        assertEquals(1, source.blockingFirst());
+        assertEquals(10, source.blockingLast());
+        assertEquals(42, Observable.<Integer>fromArray().blockingFirst(42));
+        assertEquals(42, Observable.<Integer>fromArray().blockingLast(42));
+        assertThrows(NoSuchElementException.class, () -> Observable.<Integer>fromArray().blockingFirst());
+
+        IllegalStateException error = new IllegalStateException("boom");
+        Observable<Integer> failing = Observable.create(emitter -> emitter.onError(error));
+        assertSame(error, assertThrows(IllegalStateException.class, failing::blockingLast));
+    }
+
+    @Test
+    public void testBlockingFirstDisposesUpstream() throws InterruptedException {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        CountDownLatch stopped = new CountDownLatch(1);
+        Observable<Integer> infinite = Observable.<Integer>unsafeCreate(observer -> {
+            BooleanDisposable d = new BooleanDisposable();
+            observer.onSubscribe(d);
+            int i = 0;
+            while (!d.isDisposed()) {
+                observer.onNext(i++);
+            }
+            cancelled.set(true);
+            stopped.countDown();
+        }).subscribeOn(Schedulers.io());
+
+        assertEquals(0, infinite.blockingFirst());
+        assertTrue(stopped.await(5, TimeUnit.SECONDS));
+        assertTrue(cancelled.get());
+    }
+
+    @Test
+    public void testBlockingIterableBoundsProducer() {
+        int prefetch = 8;
+        AtomicInteger produced = new AtomicInteger();
+        Flowable<Integer> source = Flowable.range(0, 1000)
+                .map(i -> {
+                    produced.incrementAndGet();
+                    return i;
+                })
+                .subscribeOn(Schedulers.computation());
+
+        List<Integer> received = new ArrayList<>();
+        int maxOutstanding = 0;
+        for (Integer value : source.blockingIterable(prefetch)) {
+            received.add(value);
+            maxOutstanding = Math.max(maxOutstanding, produced.get() - received.size());
+            if (received.size() % 100 == 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+
+        assertEquals(1000, received.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, received.get(i));
+        }
+        assertTrue(maxOutstanding <= prefetch, "outstanding " + maxOutstanding);
+    }
+
+    @Test
+    public void testBlockingIterableNeverParksObservableProducer() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        Observable<Integer> source = Observable.<Integer>create(emitter -> {
+            for (int i = 0; i < 1000; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+            finished.countDown();
+        }).subscribeOn(Schedulers.single());
+
+        Iterator<Integer> iterator = source.blockingIterable(8).iterator();
+        assertEquals(0, iterator.next());
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+
+        int count = 1;
+        while (iterator.hasNext()) {
+            assertEquals(count++, iterator.next());
+        }
+        assertEquals(1000, count);
+    }
+
+    @Test
+    public void testBlockingIterableSynchronousSource() {
+        Iterator<Integer> iterator = Observable.range(1, 100).blockingIterable(4).iterator();
+        int sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+        assertEquals(5050, sum);
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        RuntimeException error = new RuntimeException("boom");
+        Iterator<Integer> failing = Observable.<Integer>create(emitter -> {
+            emitter.onNext(1);
+            emitter.onError(error);
+        }).blockingIterable().iterator();
+        assertEquals(1, failing.next());
+        assertSame(error, assertThrows(RuntimeException.class, failing::hasNext));
+    }
+
+    @Test
+    public void testBlockingStreamCloseDisposesUpstream() throws InterruptedException {
+        CountDownLatch stopped = new CountDownLatch(1);
+        Observable<Integer> infinite = Observable.<Integer>unsafeCreate(observer -> {
+            BooleanDisposable d = new BooleanDisposable();
+            observer.onSubscribe(d);
+            int i = 0;
+            while (!d.isDisposed()) {
+                observer.onNext(i++);
+            }
+            stopped.countDown();
+        }).subscribeOn(Schedulers.io());
+
+        List<Integer> firstTen;
+        try (Stream<Integer> stream = infinite.blockingStream(16)) {
+            firstTen = stream.limit(10).collect(Collectors.toList());
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), firstTen);
+        assertTrue(stopped.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,249 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+import com.javabruse.RxMaster.interfaces.Subscriber;
+import com.javabruse.RxMaster.interfaces.Subscription;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CombiningTest {
+
+    @Test
+    public void testMergeAndConcat() throws InterruptedException {
+        Scheduler scheduler = new ComputationScheduler(4);
+        try {
+            List<Observable<Integer>> sources = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                sources.add(Observable.range(i * 1000, 1000).subscribeOn(scheduler));
+            }
+
+            TestObserver<Integer> merged = Observable.merge(sources, 3, 16).test();
+            assertTrue(merged.await(5, TimeUnit.SECONDS));
+            merged.assertNoViolations().assertNoErrors().assertComplete().assertValueCount(8000);
+            assertEquals(8000, merged.values().stream().distinct().count());
+
+            TestObserver<Integer> concatenated = Observable.concat(sources, 16).test();
+            assertTrue(concatenated.await(5, TimeUnit.SECONDS));
+            concatenated.assertNoViolations().assertNoErrors().assertComplete().assertValueCount(8000);
+            for (int i = 0; i < 8000; i++) {
+                assertEquals(i, concatenated.values().get(i));
+            }
+
+            Observable.concat(Observable.just(1), Observable.<Integer>fromArray(), Observable.range(2, 2))
+                    .test()
+                    .assertValues(1, 2, 3)
+                    .assertComplete();
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void testZipObservable() throws InterruptedException {
+        Observable.zip(Observable.range(0, 5), Observable.fromArray("a", "b", "c"), (i, s) -> s + i)
+                .test()
+                .assertValues("a0", "b1", "c2")
+                .assertComplete()
+                .assertNoViolations();
+
+        Scheduler scheduler = new ComputationScheduler(4);
+        try {
+            List<Observable<Integer>> sources = List.of(
+                    Observable.range(0, 10_000).subscribeOn(scheduler),
+                    Observable.range(0, 10_000).subscribeOn(scheduler),
+                    Observable.range(0, 10_000).subscribeOn(scheduler));
+            TestObserver<Integer> observer = Observable.zip(sources,
+                    row -> (Integer) row[0] + (Integer) row[1] + (Integer) row[2], 32).test();
+
+            assertTrue(observer.await(5, TimeUnit.SECONDS));
+            observer.assertNoViolations().assertNoErrors().assertComplete().assertValueCount(10_000);
+            for (int i = 0; i < 10_000; i++) {
+                assertEquals(3 * i, observer.values().get(i));
+            }
+        } finally {
+            scheduler.shutdown();
+        }
+
+        IllegalStateException error = new IllegalStateException("boom");
+        PublishSubject<Integer> other = PublishSubject.create();
+        TestObserver<Integer> failed = Observable.zip(other, Observable.<Integer>create(emitter -> emitter.onError(error)),
+                Integer::sum).test();
+        failed.assertError(IllegalStateException.class).assertNoViolations();
+        assertSame(error, failed.errors().get(0));
+        assertFalse(other.hasObservers());
+    }
+
+    @Test
+    public void testCombineLatestObservable() {
+        PublishSubject<String> prices = PublishSubject.create();
+        PublishSubject<Integer> positions = PublishSubject.create();
+
+        TestObserver<String> observer = Observable.combineLatest(prices, positions, (p, q) -> p + "x" + q).test();
+
+        prices.onNext("10");
+        prices.onNext("11");
+        observer.assertNoValues();
+        positions.onNext(1);
+        prices.onNext("12");
+        positions.onNext(2);
+        prices.onComplete();
+        positions.onNext(3);
+        observer.assertNotComplete();
+        positions.onComplete();
+
+        observer.assertValues("11x1", "12x1", "12x2", "12x3").assertComplete().assertNoViolations();
+
+        PublishSubject<Integer> never = PublishSubject.create();
+        Observable.combineLatest(Observable.<Integer>fromArray(), never, Integer::sum)
+                .test()
+                .assertNoValues()
+                .assertComplete();
+    }
+
+    @Test
+    public void testCombineLatestKeepsArrivalOrderAcrossThreads() throws InterruptedException {
+        List<PublishSubject<String>> subjects = List.of(PublishSubject.create(), PublishSubject.create(), PublishSubject.create());
+        List<String> values = new CopyOnWriteArrayList<>();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+
+        List<Observable<String>> sources = new ArrayList<>(subjects);
+        Observable.combineLatest(sources, CombiningTest::join).subscribe(new Observer<>() {
+            public void onNext(String item) {
+                values.add(item);
+                blockFirst(values, entered, release);
+            }
+
+            public void onError(Throwable t) {
+                fail("Unexpected error", t);
+            }
+
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        interleave(subjects, entered, release);
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("a0m0b0", "a1m0b0", "a2m0b0", "a2m1b0"), values);
+    }
+
+    @Test
+    public void testFlowableCombineLatestKeepsArrivalOrderAcrossThreads() throws InterruptedException {
+        List<PublishSubject<String>> subjects = List.of(PublishSubject.create(), PublishSubject.create(), PublishSubject.create());
+        List<String> values = new CopyOnWriteArrayList<>();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+
+        List<Flowable<String>> sources = new ArrayList<>();
+        for (PublishSubject<String> subject : subjects) {
+            sources.add(subject.toFlowable(BackpressureStrategy.BUFFER));
+        }
+        Flowable.combineLatest(sources, CombiningTest::join).subscribe(new Subscriber<>() {
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            public void onNext(String item) {
+                values.add(item);
+                blockFirst(values, entered, release);
+            }
+
+            public void onError(Throwable t) {
+                fail("Unexpected error", t);
+            }
+
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        interleave(subjects, entered, release);
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("a0m0b0", "a1m0b0", "a2m0b0", "a2m1b0"), values);
+    }
+
+    private static String join(Object[] row) {
+        return "" + row[0] + row[1] + row[2];
+    }
+
+    private static void blockFirst(List<String> values, CountDownLatch entered, CountDownLatch release) {
+        if (values.size() != 1) return;
+        entered.countDown();
+        try {
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void interleave(List<PublishSubject<String>> subjects, CountDownLatch entered, CountDownLatch release)
+            throws InterruptedException {
+        PublishSubject<String> a = subjects.get(0);
+        PublishSubject<String> m = subjects.get(1);
+        PublishSubject<String> b = subjects.get(2);
+        new Thread(() -> {
+            a.onNext("a0");
+            m.onNext("m0");
+            b.onNext("b0");
+        }).start();
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        a.onNext("a1");
+        a.onNext("a2");
+        m.onNext("m1");
+        for (PublishSubject<String> subject : subjects) {
+            subject.onComplete();
+        }
+        release.countDown();
+    }
+
+    @Test
+    public void testFlowableZipBoundsFastSource() throws InterruptedException {
+        int prefetch = 16;
+        AtomicInteger produced = new AtomicInteger();
+        Flowable<Integer> fast = Flowable.range(0, Integer.MAX_VALUE).map(i -> {
+            produced.incrementAndGet();
+            return i;
+        });
+        Flowable<Integer> slow = Flowable.range(0, 1000).observeOn(Schedulers.computation(), 8);
+
+        FlowableTest.RecordingSubscriber<Integer> subscriber = new FlowableTest.RecordingSubscriber<>(Long.MAX_VALUE);
+        Flowable.zip(List.of(fast, slow), row -> (Integer) row[0] + (Integer) row[1], prefetch).subscribe(subscriber);
+
+        assertTrue(subscriber.done.await(5, TimeUnit.SECONDS));
+        assertTrue(subscriber.completed);
+        assertEquals(1000, subscriber.values.size());
+        assertEquals(1998, subscriber.values.get(999));
+        assertTrue(produced.get() <= 1000 + prefetch, "fast source produced " + produced.get());
+    }
+
+    @Test
+    public void testFlowableCombineLatestHonoursRequests() {
+        FlowableTest.RecordingSubscriber<String> subscriber = new FlowableTest.RecordingSubscriber<>(2);
+
+        Flowable.combineLatest(Flowable.just("a"), Flowable.range(1, 5), (s, i) -> s + i).subscribe(subscriber);
+
+        assertEquals(List.of("a1", "a2"), subscriber.values);
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(10);
+        assertEquals(List.of("a1", "a2", "a3", "a4", "a5"), subscriber.values);
+        assertTrue(subscriber.completed);
+
+        FlowableTest.RecordingSubscriber<Integer> merged = new FlowableTest.RecordingSubscriber<>(Long.MAX_VALUE);
+        Flowable.concat(Flowable.range(0, 3), Flowable.range(3, 3)).subscribe(merged);
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), merged.values);
+        assertTrue(merged.completed);
+    }
+}
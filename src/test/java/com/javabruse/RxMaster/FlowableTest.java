@@ -0,0 +1,222 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Scheduler;
+import com.javabruse.RxMaster.interfaces.Subscriber;
+import com.javabruse.RxMaster.interfaces.Subscription;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlowableTest {
+
+    static class RecordingSubscriber<T> implements Subscriber<T> {
+        final List<T> values = new ArrayList<>();
+        final List<Throwable> errors = new ArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        final long initialRequest;
+        volatile Subscription subscription;
+        volatile boolean completed;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(T item) {
+            values.add(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            errors.add(t);
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            done.countDown();
+        }
+    }
+
+    private static Observable<Integer> range(int count) {
+        return Observable.create(emitter -> {
+            for (int i = 1; i <= count; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    @Test
+    void testBufferStrategyHonoursRequests() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(2);
+
+        range(5).toFlowable(BackpressureStrategy.BUFFER).subscribe(subscriber);
+
+        assertEquals(List.of(1, 2), subscriber.values);
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(10);
+        assertEquals(List.of(1, 2, 3, 4, 5), subscriber.values);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void testDropStrategy() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(3);
+
+        range(10).toFlowable(BackpressureStrategy.DROP).subscribe(subscriber);
+
+        assertEquals(List.of(1, 2, 3), subscriber.values);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void testLatestStrategy() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(1);
+
+        range(10).toFlowable(BackpressureStrategy.LATEST).subscribe(subscriber);
+        subscriber.subscription.request(5);
+
+        assertEquals(List.of(1, 10), subscriber.values);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void testErrorStrategy() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(2);
+
+        range(10).toFlowable(BackpressureStrategy.ERROR).subscribe(subscriber);
+
+        assertEquals(List.of(1, 2), subscriber.values);
+        assertEquals(1, subscriber.errors.size());
+        assertTrue(subscriber.errors.get(0) instanceof MissingBackpressureException);
+    }
+
+    @Test
+    void testMapAndFilterKeepDemand() {
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(2);
+
+        range(10).toFlowable(BackpressureStrategy.BUFFER)
+                .filter(x -> x % 2 == 0)
+                .map(x -> "v" + x)
+                .subscribe(subscriber);
+
+        assertEquals(List.of("v2", "v4"), subscriber.values);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(List.of("v2", "v4", "v6", "v8", "v10"), subscriber.values);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void testFlatMapCompletesAfterInners() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+
+        range(3).toFlowable(BackpressureStrategy.BUFFER)
+                .flatMap(x -> range(2).map(y -> x * 10 + y).toFlowable(BackpressureStrategy.BUFFER), 1, 4)
+                .subscribe(subscriber);
+
+        assertEquals(List.of(11, 12, 21, 22, 31, 32), subscriber.values);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void testFlatMapBoundedByRequest() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(3);
+
+        range(4).toFlowable(BackpressureStrategy.BUFFER)
+                .flatMap(x -> range(4).toFlowable(BackpressureStrategy.BUFFER), 2, 2)
+                .subscribe(subscriber);
+
+        assertEquals(3, subscriber.values.size());
+        subscriber.subscription.request(100);
+        assertEquals(16, subscriber.values.size());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void testObserveOnPreservesOrder() throws InterruptedException {
+        Scheduler scheduler = Executors.newSingleThreadExecutor()::execute;
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+
+        range(1000).toFlowable(BackpressureStrategy.BUFFER)
+                .observeOn(scheduler, 16)
+                .subscribe(subscriber);
+
+        assertTrue(subscriber.done.await(2, TimeUnit.SECONDS));
+        assertEquals(1000, subscriber.values.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i + 1, subscriber.values.get(i));
+        }
+    }
+
+    @Test
+    void testRangeHonoursIncrementalRequests() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(2);
+
+        Flowable.range(1, 5).subscribe(subscriber);
+        assertEquals(List.of(1, 2), subscriber.values);
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(3);
+        assertEquals(List.of(1, 2, 3, 4, 5), subscriber.values);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void testSourcesFastPathOnUnboundedRequest() {
+        RecordingSubscriber<Integer> array = new RecordingSubscriber<>(Long.MAX_VALUE);
+        Flowable.fromArray(1, 2, 3).subscribe(array);
+        assertEquals(List.of(1, 2, 3), array.values);
+        assertTrue(array.completed);
+
+        RecordingSubscriber<String> iterable = new RecordingSubscriber<>(Long.MAX_VALUE);
+        Flowable.fromIterable(List.of("a", "b")).subscribe(iterable);
+        assertEquals(List.of("a", "b"), iterable.values);
+        assertTrue(iterable.completed);
+
+        RecordingSubscriber<String> just = new RecordingSubscriber<>(1);
+        Flowable.just("x").subscribe(just);
+        assertEquals(List.of("x"), just.values);
+        assertTrue(just.completed);
+    }
+
+    @Test
+    void testIterableCompletesWhenExactlyRequested() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(3);
+
+        Flowable.fromIterable(List.of(1, 2, 3)).subscribe(subscriber);
+
+        assertEquals(List.of(1, 2, 3), subscriber.values);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void testSourceStopsOnCancel() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE) {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                if (item == 3) subscription.cancel();
+            }
+        };
+
+        Flowable.range(1, 1_000_000).subscribe(subscriber);
+
+        assertEquals(List.of(1, 2, 3), subscriber.values);
+        assertFalse(subscriber.completed);
+    }
+}
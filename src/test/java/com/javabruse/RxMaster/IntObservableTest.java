@@ -0,0 +1,231 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.DoubleObserver;
+import com.javabruse.RxMaster.interfaces.IntObserver;
+import com.javabruse.RxMaster.interfaces.LongObserver;
+import com.javabruse.RxMaster.interfaces.Observer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntObservableTest {
+
+    static class IntRecorder implements IntObserver {
+        final List<Integer> values = new ArrayList<>();
+        final List<String> errors = new ArrayList<>();
+        boolean completed;
+
+        public void onNext(int item) {
+            values.add(item);
+        }
+
+        public void onError(Throwable t) {
+            errors.add(t.getMessage());
+        }
+
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    static class LongRecorder implements LongObserver {
+        final List<Long> values = new ArrayList<>();
+
+        public void onNext(long item) {
+            values.add(item);
+        }
+
+        public void onError(Throwable t) {
+            fail("Unexpected error: " + t.getMessage());
+        }
+
+        public void onComplete() {
+        }
+    }
+
+    @Test
+    void testMapAndFilter() {
+        IntRecorder recorder = new IntRecorder();
+
+        IntObservable.range(1, 10)
+                .filter(x -> x % 2 == 0)
+                .map(x -> x * x)
+                .subscribe(recorder);
+
+        assertEquals(List.of(4, 16, 36, 64, 100), recorder.values);
+        assertTrue(recorder.completed);
+    }
+
+    @Test
+    void testReductions() {
+        LongRecorder sum = new LongRecorder();
+        LongRecorder count = new LongRecorder();
+        IntRecorder min = new IntRecorder();
+        IntRecorder max = new IntRecorder();
+
+        IntObservable source = IntObservable.of(5, -3, Integer.MAX_VALUE, 7);
+        source.sum().subscribe(sum);
+        source.count().subscribe(count);
+        source.min().subscribe(min);
+        source.max().subscribe(max);
+
+        assertEquals(List.of(5L - 3 + Integer.MAX_VALUE + 7), sum.values);
+        assertEquals(List.of(4L), count.values);
+        assertEquals(List.of(-3), min.values);
+        assertEquals(List.of(Integer.MAX_VALUE), max.values);
+    }
+
+    @Test
+    void testMinOfEmptyEmitsNothing() {
+        IntRecorder recorder = new IntRecorder();
+
+        IntObservable.of().min().subscribe(recorder);
+
+        assertTrue(recorder.values.isEmpty());
+        assertTrue(recorder.completed);
+    }
+
+    @Test
+    void testErrorInMapper() {
+        IntRecorder recorder = new IntRecorder();
+
+        IntObservable.range(0, 3)
+                .map(x -> 10 / x)
+                .subscribe(recorder);
+
+        assertEquals(List.of("/ by zero"), recorder.errors);
+        assertTrue(recorder.values.isEmpty());
+    }
+
+    @Test
+    void testBridgesToObservable() {
+        List<Integer> boxed = new ArrayList<>();
+        List<Double> averages = new ArrayList<>();
+
+        Observable.fromArray("a", "bb", "ccc")
+                .mapToInt(String::length)
+                .boxed()
+                .subscribe(new Observer<>() {
+                    public void onNext(Integer item) {
+                        boxed.add(item);
+                    }
+
+                    public void onError(Throwable t) {
+                        fail("Unexpected error: " + t.getMessage());
+                    }
+
+                    public void onComplete() {
+                    }
+                });
+
+        Observable.fromArray(1L, 2L, 6L)
+                .mapToLong(Long::longValue)
+                .average()
+                .subscribe(new DoubleObserver() {
+                    public void onNext(double item) {
+                        averages.add(item);
+                    }
+
+                    public void onError(Throwable t) {
+                        fail("Unexpected error: " + t.getMessage());
+                    }
+
+                    public void onComplete() {
+                    }
+                });
+
+        assertEquals(List.of(1, 2, 3), boxed);
+        assertEquals(List.of(3.0), averages);
+    }
+
+    @Test
+    void testDispose() {
+        IntRecorder recorder = new IntRecorder();
+        List<IntObserver> observers = new ArrayList<>();
+        IntObservable source = IntObservable.create(observers::add);
+
+        var disposable = source.subscribe(recorder);
+        observers.get(0).onNext(1);
+        disposable.dispose();
+        observers.get(0).onNext(2);
+
+        assertTrue(disposable.isDisposed());
+        assertEquals(List.of(1), recorder.values);
+    }
+
+    @Test
+    void testMapperErrorWithoutOnSubscribe() {
+        IntObservable source = IntObservable.create(observer -> {
+            observer.onNext(1);
+            observer.onNext(2);
+            observer.onComplete();
+        });
+
+        IntRecorder mapped = new IntRecorder();
+        source.map(x -> {
+            throw new IllegalStateException("map");
+        }).subscribe(mapped);
+        assertEquals(List.of("map"), mapped.errors);
+
+        IntRecorder filtered = new IntRecorder();
+        source.filter(x -> {
+            throw new IllegalStateException("filter");
+        }).subscribe(filtered);
+        assertEquals(List.of("filter"), filtered.errors);
+
+        List<String> errors = new ArrayList<>();
+        source.mapToObj(x -> {
+            throw new IllegalStateException("mapToObj");
+        }).subscribe(new Observer<Object>() {
+            public void onNext(Object item) {
+            }
+
+            public void onError(Throwable t) {
+                errors.add(t.getMessage());
+            }
+
+            public void onComplete() {
+            }
+        });
+        assertEquals(List.of("mapToObj"), errors);
+    }
+
+    @Test
+    void testLateErrorGoesToPlugins() {
+        List<Throwable> undeliverable = new ArrayList<>();
+        RxPlugins.setErrorHandler(undeliverable::add);
+        try {
+            IntRecorder recorder = new IntRecorder();
+            IntObservable.create(observer -> {
+                observer.onNext(1);
+                observer.onComplete();
+                observer.onError(new IllegalStateException("late"));
+            }).subscribe(recorder);
+
+            assertEquals(List.of(1), recorder.values);
+            assertTrue(recorder.completed);
+            assertTrue(recorder.errors.isEmpty());
+            assertEquals(1, undeliverable.size());
+            assertEquals("late", undeliverable.get(0).getMessage());
+        } finally {
+            RxPlugins.reset();
+        }
+    }
+
+    @Test
+    void testRangeRejectsOverflow() {
+        assertThrows(IllegalArgumentException.class, () -> IntObservable.range(Integer.MAX_VALUE, 2));
+        assertThrows(IllegalArgumentException.class, () -> LongObservable.range(Long.MAX_VALUE, 2));
+
+        IntRecorder ints = new IntRecorder();
+        IntObservable.range(Integer.MAX_VALUE, 1).subscribe(ints);
+        assertEquals(List.of(Integer.MAX_VALUE), ints.values);
+
+        LongRecorder longs = new LongRecorder();
+        LongObservable.range(Long.MAX_VALUE - 1, 2).subscribe(longs);
+        assertEquals(List.of(Long.MAX_VALUE - 1, Long.MAX_VALUE), longs.values);
+    }
+}
@@ -0,0 +1,264 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InteropTest {
+
+    static class Recorder<T> implements Observer<T> {
+        final List<T> values = new CopyOnWriteArrayList<>();
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+
+        @Override
+        public void onNext(T item) {
+            values.add(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            errors.add(t);
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testFromPublisherReplenishesInBatches() throws Exception {
+        AtomicLong outstanding = new AtomicLong();
+        AtomicLong maxOutstanding = new AtomicLong();
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        Flow.Publisher<Integer> publisher = subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+            int next;
+            boolean emitting;
+
+            @Override
+            public void request(long n) {
+                requests.add(n);
+                maxOutstanding.accumulateAndGet(outstanding.addAndGet(n), Math::max);
+                if (emitting) return;
+                emitting = true;
+                while (outstanding.get() > 0 && next < 100) {
+                    outstanding.decrementAndGet();
+                    subscriber.onNext(next++);
+                }
+                emitting = false;
+                if (next == 100) {
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        Recorder<Integer> recorder = new Recorder<>();
+        Observable.fromPublisher(publisher, 16).subscribe(recorder);
+        recorder.await();
+
+        assertEquals(100, recorder.values.size());
+        assertEquals(16L, requests.get(0));
+        assertTrue(requests.stream().skip(1).allMatch(n -> n == 12), requests.toString());
+        assertTrue(maxOutstanding.get() <= 16, "outstanding " + maxOutstanding.get());
+    }
+
+    @Test
+    public void testFromSubmissionPublisher() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>(executor, 8)) {
+            Recorder<Integer> recorder = new Recorder<>();
+            Observable.fromPublisher(publisher, 4).map(x -> x * 2).subscribe(recorder);
+            for (int i = 0; i < 1000; i++) {
+                publisher.submit(i);
+            }
+            publisher.close();
+            recorder.await();
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                expected.add(i * 2);
+            }
+            assertEquals(expected, recorder.values);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testToPublisherHonoursDemand() {
+        List<Integer> received = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+        Flow.Subscription[] subscription = new Flow.Subscription[1];
+        boolean[] completed = new boolean[1];
+
+        Observable.range(1, 10).toPublisher().subscribe(new Flow.Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription[0] = s;
+                s.request(3);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                errors.add(t);
+            }
+
+            @Override
+            public void onComplete() {
+                completed[0] = true;
+            }
+        });
+
+        assertEquals(List.of(1, 2, 3), received);
+        subscription[0].request(7);
+        assertEquals(10, received.size());
+        assertTrue(completed[0]);
+
+        Flowable.range(1, 5).toPublisher().subscribe(new Flow.Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                s.request(0);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                fail("Unexpected item");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                errors.add(t);
+            }
+
+            @Override
+            public void onComplete() {
+                fail("Unexpected completion");
+            }
+        });
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0) instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void testFromCompletionStage() throws Exception {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        Recorder<String> recorder = new Recorder<>();
+        Observable.fromCompletionStage(future).subscribe(recorder);
+        assertTrue(recorder.values.isEmpty());
+
+        new Thread(() -> future.complete("done")).start();
+        recorder.await();
+        assertEquals(List.of("done"), recorder.values);
+
+        CompletableFuture<String> failed = CompletableFuture.supplyAsync(() -> {
+            throw new IllegalStateException("remote failed");
+        });
+        Recorder<String> failure = new Recorder<>();
+        Observable.fromCompletionStage(failed).subscribe(failure);
+        failure.await();
+        assertTrue(failure.errors.get(0) instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testFromFuturePollsWithoutBlocking() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            Future<Integer> future = executor.submit(() -> {
+                release.await();
+                return 42;
+            });
+            Recorder<Integer> recorder = new Recorder<>();
+            long start = System.nanoTime();
+            Observable.fromFuture(future).subscribe(recorder);
+            assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+            release.countDown();
+            recorder.await();
+            assertEquals(List.of(42), recorder.values);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFromFutureBacksOffWhilePolling() throws Exception {
+        AtomicLong polls = new AtomicLong();
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        Future<Integer> future = new Future<>() {
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                return false;
+            }
+
+            public boolean isCancelled() {
+                return false;
+            }
+
+            public boolean isDone() {
+                polls.incrementAndGet();
+                return result.isDone();
+            }
+
+            public Integer get() throws InterruptedException, ExecutionException {
+                return result.get();
+            }
+
+            public Integer get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+                return result.get(timeout, unit);
+            }
+        };
+
+        Recorder<Integer> recorder = new Recorder<>();
+        Observable.fromFuture(future).subscribe(recorder);
+        Thread.sleep(300);
+        result.complete(7);
+        recorder.await();
+
+        assertEquals(List.of(7), recorder.values);
+        assertTrue(polls.get() < 30, "polled " + polls.get() + " times");
+    }
+
+    @Test
+    public void testFromCompletionStageDisposeDetachesObserver() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        Recorder<String> recorder = new Recorder<>();
+
+        var disposable = Observable.fromCompletionStage(future).subscribe(recorder);
+        disposable.dispose();
+        future.complete("late");
+
+        assertTrue(disposable.isDisposed());
+        assertTrue(recorder.values.isEmpty());
+        assertEquals(1, recorder.done.getCount());
+    }
+}
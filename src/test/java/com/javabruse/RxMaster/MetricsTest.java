@@ -0,0 +1,179 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+import com.javabruse.RxMaster.interfaces.Worker;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsTest {
+
+    @Test
+    public void testDisabledMetricsReturnSameInstance() {
+        RxMetrics.setEnabled(false);
+        Observable<Integer> source = Observable.fromArray(1, 2, 3);
+        assertSame(source, source.metrics("disabled"));
+        Scheduler scheduler = Runnable::run;
+        assertSame(scheduler, RxMetrics.instrument(scheduler, "disabled"));
+        assertNull(RxMetrics.snapshot("disabled"));
+    }
+
+    @Test
+    public void testPipelineMetrics() throws Exception {
+        RxMetrics.setEnabled(true);
+        try {
+            AtomicInteger completions = new AtomicInteger();
+            Observable.fromIterable(IntStream.range(0, 1000).boxed().toList())
+                    .metrics("numbers")
+                    .subscribe(new Observer<Integer>() {
+                        @Override
+                        public void onNext(Integer item) {
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                        }
+
+                        @Override
+                        public void onComplete() {
+                            completions.incrementAndGet();
+                        }
+                    });
+
+            MetricsSnapshot snapshot = RxMetrics.snapshot("numbers");
+            assertEquals(1, completions.get());
+            assertEquals(1000, snapshot.count());
+            assertEquals(0, snapshot.errors());
+            assertEquals(0, snapshot.active());
+            assertTrue(snapshot.p50Nanos() <= snapshot.p99Nanos());
+            assertTrue(snapshot.p99Nanos() <= snapshot.maxNanos());
+
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(1000L, server.getAttribute(RxMetrics.objectName("Pipeline", "numbers"), "Count"));
+        } finally {
+            RxMetrics.clear();
+            RxMetrics.setEnabled(false);
+        }
+    }
+
+    @Test
+    public void testInstrumentedScheduler() throws Exception {
+        RxMetrics.setEnabled(true);
+        ComputationScheduler delegate = new ComputationScheduler();
+        try {
+            Scheduler scheduler = RxMetrics.instrument(delegate, "pool");
+            CountDownLatch done = new CountDownLatch(100);
+            for (int i = 0; i < 100; i++) {
+                scheduler.execute(done::countDown);
+            }
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+
+            CountDownLatch observed = new CountDownLatch(1);
+            Observable.fromArray(1, 2, 3)
+                    .observeOn(scheduler)
+                    .subscribe(new Observer<Integer>() {
+                        @Override
+                        public void onNext(Integer item) {
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                        }
+
+                        @Override
+                        public void onComplete() {
+                            observed.countDown();
+                        }
+                    });
+            assertTrue(observed.await(5, TimeUnit.SECONDS));
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            MetricsSnapshot snapshot = RxMetrics.snapshot("pool");
+            while ((snapshot.active() != 0 || snapshot.pending() != 0) && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+                snapshot = RxMetrics.snapshot("pool");
+            }
+            assertTrue(snapshot.count() >= 101);
+            assertEquals(0, snapshot.pending());
+            assertEquals(0, snapshot.active());
+        } finally {
+            delegate.shutdown();
+            RxMetrics.clear();
+            RxMetrics.setEnabled(false);
+        }
+    }
+
+    @Test
+    public void testInstrumentedWorkerCancelsDelayedAndQueuedTasks() {
+        RxMetrics.setEnabled(true);
+        List<Runnable> queued = new ArrayList<>();
+        List<Runnable> timers = new ArrayList<>();
+        Worker manual = new Worker() {
+            public Disposable schedule(Runnable task) {
+                queued.add(task);
+                return new BooleanDisposable();
+            }
+
+            public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+                timers.add(task);
+                return new BooleanDisposable();
+            }
+
+            public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+                throw new UnsupportedOperationException();
+            }
+
+            public void dispose() {
+            }
+
+            public boolean isDisposed() {
+                return false;
+            }
+        };
+        try {
+            Scheduler scheduler = RxMetrics.instrument(new Scheduler() {
+                public void execute(Runnable task) {
+                    queued.add(task);
+                }
+
+                public Worker createWorker() {
+                    return manual;
+                }
+            }, "manual");
+            Worker worker = scheduler.createWorker();
+            AtomicInteger ran = new AtomicInteger();
+
+            Disposable delayed = worker.schedule(ran::incrementAndGet, 1, TimeUnit.SECONDS);
+            worker.schedule(ran::incrementAndGet);
+            assertEquals(1, RxMetrics.snapshot("manual").pending());
+            timers.forEach(Runnable::run);
+            assertEquals(2, RxMetrics.snapshot("manual").pending());
+
+            delayed.dispose();
+            assertTrue(delayed.isDisposed());
+            assertEquals(1, RxMetrics.snapshot("manual").pending());
+
+            worker.dispose();
+            assertEquals(0, RxMetrics.snapshot("manual").pending());
+            assertTrue(worker.schedule(ran::incrementAndGet).isDisposed());
+
+            queued.forEach(Runnable::run);
+            assertEquals(0, ran.get());
+            assertEquals(0, RxMetrics.snapshot("manual").pending());
+        } finally {
+            RxMetrics.clear();
+            RxMetrics.setEnabled(false);
+        }
+    }
+}
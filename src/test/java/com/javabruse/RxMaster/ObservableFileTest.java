@@ -0,0 +1,167 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObservableFileTest {
+
+    private static <T> List<T> await(Observable<T> source) throws InterruptedException {
+        List<T> result = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        source.subscribe(new Observer<>() {
+            public void onNext(T item) {
+                result.add(item);
+            }
+
+            public void onError(Throwable t) {
+                errors.add(t);
+                latch.countDown();
+            }
+
+            public void onComplete() {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(errors.isEmpty(), "Unexpected error: " + errors);
+        return result;
+    }
+
+    @Test
+    void testFromFileStreamsChunks() throws Exception {
+        Path file = Files.createTempFile("rxmaster", ".bin");
+        try {
+            byte[] data = new byte[10_000];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (byte) i;
+            }
+            Files.write(file, data);
+
+            List<ByteBuffer> chunks = await(Observable.fromFile(file, 4096));
+
+            assertEquals(3, chunks.size());
+            assertEquals(4096, chunks.get(0).remaining());
+            assertEquals(10_000 - 2 * 4096, chunks.get(2).remaining());
+            ByteBuffer last = chunks.get(2);
+            assertEquals(data[data.length - 1], last.get(last.limit() - 1));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testSplitRecordsAcrossChunkBoundaries() throws Exception {
+        Path file = Files.createTempFile("rxmaster", ".log");
+        try {
+            List<String> lines = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                lines.add("line-" + i + "-" + "x".repeat(i % 37));
+            }
+            Files.write(file, lines, StandardCharsets.UTF_8);
+
+            List<String> records = await(Observable.splitRecords(Observable.fromFile(file, 61), (byte) '\n')
+                    .map(buffer -> StandardCharsets.UTF_8.decode(buffer).toString()));
+
+            assertEquals(lines, records);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testWriteToFileUsesGatheringWrites() throws Exception {
+        Path source = Files.createTempFile("rxmaster", ".in");
+        Path target = Files.createTempFile("rxmaster", ".out");
+        try {
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 1000; i++) {
+                content.append("record ").append(i).append('\n');
+            }
+            Files.writeString(source, content);
+
+            List<Long> written = await(Observable.writeToFile(Observable.fromFile(source, 100), target, 16));
+
+            assertEquals(List.of((long) content.length()), written);
+            assertEquals(content.toString(), Files.readString(target));
+        } finally {
+            Files.deleteIfExists(source);
+            Files.deleteIfExists(target);
+        }
+    }
+
+    @Test
+    void testWriteToFileOpensOnScheduler() throws Exception {
+        Path target = Files.createTempDirectory("rxmaster").resolve("missing").resolve("out.bin");
+        Thread caller = Thread.currentThread();
+        List<Thread> errorThreads = new ArrayList<>();
+        CountDownLatch failed = new CountDownLatch(1);
+
+        Observable.writeToFile(Observable.just(ByteBuffer.allocate(8)), target, 4).subscribe(new Observer<>() {
+            public void onNext(Long item) {
+            }
+
+            public void onError(Throwable t) {
+                errorThreads.add(Thread.currentThread());
+                failed.countDown();
+            }
+
+            public void onComplete() {
+            }
+        });
+
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        assertNotSame(caller, errorThreads.get(0));
+        Files.delete(target.getParent().getParent());
+    }
+
+    @Test
+    void testWriteToFileDisposeWaitsForInFlightWrite() throws Exception {
+        Path target = Files.createTempFile("rxmaster", ".out");
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        RxPlugins.setErrorHandler(errors::add);
+        try {
+            CountDownLatch writing = new CountDownLatch(64);
+            Observable<ByteBuffer> endless = Observable.<ByteBuffer>unsafeCreate(observer -> {
+                BooleanDisposable d = new BooleanDisposable();
+                observer.onSubscribe(d);
+                while (!d.isDisposed()) {
+                    observer.onNext(ByteBuffer.allocate(4096));
+                    writing.countDown();
+                }
+            }).subscribeOn(Schedulers.computation());
+
+            var disposable = Observable.writeToFile(endless, target, 4).subscribe(new Observer<>() {
+                public void onNext(Long item) {
+                }
+
+                public void onError(Throwable t) {
+                    errors.add(t);
+                }
+
+                public void onComplete() {
+                }
+            });
+            assertTrue(writing.await(5, TimeUnit.SECONDS));
+            disposable.dispose();
+            Thread.sleep(50);
+
+            assertTrue(errors.isEmpty(), "Unexpected error: " + errors);
+        } finally {
+            RxPlugins.reset();
+            Files.deleteIfExists(target);
+        }
+    }
+}
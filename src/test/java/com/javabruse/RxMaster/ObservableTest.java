@@ -1,14 +1,18 @@
 package com.javabruse.RxMaster;
 
+import com.javabruse.RxMaster.interfaces.Disposable;
 import com.javabruse.RxMaster.interfaces.Observer;
 import com.javabruse.RxMaster.interfaces.Scheduler;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -234,6 +238,53 @@ public class ObservableTest {
         assertEquals(List.of("NullPointerException"), errors);
     }
 
+    @Test
+    void testMapperErrorDisposesUpstream() {
+        List<BooleanDisposable> upstreams = new ArrayList<>();
+        List<Integer> emitted = new ArrayList<>();
+        Observable<Integer> source = Observable.unsafeCreate(observer -> {
+            BooleanDisposable d = new BooleanDisposable();
+            upstreams.add(d);
+            observer.onSubscribe(d);
+            for (int i = 1; i <= 5 && !d.isDisposed(); i++) {
+                emitted.add(i);
+                observer.onNext(i);
+            }
+        });
+        List<Throwable> errors = new ArrayList<>();
+        Observer<Integer> recorder = new Observer<>() {
+            public void onNext(Integer item) {
+            }
+
+            public void onError(Throwable t) {
+                errors.add(t);
+            }
+
+            public void onComplete() {
+            }
+        };
+
+        source.map(x -> {
+            if (x == 2) throw new IllegalStateException("boom");
+            return x;
+        }).subscribe(recorder);
+        source.mapToInt(x -> {
+            if (x == 2) throw new IllegalStateException("boom");
+            return x;
+        }).boxed().subscribe(recorder);
+        source.mapToInt(x -> x).map(x -> {
+            if (x == 2) throw new IllegalStateException("boom");
+            return x;
+        }).boxed().subscribe(recorder);
+
+        assertEquals(3, upstreams.size());
+        for (BooleanDisposable d : upstreams) {
+            assertTrue(d.isDisposed());
+        }
+        assertEquals(List.of(1, 2, 1, 2, 1, 2), emitted);
+        assertEquals(3, errors.size());
+    }
+
     @Test
     void testFilterWithErrorInPredicate() {
         List<String> errors = new ArrayList<>();
@@ -291,4 +342,575 @@ public class ObservableTest {
 
         assertEquals(List.of("RuntimeException"), errors);
     }
+
+    @Test
+    void testObserveOnDrainsBatchInOneTask() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<Integer> result = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean(false);
+
+        Observable<Integer> observable = Observable.create(emitter -> {
+            for (int i = 0; i < 1000; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        });
+
+        observable.observeOn(tasks::add)
+                .subscribe(new Observer<>() {
+                    public void onNext(Integer item) {
+                        result.add(item);
+                    }
+
+                    public void onError(Throwable t) {
+                        fail("Unexpected error: " + t.getMessage());
+                    }
+
+                    public void onComplete() {
+                        completed.set(true);
+                    }
+                });
+
+        assertEquals(1, tasks.size());
+        tasks.get(0).run();
+        assertEquals(1000, result.size());
+        assertEquals(999, result.get(999));
+        assertTrue(completed.get());
+    }
+
+    @Test
+    void testObserveOnKeepsOrderOnComputationScheduler() throws InterruptedException {
+        List<Integer> result = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicBoolean overlap = new AtomicBoolean(false);
+        AtomicInteger inFlight = new AtomicInteger();
+
+        Observable<Integer> observable = Observable.create(emitter -> {
+            for (int i = 0; i < 100_000; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        });
+
+        observable.subscribeOn(new ComputationScheduler())
+                .observeOn(new ComputationScheduler())
+                .subscribe(new Observer<>() {
+                    public void onNext(Integer item) {
+                        if (inFlight.incrementAndGet() != 1) overlap.set(true);
+                        result.add(item);
+                        inFlight.decrementAndGet();
+                    }
+
+                    public void onError(Throwable t) {
+                        fail("Unexpected error: " + t.getMessage());
+                    }
+
+                    public void onComplete() {
+                        latch.countDown();
+                    }
+                });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertFalse(overlap.get());
+        assertEquals(100_000, result.size());
+        for (int i = 0; i < result.size(); i++) {
+            assertEquals(i, result.get(i));
+        }
+    }
+
+    @Test
+    void testChainedMapFilterFuseIntoOneStage() {
+        List<String> result = new ArrayList<>();
+
+        Observable<Integer> source = Observable.create(emitter -> {
+            for (int i = 1; i <= 6; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        });
+
+        Observable<Integer> evens = source.map(x -> x * 3).filter(x -> x % 2 == 0);
+        Observable<String> labelled = evens.map(x -> x + 1).filter(x -> x > 7).map(x -> "#" + x);
+
+        assertTrue(labelled instanceof FusedMapFilter);
+        assertSame(source, ((FusedMapFilter<?>) labelled).source);
+
+        labelled.subscribe(new Observer<>() {
+            public void onNext(String item) {
+                result.add(item);
+            }
+
+            public void onError(Throwable t) {
+                fail("Unexpected error: " + t.getMessage());
+            }
+
+            public void onComplete() {
+            }
+        });
+
+        assertEquals(List.of("#13", "#19"), result);
+        assertEquals(2, ((FusedMapFilter<?>) evens).stages.length);
+    }
+
+    @Test
+    void testFusedStagesOverArraySource() {
+        List<Integer> result = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+
+        Observable.fromArray(1, 2, 3, 4, 5)
+                .filter(x -> x != 2)
+                .map(x -> {
+                    if (x == 4) throw new IllegalStateException("boom");
+                    return x * 10;
+                })
+                .subscribe(new Observer<>() {
+                    public void onNext(Integer item) {
+                        result.add(item);
+                    }
+
+                    public void onError(Throwable t) {
+                        errors.add(t.getMessage());
+                    }
+
+                    public void onComplete() {
+                        fail("Unexpected completion");
+                    }
+                });
+
+        assertEquals(List.of(10, 30), result);
+        assertEquals(List.of("boom"), errors);
+    }
+
+    @Test
+    void testRangeAndJust() {
+        List<Integer> result = new ArrayList<>();
+        AtomicInteger completions = new AtomicInteger();
+        Observer<Integer> observer = new Observer<>() {
+            public void onNext(Integer item) {
+                result.add(item);
+            }
+
+            public void onError(Throwable t) {
+                fail("Unexpected error", t);
+            }
+
+            public void onComplete() {
+                completions.incrementAndGet();
+            }
+        };
+
+        Observable.range(1, 5).filter(x -> x % 2 == 1).map(x -> x * 10).subscribe(observer);
+        Observable.just(7).subscribe(observer);
+        Observable.range(Integer.MAX_VALUE, 1).subscribe(observer);
+        Observable.range(3, 0).subscribe(observer);
+
+        assertEquals(List.of(10, 30, 50, 7, Integer.MAX_VALUE), result);
+        assertEquals(4, completions.get());
+        assertThrows(IllegalArgumentException.class, () -> Observable.range(Integer.MAX_VALUE, 2));
+    }
+
+    @Test
+    void testFromIterable() {
+        List<Integer> result = new ArrayList<>();
+
+        Observable.fromIterable(List.of(1, 2, 3))
+                .map(x -> x + 1)
+                .subscribe(new Observer<>() {
+                    public void onNext(Integer item) {
+                        result.add(item);
+                    }
+
+                    public void onError(Throwable t) {
+                        fail("Unexpected error: " + t.getMessage());
+                    }
+
+                    public void onComplete() {
+                        result.add(0);
+                    }
+                });
+
+        assertEquals(List.of(2, 3, 4, 0), result);
+    }
+
+    @Test
+    void testFlatMapRoutesLateOuterErrorToPlugins() {
+        List<Throwable> undeliverable = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        PublishSubject<Integer> outer = PublishSubject.create();
+        PublishSubject<Integer> inner = PublishSubject.create();
+        RxPlugins.setErrorHandler(undeliverable::add);
+        try {
+            outer.flatMap(x -> inner).subscribe(new Observer<>() {
+                public void onNext(Integer item) {
+                    inner.onError(new IllegalStateException("inner"));
+                    outer.onError(new IllegalStateException("outer"));
+                }
+
+                public void onError(Throwable t) {
+                    errors.add(t.getMessage());
+                }
+
+                public void onComplete() {
+                }
+            });
+            outer.onNext(1);
+            inner.onNext(10);
+
+            assertEquals(List.of("inner"), errors);
+            assertEquals(1, undeliverable.size());
+            assertEquals("outer", undeliverable.get(0).getMessage());
+        } finally {
+            RxPlugins.reset();
+        }
+    }
+
+    @Test
+    void testFlatMapMaxConcurrencyAndCompletion() throws InterruptedException {
+        List<Integer> result = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicBoolean overlap = new AtomicBoolean(false);
+        AtomicInteger inFlight = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        Observable<Integer> observable = Observable.create(emitter -> {
+            for (int i = 0; i < 10; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        });
+
+        observable.flatMap(x -> Observable.<Integer>create(inner -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    for (int j = 0; j < 100; j++) {
+                        inner.onNext(x * 100 + j);
+                    }
+                    running.decrementAndGet();
+                    inner.onComplete();
+                }).subscribeOn(executor::execute), 2, 16)
+                .subscribe(new Observer<>() {
+                    public void onNext(Integer item) {
+                        if (inFlight.incrementAndGet() != 1) overlap.set(true);
+                        result.add(item);
+                        inFlight.decrementAndGet();
+                    }
+
+                    public void onError(Throwable t) {
+                        fail("Unexpected error: " + t.getMessage());
+                    }
+
+                    public void onComplete() {
+                        latch.countDown();
+                    }
+                });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(maxRunning.get() <= 2);
+        assertFalse(overlap.get());
+        assertEquals(1000, result.size());
+        assertEquals(1000, new HashSet<>(result).size());
+    }
+
+    @Test
+    void testBufferByCount() {
+        List<List<Integer>> result = new ArrayList<>();
+
+        Observable.fromArray(1, 2, 3, 4, 5, 6, 7)
+                .buffer(3)
+                .subscribe(new Observer<>() {
+                    public void onNext(List<Integer> item) {
+                        result.add(item);
+                    }
+
+                    public void onError(Throwable t) {
+                        fail("Unexpected error: " + t.getMessage());
+                    }
+
+                    public void onComplete() {
+                    }
+                });
+
+        assertEquals(List.of(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7)), result);
+    }
+
+    @Test
+    void testBufferSupplierErrorDisposesUpstream() {
+        BooleanDisposable upstream = new BooleanDisposable();
+        List<Integer> emitted = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        Observable.<Integer>unsafeCreate(observer -> {
+            observer.onSubscribe(upstream);
+            for (int i = 1; i <= 5 && !upstream.isDisposed(); i++) {
+                emitted.add(i);
+                observer.onNext(i);
+            }
+        }).buffer(1, () -> {
+            if (calls.incrementAndGet() == 2) throw new IllegalStateException("supplier");
+            return new ArrayList<Integer>();
+        }).subscribe(new Observer<>() {
+            public void onNext(ArrayList<Integer> item) {
+            }
+
+            public void onError(Throwable t) {
+                errors.add(t.getMessage());
+            }
+
+            public void onComplete() {
+            }
+        });
+
+        assertTrue(upstream.isDisposed());
+        assertEquals(List.of(1, 2), emitted);
+        assertEquals(List.of("supplier"), errors);
+    }
+
+    @Test
+    void testBufferByTimeAndSize() throws InterruptedException {
+        List<List<Integer>> result = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Observable<Integer> observable = Observable.create(emitter -> {
+            for (int i = 0; i < 5; i++) {
+                emitter.onNext(i);
+            }
+            try {
+                Thread.sleep(150);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            emitter.onNext(5);
+            emitter.onComplete();
+        });
+
+        observable.subscribeOn(new SingleThreadScheduler())
+                .buffer(50, TimeUnit.MILLISECONDS, 3)
+                .subscribe(new Observer<>() {
+                    public void onNext(List<Integer> item) {
+                        result.add(item);
+                    }
+
+                    public void onError(Throwable t) {
+                        fail("Unexpected error: " + t.getMessage());
+                    }
+
+                    public void onComplete() {
+                        latch.countDown();
+                    }
+                });
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(0, 1, 2), List.of(3, 4), List.of(5)), result);
+    }
+
+    @Test
+    void testWindowByCount() {
+        List<List<Integer>> result = new ArrayList<>();
+
+        Observable.fromArray(1, 2, 3, 4, 5)
+                .window(2)
+                .subscribe(new Observer<>() {
+                    public void onNext(Observable<Integer> window) {
+                        List<Integer> items = new ArrayList<>();
+                        result.add(items);
+                        window.subscribe(new Observer<>() {
+                            public void onNext(Integer item) {
+                                items.add(item);
+                            }
+
+                            public void onError(Throwable t) {
+                                fail("Unexpected error: " + t.getMessage());
+                            }
+
+                            public void onComplete() {
+                            }
+                        });
+                    }
+
+                    public void onError(Throwable t) {
+                        fail("Unexpected error: " + t.getMessage());
+                    }
+
+                    public void onComplete() {
+                    }
+                });
+
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), result);
+    }
+
+    @Test
+    void testWindowByTime() throws InterruptedException {
+        List<Observable<Integer>> windows = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Observable<Integer> observable = Observable.create(emitter -> {
+            emitter.onNext(1);
+            emitter.onNext(2);
+            try {
+                Thread.sleep(150);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            emitter.onNext(3);
+            emitter.onComplete();
+        });
+
+        observable.subscribeOn(new SingleThreadScheduler())
+                .window(50, TimeUnit.MILLISECONDS, 10)
+                .subscribe(new Observer<>() {
+                    public void onNext(Observable<Integer> window) {
+                        windows.add(window);
+                    }
+
+                    public void onError(Throwable t) {
+                        fail("Unexpected error: " + t.getMessage());
+                    }
+
+                    public void onComplete() {
+                        latch.countDown();
+                    }
+                });
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(2, windows.size());
+        List<Integer> late = new ArrayList<>();
+        windows.get(1).subscribe(new Observer<>() {
+            public void onNext(Integer item) {
+                late.add(item);
+            }
+
+            public void onError(Throwable t) {
+                fail("Unexpected error: " + t.getMessage());
+            }
+
+            public void onComplete() {
+                late.add(-1);
+            }
+        });
+        assertEquals(List.of(3, -1), late);
+    }
+
+    @Test
+    void testDisposePropagatesUpstreamThroughChain() throws InterruptedException {
+        AtomicInteger produced = new AtomicInteger();
+        AtomicInteger received = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        Iterable<Integer> infinite = () -> new Iterator<>() {
+            public boolean hasNext() {
+                return true;
+            }
+
+            public Integer next() {
+                return produced.incrementAndGet();
+            }
+        };
+
+        Observable.fromIterable(infinite)
+                .subscribeOn(new SingleThreadScheduler())
+                .map(x -> x * 2)
+                .filter(x -> x % 4 == 0)
+                .observeOn(Schedulers.computation())
+                .subscribe(new Observer<>() {
+                    private Disposable upstream;
+
+                    public void onSubscribe(Disposable d) {
+                        upstream = d;
+                    }
+
+                    public void onNext(Integer item) {
+                        if (received.incrementAndGet() == 5) {
+                            upstream.dispose();
+                            latch.countDown();
+                        }
+                    }
+
+                    public void onError(Throwable t) {
+                        fail("Unexpected error: " + t.getMessage());
+                    }
+
+                    public void onComplete() {
+                        fail("Unexpected completion");
+                    }
+                });
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        int stopped = produced.get();
+        Thread.sleep(100);
+        assertEquals(stopped, produced.get());
+        assertEquals(5, received.get());
+    }
+
+    @Test
+    void testCompositeDisposableConcurrentAddRemove() throws InterruptedException {
+        CompositeDisposable composite = new CompositeDisposable();
+        int threads = 4;
+        int perThread = 5_000;
+        List<List<BooleanDisposable>> kept = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            List<BooleanDisposable> mine = new ArrayList<>();
+            kept.add(mine);
+            new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    BooleanDisposable d = new BooleanDisposable();
+                    composite.add(d);
+                    if (i % 2 == 0) {
+                        assertTrue(composite.remove(d));
+                        assertTrue(d.isDisposed());
+                    } else {
+                        mine.add(d);
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(threads * perThread / 2, composite.size());
+
+        composite.dispose();
+        assertEquals(0, composite.size());
+        for (List<BooleanDisposable> mine : kept) {
+            for (BooleanDisposable d : mine) {
+                assertTrue(d.isDisposed());
+            }
+        }
+
+        BooleanDisposable late = new BooleanDisposable();
+        assertFalse(composite.add(late));
+        assertTrue(late.isDisposed());
+    }
+
+    @Test
+    void testSerialDisposable() {
+        SerialDisposable serial = new SerialDisposable();
+        BooleanDisposable first = new BooleanDisposable();
+        BooleanDisposable second = new BooleanDisposable();
+        BooleanDisposable third = new BooleanDisposable();
+
+        serial.set(first);
+        serial.set(second);
+        assertTrue(first.isDisposed());
+        assertSame(second, serial.get());
+
+        serial.replace(third);
+        assertFalse(second.isDisposed());
+
+        serial.dispose();
+        assertTrue(third.isDisposed());
+        assertTrue(serial.isDisposed());
+
+        BooleanDisposable afterDispose = new BooleanDisposable();
+        assertFalse(serial.set(afterDispose));
+        assertTrue(afterDispose.isDisposed());
+    }
 }
@@ -0,0 +1,168 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelObservableTest {
+
+    private static List<Integer> range(int count) {
+        return IntStream.rangeClosed(1, count).boxed().collect(Collectors.toList());
+    }
+
+    private static <T> List<T> await(Observable<T> source) throws InterruptedException {
+        List<T> result = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        source.subscribe(new Observer<>() {
+            public void onNext(T item) {
+                result.add(item);
+            }
+
+            public void onError(Throwable t) {
+                errors.add(t);
+                latch.countDown();
+            }
+
+            public void onComplete() {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(errors.isEmpty(), "Unexpected error: " + errors);
+        return result;
+    }
+
+    @Test
+    void testRunOnSpreadsRailsAcrossThreads() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(4);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        List<Integer> result = await(Observable.fromIterable(range(1000))
+                .parallel(4)
+                .runOn(scheduler)
+                .map(x -> {
+                    threads.add(Thread.currentThread().getName());
+                    return x * 2;
+                })
+                .sequential());
+
+        assertEquals(1000, result.size());
+        assertEquals(range(1000).stream().map(x -> x * 2).collect(Collectors.toSet()), Set.copyOf(result));
+        assertTrue(threads.size() > 1, "Expected several rail threads, got " + threads);
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testSequentialOrderedRestoresSourceOrder() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(3);
+
+        List<Integer> result = await(Observable.fromIterable(range(2000))
+                .parallel(3)
+                .runOn(scheduler)
+                .filter(x -> x % 3 != 0)
+                .map(x -> x * 10)
+                .sequentialOrdered());
+
+        List<Integer> expected = range(2000).stream().filter(x -> x % 3 != 0).map(x -> x * 10).collect(Collectors.toList());
+        assertEquals(expected, result);
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testReduceCombinesRails() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(4);
+
+        List<Integer> total = await(Observable.fromIterable(range(100))
+                .parallel(4)
+                .runOn(scheduler)
+                .reduce(Integer::sum));
+
+        List<Integer> perRail = await(Observable.fromIterable(range(100))
+                .parallel(4)
+                .reduce(() -> 0, (acc, x) -> acc + 1)
+                .sequentialOrdered());
+
+        assertEquals(List.of(5050), total);
+        assertEquals(List.of(25, 25, 25, 25), perRail);
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testRailErrorTerminatesSequential() throws InterruptedException {
+        List<Throwable> errors = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Observable.fromIterable(range(100))
+                .parallel(2)
+                .runOn(Schedulers.computation())
+                .map(x -> {
+                    if (x == 50) throw new IllegalStateException("rail failure");
+                    return x;
+                })
+                .sequential()
+                .subscribe(new Observer<>() {
+                    public void onNext(Integer item) {
+                    }
+
+                    public void onError(Throwable t) {
+                        errors.add(t);
+                        latch.countDown();
+                    }
+
+                    public void onComplete() {
+                        fail("Unexpected completion");
+                    }
+                });
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(1, errors.size());
+        assertEquals("rail failure", errors.get(0).getMessage());
+    }
+
+    @Test
+    void testRailMapperErrorDisposesUpstream() {
+        BooleanDisposable upstream = new BooleanDisposable();
+        List<Integer> emitted = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+
+        Observable.<Integer>unsafeCreate(observer -> {
+                    observer.onSubscribe(upstream);
+                    for (int i = 0; i < 10 && !upstream.isDisposed(); i++) {
+                        emitted.add(i);
+                        observer.onNext(i);
+                    }
+                })
+                .parallel(2)
+                .map(x -> {
+                    if (x == 3) throw new IllegalStateException("rail failure");
+                    return x;
+                })
+                .sequential()
+                .subscribe(new Observer<>() {
+                    public void onNext(Integer item) {
+                    }
+
+                    public void onError(Throwable t) {
+                        errors.add(t);
+                    }
+
+                    public void onComplete() {
+                    }
+                });
+
+        assertTrue(upstream.isDisposed());
+        assertEquals(List.of(0, 1, 2, 3), emitted);
+        assertEquals(1, errors.size());
+    }
+}
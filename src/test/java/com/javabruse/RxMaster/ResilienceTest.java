@@ -0,0 +1,211 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.RetryPolicy;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResilienceTest {
+
+    static class Recorder<T> implements Observer<T> {
+        final List<T> values = new CopyOnWriteArrayList<>();
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile boolean completed;
+
+        @Override
+        public void onNext(T item) {
+            values.add(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            errors.add(t);
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            done.countDown();
+        }
+    }
+
+    private static Observable<String> failing(AtomicInteger subscriptions, int failures) {
+        return Observable.create(emitter -> {
+            if (subscriptions.incrementAndGet() <= failures) {
+                emitter.onError(new IllegalStateException("attempt " + subscriptions.get()));
+            } else {
+                emitter.onNext("ok");
+                emitter.onComplete();
+            }
+        });
+    }
+
+    @Test
+    public void testRetryResubscribesUpToLimit() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Recorder<String> success = new Recorder<>();
+        failing(subscriptions, 2).retry(2).subscribe(success);
+        assertEquals(List.of("ok"), success.values);
+        assertTrue(success.completed);
+        assertEquals(3, subscriptions.get());
+
+        subscriptions.set(0);
+        Recorder<String> exhausted = new Recorder<>();
+        failing(subscriptions, 3).retry(1).subscribe(exhausted);
+        assertEquals(2, subscriptions.get());
+        assertEquals("attempt 2", exhausted.errors.get(0).getMessage());
+
+        subscriptions.set(0);
+        Recorder<String> filtered = new Recorder<>();
+        failing(subscriptions, 3).retry(5, t -> false).subscribe(filtered);
+        assertEquals(1, subscriptions.get());
+        assertEquals(1, filtered.errors.size());
+    }
+
+    @Test
+    public void testSynchronousRetryDoesNotGrowStack() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Recorder<String> recorder = new Recorder<>();
+        failing(subscriptions, 100_000).retry().subscribe(recorder);
+        assertEquals(List.of("ok"), recorder.values);
+        assertEquals(100_001, subscriptions.get());
+    }
+
+    @Test
+    public void testExponentialBackoffPolicy() {
+        RetryPolicy policy = RetryPolicy.exponentialBackoff(5, 100, 1000, TimeUnit.MILLISECONDS, 0);
+        long[] expected = {100, 200, 400, 800, 1000};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(TimeUnit.MILLISECONDS.toNanos(expected[i]), policy.delayNanos(i + 1, null));
+        }
+        assertTrue(policy.delayNanos(6, null) < 0);
+
+        RetryPolicy jittered = RetryPolicy.exponentialBackoff(100, 100, 1000, TimeUnit.MILLISECONDS, 0.5);
+        for (int i = 0; i < 1000; i++) {
+            long delay = jittered.delayNanos(2, null);
+            assertTrue(delay >= TimeUnit.MILLISECONDS.toNanos(100) && delay <= TimeUnit.MILLISECONDS.toNanos(200));
+        }
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1000), policy.delayNanos(5, null));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1000),
+                RetryPolicy.exponentialBackoff(100, 100, 1000, TimeUnit.MILLISECONDS, 0).delayNanos(90, null));
+    }
+
+    @Test
+    public void testRetryWhenBacksOffOnTimer() throws Exception {
+        AtomicInteger subscriptions = new AtomicInteger();
+        List<Long> attemptTimes = new CopyOnWriteArrayList<>();
+        Observable<String> source = Observable.create(emitter -> {
+            attemptTimes.add(System.nanoTime());
+            if (subscriptions.incrementAndGet() <= 3) {
+                emitter.onError(new IllegalStateException("transient"));
+            } else {
+                emitter.onNext("ok");
+                emitter.onComplete();
+            }
+        });
+        Recorder<String> recorder = new Recorder<>();
+        long start = System.nanoTime();
+        source.retryWhen(RetryPolicy.exponentialBackoff(5, 20, 1000, TimeUnit.MILLISECONDS, 0)).subscribe(recorder);
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(20), "caller must not block");
+        assertTrue(recorder.done.await(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of("ok"), recorder.values);
+        assertEquals(4, attemptTimes.size());
+        for (int i = 1; i < attemptTimes.size(); i++) {
+            long gap = attemptTimes.get(i) - attemptTimes.get(i - 1);
+            assertTrue(gap >= TimeUnit.MILLISECONDS.toNanos(20L << (i - 1)) - TimeUnit.MILLISECONDS.toNanos(2),
+                    "gap " + i + " too short: " + gap);
+        }
+    }
+
+    @Test
+    public void testRetryWhenGivesUp() throws Exception {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Recorder<String> recorder = new Recorder<>();
+        failing(subscriptions, 10).retryWhen(RetryPolicy.fixedDelay(2, 1, TimeUnit.MILLISECONDS)).subscribe(recorder);
+        assertTrue(recorder.done.await(5, TimeUnit.SECONDS));
+        assertEquals(3, subscriptions.get());
+        assertEquals("attempt 3", recorder.errors.get(0).getMessage());
+    }
+
+    @Test
+    public void testOnErrorResumeNextAndReturn() {
+        Recorder<String> resumed = new Recorder<>();
+        Observable.<String>create(emitter -> {
+            emitter.onNext("a");
+            emitter.onError(new IllegalStateException("boom"));
+        }).onErrorResumeNext(t -> Observable.fromArray("b", "c")).subscribe(resumed);
+        assertEquals(List.of("a", "b", "c"), resumed.values);
+        assertTrue(resumed.completed);
+
+        Recorder<String> returned = new Recorder<>();
+        Observable.<String>create(emitter -> emitter.onError(new IllegalStateException("boom")))
+                .onErrorReturn(Throwable::getMessage)
+                .subscribe(returned);
+        assertEquals(List.of("boom"), returned.values);
+        assertTrue(returned.completed);
+    }
+
+    @Test
+    public void testCircuitBreakerOpensAndRecovers() {
+        AtomicLong clock = new AtomicLong();
+        Scheduler scheduler = new Scheduler() {
+            @Override
+            public void execute(Runnable task) {
+                task.run();
+            }
+
+            @Override
+            public long now(TimeUnit unit) {
+                return unit.convert(clock.get(), TimeUnit.MILLISECONDS);
+            }
+        };
+        CircuitBreaker breaker = new CircuitBreaker(2, 100, TimeUnit.MILLISECONDS, scheduler);
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger healthyAfter = new AtomicInteger(Integer.MAX_VALUE);
+        Observable<String> remote = Observable.<String>create(emitter -> {
+            if (calls.incrementAndGet() < healthyAfter.get()) {
+                emitter.onError(new IllegalStateException("down"));
+            } else {
+                emitter.onNext("up");
+                emitter.onComplete();
+            }
+        }).circuitBreaker(breaker);
+
+        remote.subscribe(new Recorder<>());
+        remote.subscribe(new Recorder<>());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        Recorder<String> rejected = new Recorder<>();
+        remote.subscribe(rejected);
+        assertEquals(2, calls.get());
+        assertTrue(rejected.errors.get(0) instanceof CircuitBreakerOpenException);
+
+        clock.set(100);
+        remote.subscribe(new Recorder<>());
+        assertEquals(3, calls.get());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        clock.set(150);
+        remote.subscribe(new Recorder<>());
+        assertEquals(3, calls.get());
+
+        healthyAfter.set(0);
+        clock.set(200);
+        Recorder<String> recovered = new Recorder<>();
+        remote.subscribe(recovered);
+        assertEquals(List.of("up"), recovered.values);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+}
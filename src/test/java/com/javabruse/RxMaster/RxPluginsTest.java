@@ -0,0 +1,165 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+import com.javabruse.RxMaster.interfaces.Worker;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RxPluginsTest {
+
+    @Test
+    public void testScheduleHandlerWrapsEveryTask() throws Exception {
+        AtomicInteger wrapped = new AtomicInteger();
+        ThreadLocal<String> context = new ThreadLocal<>();
+        RxPlugins.setScheduleHandler(task -> {
+            wrapped.incrementAndGet();
+            String captured = context.get();
+            return () -> {
+                String previous = context.get();
+                context.set(captured);
+                try {
+                    task.run();
+                } finally {
+                    context.set(previous);
+                }
+            };
+        });
+        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        try {
+            context.set("request-42");
+            AtomicReference<String> seen = new AtomicReference<>();
+            CountDownLatch latch = new CountDownLatch(2);
+            scheduler.execute(() -> {
+                seen.set(context.get());
+                latch.countDown();
+            });
+            Worker worker = scheduler.createWorker();
+            worker.schedule(latch::countDown, 10, TimeUnit.MILLISECONDS);
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals("request-42", seen.get());
+            assertEquals(2, wrapped.get());
+            worker.dispose();
+
+            Worker trampoline = Schedulers.trampoline().createWorker();
+            trampoline.schedule(() -> {
+            });
+            Schedulers.trampoline().schedule(() -> {
+            }, 1, TimeUnit.MILLISECONDS);
+            assertEquals(4, wrapped.get());
+            trampoline.dispose();
+        } finally {
+            context.remove();
+            RxPlugins.reset();
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void testAssemblyHandlerSeesEveryOperator() {
+        List<Observable> assembled = new ArrayList<>();
+        RxPlugins.setOnObservableAssembly(o -> {
+            assembled.add(o);
+            return o;
+        });
+        try {
+            List<Integer> results = new ArrayList<>();
+            Observable.fromArray(1, 2, 3)
+                    .map(x -> x * 10)
+                    .filter(x -> x > 10)
+                    .subscribe(new Observer<Integer>() {
+                        @Override
+                        public void onNext(Integer item) {
+                            results.add(item);
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                        }
+
+                        @Override
+                        public void onComplete() {
+                        }
+                    });
+            assertEquals(List.of(20, 30), results);
+            assertEquals(3, assembled.size());
+        } finally {
+            RxPlugins.reset();
+        }
+    }
+
+    @Test
+    public void testErrorHandlerReceivesUndeliverableErrors() throws Exception {
+        List<Throwable> errors = new ArrayList<>();
+        RxPlugins.setErrorHandler(errors::add);
+        try {
+            Observable.<Integer>create(emitter -> {
+                emitter.onComplete();
+                emitter.onError(new IllegalStateException("late"));
+            }).subscribe(new Observer<Integer>() {
+                @Override
+                public void onNext(Integer item) {
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+            assertEquals(1, errors.size());
+            assertEquals("late", errors.get(0).getMessage());
+        } finally {
+            RxPlugins.reset();
+        }
+    }
+
+    @Test
+    public void testErrorHandlerReceivesSchedulerTaskFailures() throws Exception {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        RxPlugins.setErrorHandler(t -> {
+            error.set(t);
+            latch.countDown();
+        });
+        SingleThreadScheduler single = new SingleThreadScheduler();
+        VirtualThreadScheduler virtual = new VirtualThreadScheduler(1);
+        try {
+            single.execute(() -> {
+                throw new IllegalStateException("single");
+            });
+            virtual.execute(() -> {
+                throw new IllegalStateException("virtual");
+            });
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertTrue(error.get() instanceof IllegalStateException);
+        } finally {
+            single.shutdown();
+            virtual.shutdown();
+            RxPlugins.reset();
+        }
+    }
+
+    @Test
+    public void testSchedulerHandlerReplacesSharedScheduler() {
+        Scheduler immediate = Runnable::run;
+        RxPlugins.setComputationSchedulerHandler(s -> immediate);
+        try {
+            assertSame(immediate, Schedulers.computation());
+        } finally {
+            RxPlugins.reset();
+        }
+        assertNotSame(immediate, Schedulers.computation());
+    }
+}
@@ -0,0 +1,295 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+import com.javabruse.RxMaster.interfaces.Worker;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchedulersTest {
+
+    @Test
+    void testVirtualThreadSchedulerRunsBlockingSources() throws InterruptedException {
+        int count = 10_000;
+        CountDownLatch latch = new CountDownLatch(count);
+        AtomicBoolean virtual = new AtomicBoolean(true);
+        Scheduler scheduler = new VirtualThreadScheduler();
+
+        Observable<Integer> blocking = Observable.create(emitter -> {
+            if (!Thread.currentThread().isVirtual()) virtual.set(false);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            emitter.onNext(1);
+            emitter.onComplete();
+        });
+
+        for (int i = 0; i < count; i++) {
+            blocking.subscribeOn(scheduler).subscribe(new Observer<>() {
+                public void onNext(Integer item) {
+                }
+
+                public void onError(Throwable t) {
+                    fail("Unexpected error: " + t.getMessage());
+                }
+
+                public void onComplete() {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertTrue(virtual.get());
+    }
+
+    @Test
+    void testVirtualThreadSchedulerLimitsConcurrency() throws InterruptedException {
+        int count = 200;
+        CountDownLatch latch = new CountDownLatch(count);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Scheduler scheduler = new VirtualThreadScheduler(4);
+
+        for (int i = 0; i < count; i++) {
+            scheduler.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertTrue(maxRunning.get() <= 4);
+    }
+
+    @Test
+    void testIoSchedulerSwitchesToVirtualThreads() throws InterruptedException {
+        boolean previous = Schedulers.isIoVirtualThreads();
+        try {
+            Schedulers.setIoVirtualThreads(true);
+            Scheduler virtual = Schedulers.io();
+            assertTrue(virtual instanceof VirtualThreadScheduler);
+            Worker worker = virtual.createWorker();
+            Schedulers.setIoVirtualThreads(false);
+            assertFalse(((ExecutorScheduler) virtual).isShutdown());
+            CountDownLatch latch = new CountDownLatch(1);
+            worker.schedule(latch::countDown);
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            worker.dispose();
+            assertTrue(Schedulers.io() instanceof IOThreadScheduler);
+            assertSame(Schedulers.io(), Schedulers.io());
+        } finally {
+            Schedulers.setIoVirtualThreads(previous);
+        }
+    }
+
+    @Test
+    void testDelayedSchedule() throws InterruptedException {
+        Scheduler scheduler = new SingleThreadScheduler();
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        scheduler.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(45));
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testDisposedDelayedTaskDoesNotRun() throws InterruptedException {
+        Scheduler scheduler = new SingleThreadScheduler();
+        AtomicBoolean ran = new AtomicBoolean(false);
+
+        var disposable = scheduler.schedule(() -> ran.set(true), 50, TimeUnit.MILLISECONDS);
+        disposable.dispose();
+
+        Thread.sleep(100);
+        assertFalse(ran.get());
+        assertTrue(disposable.isDisposed());
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testWorkerRunsTasksSeriallyInOrder() throws InterruptedException {
+        Scheduler scheduler = new ComputationScheduler();
+        Worker worker = scheduler.createWorker();
+        int count = 10_000;
+        List<Integer> order = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        for (int i = 0; i < count; i++) {
+            int value = i;
+            worker.schedule(() -> {
+                order.add(value);
+                if (value == count - 1) latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, order.get(i));
+        }
+        worker.dispose();
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testWorkerPeriodicAndDispose() throws InterruptedException {
+        Scheduler scheduler = new SingleThreadScheduler();
+        Worker worker = scheduler.createWorker();
+        AtomicInteger ticks = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        worker.schedulePeriodically(() -> {
+            ticks.incrementAndGet();
+            latch.countDown();
+        }, 0, 10, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        worker.dispose();
+        int afterDispose = ticks.get();
+        Thread.sleep(50);
+        assertTrue(ticks.get() <= afterDispose + 1);
+        assertTrue(worker.isDisposed());
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testShutdownStopsExecutor() {
+        ExecutorScheduler scheduler = new IOThreadScheduler();
+        scheduler.shutdown();
+        assertTrue(scheduler.isShutdown());
+    }
+
+    @Test
+    void testComputationWorkersArePinnedToEventLoops() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(2);
+        Worker first = scheduler.createWorker();
+        Worker second = scheduler.createWorker();
+        Set<String> firstThreads = ConcurrentHashMap.newKeySet();
+        Set<String> secondThreads = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(200);
+
+        for (int i = 0; i < 100; i++) {
+            first.schedule(() -> {
+                firstThreads.add(Thread.currentThread().getName());
+                latch.countDown();
+            });
+            second.schedule(() -> {
+                secondThreads.add(Thread.currentThread().getName());
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(1, firstThreads.size());
+        assertEquals(1, secondThreads.size());
+        assertNotEquals(firstThreads, secondThreads);
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testIdleEventLoopStealsSharedTasks() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+
+        scheduler.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finished.countDown();
+        });
+        scheduler.execute(() -> {
+        });
+        scheduler.execute(release::countDown);
+
+        assertTrue(finished.await(2, TimeUnit.SECONDS));
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testTrampolineQueuesNestedTasks() {
+        Scheduler trampoline = Schedulers.trampoline();
+        List<String> order = new ArrayList<>();
+        Thread caller = Thread.currentThread();
+        AtomicBoolean sameThread = new AtomicBoolean(true);
+
+        trampoline.execute(() -> {
+            order.add("outer-start");
+            trampoline.execute(() -> {
+                sameThread.compareAndSet(true, Thread.currentThread() == caller);
+                order.add("inner");
+            });
+            order.add("outer-end");
+        });
+
+        assertEquals(List.of("outer-start", "outer-end", "inner"), order);
+        assertTrue(sameThread.get());
+    }
+
+    @Test
+    void testTrampolineAvoidsDeepRecursion() {
+        Scheduler trampoline = Schedulers.trampoline();
+        AtomicInteger remaining = new AtomicInteger(1_000_000);
+        Runnable[] step = new Runnable[1];
+        step[0] = () -> {
+            if (remaining.decrementAndGet() > 0) {
+                trampoline.execute(step[0]);
+            }
+        };
+
+        trampoline.execute(step[0]);
+
+        assertEquals(0, remaining.get());
+    }
+
+    @Test
+    void testTrampolineDelaySleepsOnCaller() {
+        Scheduler trampoline = Schedulers.trampoline();
+        List<String> order = new ArrayList<>();
+        Thread caller = Thread.currentThread();
+        AtomicBoolean sameThread = new AtomicBoolean(true);
+        long start = System.nanoTime();
+
+        trampoline.schedule(() -> {
+            order.add("outer");
+            trampoline.schedule(() -> {
+                sameThread.compareAndSet(true, Thread.currentThread() == caller);
+                order.add("inner");
+            }, 20, TimeUnit.MILLISECONDS);
+            order.add("outer-end");
+        }, 20, TimeUnit.MILLISECONDS);
+
+        assertEquals(List.of("outer", "outer-end", "inner"), order);
+        assertTrue(sameThread.get());
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(40));
+
+        order.clear();
+        long again = System.nanoTime();
+        trampoline.execute(() -> trampoline.schedule(() -> order.add("never"), 5, TimeUnit.SECONDS).dispose());
+        assertTrue(order.isEmpty());
+        assertTrue(System.nanoTime() - again < TimeUnit.SECONDS.toNanos(5));
+    }
+}
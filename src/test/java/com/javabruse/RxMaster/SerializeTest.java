@@ -0,0 +1,201 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SerializeTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int ITEMS = 20_000;
+
+    static class SerialChecker implements Observer<int[]> {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        final int[] lastSeen = new int[PRODUCERS];
+        final AtomicBoolean outOfOrder = new AtomicBoolean();
+        final CountDownLatch done = new CountDownLatch(1);
+        final AtomicInteger completions = new AtomicInteger();
+        int count;
+
+        SerialChecker() {
+            Arrays.fill(lastSeen, -1);
+        }
+
+        @Override
+        public void onNext(int[] item) {
+            if (inFlight.incrementAndGet() != 1) {
+                overlapped.set(true);
+            }
+            if (item[1] != lastSeen[item[0]] + 1) {
+                outOfOrder.set(true);
+            }
+            lastSeen[item[0]] = item[1];
+            count++;
+            inFlight.decrementAndGet();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completions.incrementAndGet();
+            done.countDown();
+        }
+    }
+
+    private static List<Thread> startProducers(Observer<int[]> target, CountDownLatch finished) {
+        CyclicBarrier barrier = new CyclicBarrier(PRODUCERS);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                for (int i = 0; i < ITEMS; i++) {
+                    target.onNext(new int[]{producer, i});
+                }
+                finished.countDown();
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        return threads;
+    }
+
+    @Test
+    public void testCreateSerializedWithConcurrentProducers() throws InterruptedException {
+        SerialChecker checker = new SerialChecker();
+
+        Observable.<int[]>createSerialized(emitter -> {
+            CountDownLatch finished = new CountDownLatch(PRODUCERS);
+            startProducers(emitter, finished);
+            new Thread(() -> {
+                try {
+                    finished.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                emitter.onComplete();
+            }).start();
+        }).subscribe(checker);
+
+        assertTrue(checker.done.await(10, TimeUnit.SECONDS));
+        assertFalse(checker.overlapped.get());
+        assertFalse(checker.outOfOrder.get());
+        assertEquals(PRODUCERS * ITEMS, checker.count);
+        assertEquals(1, checker.completions.get());
+    }
+
+    @Test
+    public void testSerializeOperator() throws InterruptedException {
+        SerialChecker checker = new SerialChecker();
+        CountDownLatch finished = new CountDownLatch(PRODUCERS);
+
+        Observable.<int[]>unsafeCreate(observer -> {
+            observer.onSubscribe(new BooleanDisposable());
+            startProducers(observer, finished);
+        }).serialize().subscribe(checker);
+
+        assertTrue(finished.await(10, TimeUnit.SECONDS));
+        assertFalse(checker.overlapped.get());
+        assertFalse(checker.outOfOrder.get());
+        assertEquals(PRODUCERS * ITEMS, checker.count);
+    }
+
+    @Test
+    public void testSetCancellableRunsOnDispose() throws InterruptedException {
+        AtomicInteger cancelled = new AtomicInteger();
+        AtomicReference<Boolean> disposedSeen = new AtomicReference<>();
+        CountDownLatch stopped = new CountDownLatch(1);
+        AtomicReference<Disposable> upstream = new AtomicReference<>();
+
+        Observable.<Integer>createSerialized(emitter -> {
+            emitter.setCancellable(cancelled::incrementAndGet);
+            new Thread(() -> {
+                int i = 0;
+                while (!emitter.isDisposed()) {
+                    emitter.onNext(i++);
+                }
+                disposedSeen.set(emitter.isDisposed());
+                stopped.countDown();
+            }).start();
+        }).subscribe(new Observer<>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                upstream.set(d);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                if (item == 100) {
+                    upstream.get().dispose();
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertTrue(stopped.await(5, TimeUnit.SECONDS));
+        assertTrue(disposedSeen.get());
+        assertEquals(1, cancelled.get());
+    }
+
+    @Test
+    public void testSetCancellableRunsOnTerminalEvent() {
+        AtomicInteger cancelled = new AtomicInteger();
+        List<Integer> values = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+
+        Observable.<Integer>createSerialized(emitter -> {
+            emitter.setCancellable(cancelled::incrementAndGet);
+            emitter.onNext(1);
+            emitter.onError(new IllegalStateException("boom"));
+            emitter.onNext(2);
+            emitter.onComplete();
+        }).subscribe(new Observer<>() {
+            @Override
+            public void onNext(Integer item) {
+                values.add(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                errors.add(t);
+            }
+
+            @Override
+            public void onComplete() {
+                fail("Unexpected completion");
+            }
+        });
+
+        assertEquals(List.of(1), values);
+        assertEquals(1, errors.size());
+        assertEquals(1, cancelled.get());
+    }
+}
@@ -0,0 +1,157 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Scheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StressTest {
+
+    private static final long SEED = Long.getLong("rxmaster.stress.seed", 42L);
+    private static final boolean REPORT = Boolean.getBoolean("rxmaster.stress.report");
+    private static final int ROUNDS = Integer.getInteger("rxmaster.stress.rounds", 40);
+
+    private final String[] names = {"single", "computation", "io"};
+    private final Random random = new Random(SEED);
+    private Scheduler[] schedulers;
+
+    interface Scenario {
+        void run() throws InterruptedException;
+    }
+
+    private void onSchedulers(Scenario scenario) throws InterruptedException {
+        schedulers = new Scheduler[]{new SingleThreadScheduler(), new ComputationScheduler(), new IOThreadScheduler()};
+        try {
+            scenario.run();
+        } finally {
+            for (Scheduler scheduler : schedulers) {
+                scheduler.shutdown();
+            }
+        }
+    }
+
+    private int pick() {
+        return random.nextInt(schedulers.length);
+    }
+
+    private static void report(String scenario, long items, long startNanos) {
+        if (!REPORT) return;
+        long elapsed = Math.max(1L, System.nanoTime() - startNanos);
+        System.out.printf("%s: %,d items in %d ms, %,.0f items/s (seed %d)%n",
+                scenario, items, TimeUnit.NANOSECONDS.toMillis(elapsed), items * 1e9 / elapsed, SEED);
+    }
+
+    private String describe(int round, int source, int target) {
+        return "round " + round + " " + names[source] + " -> " + names[target] + " (seed " + SEED + ")";
+    }
+
+    @Test
+    void testObserveOnPreservesOrder() throws InterruptedException {
+        onSchedulers(() -> {
+            long items = 0;
+            long start = System.nanoTime();
+            for (int round = 0; round < ROUNDS; round++) {
+                int source = pick();
+                int target = pick();
+                int count = 1 + random.nextInt(50_000);
+                int bufferSize = 1 + random.nextInt(256);
+
+                TestObserver<Integer> observer = Observable.range(0, count)
+                        .subscribeOn(schedulers[source])
+                        .observeOn(schedulers[target], bufferSize)
+                        .test();
+
+                String where = describe(round, source, target);
+                assertTrue(observer.await(10, TimeUnit.SECONDS), where);
+                observer.assertNoViolations().assertNoErrors().assertComplete().assertValueCount(count);
+                List<Integer> values = observer.values();
+                for (int i = 0; i < count; i++) {
+                    if (values.get(i) != i) {
+                        fail("Out of order at " + i + ": " + values.get(i) + " in " + where);
+                    }
+                }
+                items += count;
+            }
+            report("subscribeOn/observeOn", items, start);
+        });
+    }
+
+    @Test
+    void testFlatMapCompletesAfterAllInners() throws InterruptedException {
+        onSchedulers(() -> {
+            long items = 0;
+            long start = System.nanoTime();
+            for (int round = 0; round < ROUNDS; round++) {
+                int outer = pick();
+                int inner = pick();
+                int sources = 1 + random.nextInt(200);
+                int perSource = 1 + random.nextInt(500);
+                int maxConcurrency = 1 + random.nextInt(16);
+                int prefetch = 1 + random.nextInt(128);
+                Scheduler innerScheduler = schedulers[inner];
+
+                TestObserver<Integer> observer = Observable.range(0, sources)
+                        .subscribeOn(schedulers[outer])
+                        .flatMap(i -> Observable.range(i * perSource, perSource).subscribeOn(innerScheduler),
+                                maxConcurrency, prefetch)
+                        .test();
+
+                String where = describe(round, outer, inner);
+                assertTrue(observer.await(10, TimeUnit.SECONDS), where);
+                observer.assertNoViolations().assertNoErrors().assertComplete().assertValueCount(sources * perSource);
+                boolean[] seen = new boolean[sources * perSource];
+                for (int value : observer.values()) {
+                    assertFalse(seen[value], "Duplicate " + value + " in " + where);
+                    seen[value] = true;
+                }
+                items += (long) sources * perSource;
+            }
+            report("flatMap", items, start);
+        });
+    }
+
+    @Test
+    void testDisposeStopsDelivery() throws InterruptedException {
+        onSchedulers(() -> {
+            long items = 0;
+            long start = System.nanoTime();
+            for (int round = 0; round < ROUNDS; round++) {
+                int source = pick();
+                int target = pick();
+
+                TestObserver<Integer> observer = Observable.range(0, Integer.MAX_VALUE)
+                        .subscribeOn(schedulers[source])
+                        .observeOn(schedulers[target], 1 + random.nextInt(256))
+                        .test();
+
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(random.nextInt(2_000)));
+                observer.dispose();
+                int atDispose = observer.valueCount();
+
+                int settled = awaitQuiescence(observer);
+                String where = describe(round, source, target);
+                assertTrue(observer.isDisposed(), where);
+                assertTrue(settled - atDispose <= 1, "Delivered " + (settled - atDispose) + " items after dispose in " + where);
+                observer.assertNoViolations().assertNoErrors().assertNotComplete();
+                items += settled;
+            }
+            report("dispose", items, start);
+        });
+    }
+
+    private static int awaitQuiescence(TestObserver<?> observer) {
+        int previous = -1;
+        int current = observer.valueCount();
+        while (current != previous) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+            previous = current;
+            current = observer.valueCount();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,214 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubjectTest {
+
+    static final class Recorder<T> implements Observer<T> {
+        final List<T> values = new ArrayList<>();
+        final List<Throwable> errors = new ArrayList<>();
+        Disposable upstream;
+        int completions;
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+        }
+
+        @Override
+        public void onNext(T item) {
+            values.add(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            errors.add(t);
+        }
+
+        @Override
+        public void onComplete() {
+            completions++;
+        }
+    }
+
+    @Test
+    void testPublishSubjectMulticastsToCurrentObservers() {
+        PublishSubject<Integer> subject = PublishSubject.create();
+        Recorder<Integer> first = new Recorder<>();
+        Recorder<Integer> second = new Recorder<>();
+
+        subject.subscribe(first);
+        subject.onNext(1);
+        subject.subscribe(second);
+        subject.onNext(2);
+        first.upstream.dispose();
+        subject.onNext(3);
+        subject.onComplete();
+
+        assertEquals(List.of(1, 2), first.values);
+        assertEquals(0, first.completions);
+        assertEquals(List.of(2, 3), second.values);
+        assertEquals(1, second.completions);
+        assertFalse(subject.hasObservers());
+        assertTrue(subject.hasComplete());
+
+        Recorder<Integer> late = new Recorder<>();
+        subject.subscribe(late);
+        assertTrue(late.values.isEmpty());
+        assertEquals(1, late.completions);
+    }
+
+    @Test
+    void testBehaviorSubjectReplaysLatestValue() {
+        BehaviorSubject<String> subject = BehaviorSubject.createDefault("initial");
+        Recorder<String> first = new Recorder<>();
+        subject.subscribe(first);
+        subject.onNext("a");
+        subject.onNext("b");
+
+        Recorder<String> second = new Recorder<>();
+        subject.subscribe(second);
+        subject.onNext("c");
+
+        assertEquals(List.of("initial", "a", "b", "c"), first.values);
+        assertEquals(List.of("b", "c"), second.values);
+        assertEquals("c", subject.getValue());
+
+        RuntimeException error = new RuntimeException("boom");
+        subject.onError(error);
+        Recorder<String> late = new Recorder<>();
+        subject.subscribe(late);
+        assertTrue(late.values.isEmpty());
+        assertEquals(List.of(error), late.errors);
+        assertFalse(subject.hasValue());
+    }
+
+    @Test
+    void testReplaySubjectKeepsBoundedHistory() {
+        ReplaySubject<Integer> subject = ReplaySubject.createWithSize(3);
+        for (int i = 1; i <= 10; i++) {
+            subject.onNext(i);
+        }
+        Recorder<Integer> late = new Recorder<>();
+        subject.subscribe(late);
+        subject.onNext(11);
+        subject.onComplete();
+
+        assertEquals(List.of(8, 9, 10, 11), late.values);
+        assertEquals(1, late.completions);
+        assertEquals(3, subject.size());
+
+        Recorder<Integer> afterComplete = new Recorder<>();
+        subject.subscribe(afterComplete);
+        assertEquals(List.of(9, 10, 11), afterComplete.values);
+        assertEquals(1, afterComplete.completions);
+    }
+
+    @Test
+    void testReplaySubjectDropsExpiredValues() {
+        AtomicLong clock = new AtomicLong();
+        Scheduler scheduler = new Scheduler() {
+            @Override
+            public void execute(Runnable task) {
+                task.run();
+            }
+
+            @Override
+            public long now(TimeUnit unit) {
+                return unit.convert(clock.get(), TimeUnit.MILLISECONDS);
+            }
+        };
+        ReplaySubject<String> subject = ReplaySubject.createWithTimeAndSize(100, TimeUnit.MILLISECONDS, scheduler, 10);
+
+        subject.onNext("old");
+        clock.set(80);
+        subject.onNext("fresh");
+        clock.set(150);
+
+        Recorder<String> late = new Recorder<>();
+        subject.subscribe(late);
+        assertEquals(List.of("fresh"), late.values);
+    }
+
+    @Test
+    void testPublishSharesSingleUpstreamSubscription() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        ConnectableObservable<Integer> published = Observable.<Integer>create(emitter -> {
+            subscriptions.incrementAndGet();
+            emitter.onNext(1);
+            emitter.onNext(2);
+            emitter.onComplete();
+        }).publish();
+
+        Recorder<Integer> first = new Recorder<>();
+        Recorder<Integer> second = new Recorder<>();
+        published.map(x -> x * 10).subscribe(first);
+        published.subscribe(second);
+        assertTrue(first.values.isEmpty());
+
+        published.connect();
+
+        assertEquals(1, subscriptions.get());
+        assertEquals(List.of(10, 20), first.values);
+        assertEquals(List.of(1, 2), second.values);
+        assertEquals(1, first.completions);
+        assertEquals(1, second.completions);
+    }
+
+    @Test
+    void testRefCountConnectsOnFirstAndDisconnectsOnLastObserver() {
+        PublishSubject<Integer> feed = PublishSubject.create();
+        Observable<Integer> shared = feed.share();
+
+        Recorder<Integer> first = new Recorder<>();
+        Recorder<Integer> second = new Recorder<>();
+        Disposable d1 = shared.subscribe(first);
+        assertTrue(feed.hasObservers());
+        Disposable d2 = shared.subscribe(second);
+        feed.onNext(1);
+
+        d1.dispose();
+        assertTrue(feed.hasObservers());
+        feed.onNext(2);
+
+        d2.dispose();
+        assertFalse(feed.hasObservers());
+
+        assertEquals(List.of(1), first.values);
+        assertEquals(List.of(1, 2), second.values);
+
+        Recorder<Integer> third = new Recorder<>();
+        shared.subscribe(third);
+        assertTrue(feed.hasObservers());
+        feed.onNext(3);
+        assertEquals(List.of(3), third.values);
+    }
+
+    @Test
+    void testReplayOperatorReplaysToLateObservers() {
+        PublishSubject<Integer> feed = PublishSubject.create();
+        ConnectableObservable<Integer> replayed = feed.replay(2, 1, TimeUnit.MINUTES);
+        replayed.connect();
+
+        feed.onNext(1);
+        feed.onNext(2);
+        feed.onNext(3);
+
+        Recorder<Integer> late = new Recorder<>();
+        replayed.subscribe(late);
+        feed.onNext(4);
+
+        assertEquals(List.of(2, 3, 4), late.values);
+    }
+}
@@ -0,0 +1,130 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Disposable;
+import com.javabruse.RxMaster.interfaces.RetryPolicy;
+import com.javabruse.RxMaster.interfaces.Worker;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSchedulerTest {
+
+    @Test
+    public void testVirtualTimeOrdering() {
+        TestScheduler scheduler = new TestScheduler();
+        List<String> log = new ArrayList<>();
+
+        scheduler.schedule(() -> log.add("b@20"), 20, TimeUnit.MILLISECONDS);
+        scheduler.schedule(() -> log.add("a@10"), 10, TimeUnit.MILLISECONDS);
+        Disposable cancelled = scheduler.schedule(() -> log.add("never"), 15, TimeUnit.MILLISECONDS);
+        scheduler.execute(() -> log.add("now"));
+        cancelled.dispose();
+
+        assertTrue(log.isEmpty());
+        scheduler.triggerActions();
+        assertEquals(List.of("now"), log);
+
+        scheduler.advanceTimeBy(15, TimeUnit.MILLISECONDS);
+        assertEquals(List.of("now", "a@10"), log);
+        assertEquals(15, scheduler.now(TimeUnit.MILLISECONDS));
+
+        scheduler.advanceTimeTo(1, TimeUnit.SECONDS);
+        assertEquals(List.of("now", "a@10", "b@20"), log);
+        assertEquals(0, scheduler.pendingActions());
+    }
+
+    @Test
+    public void testPeriodicAndWorkerDispose() {
+        TestScheduler scheduler = new TestScheduler();
+        AtomicInteger ticks = new AtomicInteger();
+        AtomicInteger workerTicks = new AtomicInteger();
+
+        Disposable periodic = scheduler.schedulePeriodically(ticks::incrementAndGet, 10, 10, TimeUnit.MILLISECONDS);
+        Worker worker = scheduler.createWorker();
+        worker.schedulePeriodically(workerTicks::incrementAndGet, 0, 5, TimeUnit.MILLISECONDS);
+        worker.schedule(workerTicks::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+
+        scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+        assertEquals(5, ticks.get());
+        assertEquals(11, workerTicks.get());
+
+        worker.dispose();
+        periodic.dispose();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        assertEquals(5, ticks.get());
+        assertEquals(11, workerTicks.get());
+        assertEquals(0, scheduler.pendingActions());
+    }
+
+    @Test
+    public void testDebounceAndTimeoutInVirtualTime() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Integer> subject = PublishSubject.create();
+        TestObserver<Integer> debounced = subject.debounce(100, TimeUnit.MILLISECONDS, scheduler).test();
+        TestObserver<Integer> timed = subject.timeout(500, TimeUnit.MILLISECONDS, null, scheduler).test();
+
+        subject.onNext(1);
+        scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+        subject.onNext(2);
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+        subject.onNext(3);
+        scheduler.advanceTimeBy(99, TimeUnit.MILLISECONDS);
+        debounced.assertValues(2).assertNotTerminated();
+
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        debounced.assertValues(2, 3);
+
+        timed.assertValues(1, 2, 3).assertNotTerminated();
+        scheduler.advanceTimeBy(500, TimeUnit.MILLISECONDS);
+        timed.assertError(TimeoutException.class).assertNoViolations();
+    }
+
+    @Test
+    public void testRetryWhenBackoffInVirtualTime() {
+        TestScheduler scheduler = new TestScheduler();
+        AtomicInteger subscriptions = new AtomicInteger();
+        Observable<Integer> failing = Observable.create(emitter -> {
+            if (subscriptions.incrementAndGet() < 4) {
+                emitter.onError(new IllegalStateException("attempt " + subscriptions.get()));
+            } else {
+                emitter.onNext(subscriptions.get());
+                emitter.onComplete();
+            }
+        });
+
+        TestObserver<Integer> observer = failing
+                .retryWhen(RetryPolicy.exponentialBackoff(5, 100, 1000, TimeUnit.MILLISECONDS, 0), scheduler)
+                .test();
+
+        assertEquals(1, subscriptions.get());
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+        assertEquals(2, subscriptions.get());
+        scheduler.advanceTimeBy(199, TimeUnit.MILLISECONDS);
+        assertEquals(2, subscriptions.get());
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        assertEquals(3, subscriptions.get());
+        scheduler.advanceTimeBy(400, TimeUnit.MILLISECONDS);
+
+        observer.assertValues(4).assertComplete().assertNoErrors().assertNoViolations();
+    }
+
+    @Test
+    public void testTestObserverReportsViolations() {
+        TestObserver<Integer> observer = new TestObserver<>();
+        observer.onNext(1);
+        observer.onComplete();
+        observer.onNext(2);
+        observer.onComplete();
+
+        assertEquals(2, observer.violations().size());
+        assertThrows(AssertionError.class, observer::assertNoViolations);
+        assertThrows(AssertionError.class, observer::assertComplete);
+        assertThrows(AssertionError.class, () -> observer.assertValues(1));
+    }
+}
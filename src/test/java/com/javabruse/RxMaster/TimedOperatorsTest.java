@@ -0,0 +1,135 @@
+package com.javabruse.RxMaster;
+
+import com.javabruse.RxMaster.interfaces.Observer;
+import com.javabruse.RxMaster.interfaces.Scheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimedOperatorsTest {
+
+    static final class Recorder<T> implements Observer<T> {
+        final List<T> values = new CopyOnWriteArrayList<>();
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+
+        @Override
+        public void onNext(T item) {
+            values.add(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            errors.add(t);
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testThrottleFirstUsesSchedulerClock() {
+        AtomicLong clock = new AtomicLong();
+        Scheduler scheduler = new Scheduler() {
+            @Override
+            public void execute(Runnable task) {
+                task.run();
+            }
+
+            @Override
+            public long now(TimeUnit unit) {
+                return unit.convert(clock.get(), TimeUnit.MILLISECONDS);
+            }
+        };
+        PublishSubject<Integer> subject = PublishSubject.create();
+        Recorder<Integer> recorder = new Recorder<>();
+        subject.throttleFirst(100, TimeUnit.MILLISECONDS, scheduler).subscribe(recorder);
+
+        subject.onNext(1);
+        clock.set(50);
+        subject.onNext(2);
+        clock.set(100);
+        subject.onNext(3);
+        clock.set(150);
+        subject.onNext(4);
+        clock.set(300);
+        subject.onNext(5);
+        subject.onComplete();
+
+        assertEquals(List.of(1, 3, 5), recorder.values);
+    }
+
+    @Test
+    public void testSampleEmitsLatestPerPeriod() throws Exception {
+        PublishSubject<Integer> subject = PublishSubject.create();
+        Recorder<Integer> recorder = new Recorder<>();
+        subject.sample(100, TimeUnit.MILLISECONDS).subscribe(recorder);
+
+        subject.onNext(1);
+        subject.onNext(2);
+        Thread.sleep(250);
+        subject.onNext(3);
+        Thread.sleep(250);
+        subject.onComplete();
+        recorder.await();
+
+        assertEquals(List.of(2, 3), recorder.values);
+    }
+
+    @Test
+    public void testDebounceEmitsAfterQuietPeriod() throws Exception {
+        PublishSubject<Integer> subject = PublishSubject.create();
+        Recorder<Integer> recorder = new Recorder<>();
+        subject.debounce(100, TimeUnit.MILLISECONDS).subscribe(recorder);
+
+        subject.onNext(1);
+        subject.onNext(2);
+        subject.onNext(3);
+        Thread.sleep(400);
+        subject.onNext(4);
+        subject.onComplete();
+        recorder.await();
+
+        assertEquals(List.of(3, 4), recorder.values);
+        assertTrue(recorder.errors.isEmpty());
+    }
+
+    @Test
+    public void testTimeoutSwitchesToFallback() throws Exception {
+        PublishSubject<Integer> subject = PublishSubject.create();
+        Recorder<Integer> recorder = new Recorder<>();
+        subject.timeout(50, TimeUnit.MILLISECONDS, Observable.fromArray(9)).subscribe(recorder);
+
+        subject.onNext(1);
+        recorder.await();
+        subject.onNext(2);
+
+        assertEquals(List.of(1, 9), recorder.values);
+        assertTrue(recorder.errors.isEmpty());
+        assertFalse(subject.hasObservers());
+    }
+
+    @Test
+    public void testTimeoutWithoutFallbackSignalsError() throws Exception {
+        Recorder<Integer> recorder = new Recorder<>();
+        PublishSubject.<Integer>create().timeout(50, TimeUnit.MILLISECONDS).subscribe(recorder);
+        recorder.await();
+
+        assertEquals(1, recorder.errors.size());
+        assertTrue(recorder.errors.get(0) instanceof TimeoutException);
+    }
+}